@@ -0,0 +1,75 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.ApiListResponse;
+import com.reliaquest.api.dto.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Roster decode/encode throughput: default reflective Jackson binding vs {@link EmployeeCodecModule}.
+ *
+ * <pre>./gradlew :api:jmh -Pjmh.includes=EmployeeCodecBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmployeeCodecBenchmark {
+
+    private static final TypeReference<ApiListResponse<Employee>> LIST_EMPLOYEES = new TypeReference<>() {};
+
+    @Param({"50", "10000"})
+    int rosterSize;
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper generated = new ObjectMapper().registerModule(new EmployeeCodecModule());
+
+    private byte[] body;
+    private List<Employee> roster;
+
+    @Setup
+    public void setUp() throws Exception {
+        roster = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            roster.add(new Employee(
+                    UUID.randomUUID().toString(),
+                    "Employee " + i,
+                    30_000 + i * 7,
+                    16 + i % 60,
+                    "Title " + i % 40,
+                    "employee" + i + "@company.com"));
+        }
+        body = reflective.writeValueAsBytes(new ApiListResponse<>(roster, "Successfully processed request."));
+    }
+
+    @Benchmark
+    public ApiListResponse<Employee> decodeReflective() throws Exception {
+        return reflective.readValue(body, LIST_EMPLOYEES);
+    }
+
+    @Benchmark
+    public ApiListResponse<Employee> decodeGenerated() throws Exception {
+        return generated.readValue(body, LIST_EMPLOYEES);
+    }
+
+    @Benchmark
+    public byte[] encodeReflective() throws Exception {
+        return reflective.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public byte[] encodeGenerated() throws Exception {
+        return generated.writeValueAsBytes(roster);
+    }
+}
@@ -0,0 +1,148 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.controller.ReadResponseCache;
+import com.reliaquest.api.dto.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import reactor.core.publisher.Flux;
+
+/**
+ * Per-request work of the roster read endpoints. Run it with the GC profiler and read {@code gc.alloc.rate.norm}
+ * (bytes per operation).
+ *
+ * <ul>
+ *   <li>{@code respondHit} / {@code respondNotModified}: what a read costs once its body is cached, i.e. almost
+ *       every read. The controller's {@link ReadResponseCache#respond} call finds the body for the current snapshot
+ *       version and answers 200 with the cached bytes, and MVC's ETag check turns a matching
+ *       {@code If-None-Match} into 304. Both should stay at a few hundred bytes whatever the roster size.</li>
+ *   <li>{@code *Streams} vs {@code *Lean}: building a body on a miss, with the previous stream / Reactor
+ *       implementations vs the loops in {@link EmployeeServiceImpl}. The lean variants should allocate at least
+ *       ten times less.</li>
+ * </ul>
+ *
+ * <pre>./gradlew :api:jmh -Pjmh.includes=ReadPathBenchmark -Pjmh.profilers=gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadPathBenchmark {
+
+    private static final Comparator<Employee> BY_SALARY = Comparator.comparingInt(Employee::employeeSalary);
+
+    @Param({"50", "10000"})
+    int rosterSize;
+
+    private List<Employee> roster;
+    private String needle;
+    private RosterSnapshot snapshot;
+    private ReadResponseCache readCache;
+    private MockHttpServletRequest conditionalRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        roster = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            roster.add(new Employee(
+                    UUID.randomUUID().toString(),
+                    "Employee " + i,
+                    30_000 + (i * 7919) % 100_000,
+                    16 + i % 60,
+                    "Title " + i % 40,
+                    "employee" + i + "@company.com"));
+        }
+        // matches a handful of names, like a typical search
+        needle = ("EMPLOYEE " + rosterSize / 2).toLowerCase(Locale.ROOT);
+
+        snapshot = RosterSnapshot.of(roster);
+        readCache = new ReadResponseCache(new ObjectMapper(), Duration.ZERO);
+        var etag = respondHit().getHeaders().getETag();
+        conditionalRequest = new MockHttpServletRequest("GET", "/api/v1/employees/topTenHighestEarningEmployeeNames");
+        conditionalRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        response = new MockHttpServletResponse();
+    }
+
+    // the controller's cached read, lambda capture included
+    @Benchmark
+    public ResponseEntity<byte[]> respondHit() {
+        var current = snapshot;
+        return readCache.respond(
+                "topTenHighestEarningEmployeeNames", current, () -> EmployeeServiceImpl.topNames(current.employees()));
+    }
+
+    // as MVC's HttpEntityMethodProcessor answers a matching If-None-Match: the same lookup, then the ETag check
+    @Benchmark
+    public int respondNotModified() {
+        var entity = respondHit();
+        response.reset();
+        var notModified = new ServletWebRequest(conditionalRequest, response)
+                .checkNotModified(entity.getHeaders().getETag());
+        return notModified ? HttpStatus.NOT_MODIFIED.value() : entity.getStatusCode().value();
+    }
+
+    @Benchmark
+    public List<Employee> searchStreams() {
+        return roster.stream()
+                .filter(e -> e.employeeName() != null
+                        && e.employeeName().toLowerCase(Locale.ROOT).contains(needle))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> searchLean() {
+        return roster.stream()
+                .filter(e -> EmployeeServiceImpl.containsIgnoreCase(e.employeeName(), needle))
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> topTenStreams() {
+        return Flux.fromIterable(roster)
+                .collect(() -> new PriorityQueue<Employee>(11, BY_SALARY), (heap, e) -> {
+                    heap.offer(e);
+                    if (heap.size() > 10) {
+                        heap.poll();
+                    }
+                })
+                .flatMapIterable(heap -> heap.stream().sorted(BY_SALARY.reversed()).toList())
+                .map(Employee::employeeName)
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public List<String> topTenLean() {
+        return EmployeeServiceImpl.topNames(roster);
+    }
+
+    @Benchmark
+    public int highestSalaryStreams() {
+        return roster.stream().mapToInt(Employee::employeeSalary).max().orElse(0);
+    }
+
+    @Benchmark
+    public int highestSalaryLean() {
+        return EmployeeServiceImpl.highestSalary(roster);
+    }
+}
@@ -0,0 +1,160 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.reliaquest.api.dto.Employee;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded per-id employee cache in front of the upstream lookup.
+ *
+ * <ul>
+ *   <li>Caffeine's W-TinyLFU policy decides admission and eviction by access frequency, so a burst of
+ *       one-off lookups cannot flush the hot profiles.</li>
+ *   <li>Found employees live for {@code cache.employee.ttl}; ids the upstream reported as missing are cached
+ *       negatively for the shorter {@code cache.employee.negative-ttl}.</li>
+ *   <li>A Bloom filter built from the latest full roster read rejects ids that were definitely absent
+ *       without a network call. It is trusted for {@code cache.employee.bloom-max-age} after the last read or
+ *       sync that confirmed it, since other writers may add employees we never see.</li>
+ * </ul>
+ */
+@Component
+public class EmployeeCache {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeCache.class);
+
+    private final Cache<String, Optional<Employee>> cache;
+    private final long bloomMaxAgeNanos;
+    private final Ticker ticker;
+
+    private volatile EmployeeIdBloomFilter bloom;
+    private volatile long bloomConfirmedAtNanos;
+
+    @Autowired
+    public EmployeeCache(
+            @Value("${cache.employee.max-size:10000}") long maxSize,
+            @Value("${cache.employee.ttl:60s}") Duration ttl,
+            @Value("${cache.employee.negative-ttl:5s}") Duration negativeTtl,
+            @Value("${cache.employee.bloom-max-age:30s}") Duration bloomMaxAge) {
+        this(maxSize, ttl, negativeTtl, bloomMaxAge, Ticker.systemTicker());
+    }
+
+    /**
+     * As above, with {@code ticker} as the clock for both entry expiry and the Bloom filter's max age.
+     */
+    public EmployeeCache(long maxSize, Duration ttl, Duration negativeTtl, Duration bloomMaxAge, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, Optional<Employee>>() {
+                    @Override
+                    public long expireAfterCreate(String id, Optional<Employee> value, long currentTime) {
+                        return (value.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(
+                            String id, Optional<Employee> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(
+                            String id, Optional<Employee> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.bloomMaxAgeNanos = bloomMaxAge.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the cached employee, or loads it with {@code loader} (null meaning "not found"). Returns null
+     * for ids known to be absent. Loader exceptions propagate and are not cached.
+     *
+     * <p>The load runs inside Caffeine's per-key computation, so an {@link #invalidate} for the same id waits for
+     * it and then removes its result: a lookup that raced a delete can never leave the deleted employee cached.
+     * Concurrent misses for one id share a single load.
+     */
+    public Employee get(String id, Function<String, Employee> loader) {
+        var cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        var filter = currentBloom();
+        if (filter != null && !filter.mightContain(id)) {
+            log.debug("Bloom filter rejected id={}", id);
+            return null;
+        }
+        return cache.get(id, key -> Optional.ofNullable(loader.apply(key))).orElse(null);
+    }
+
+    public void put(Employee employee) {
+        if (employee.id() == null) {
+            return;
+        }
+        // cache first: a concurrent get that sees the id only partly added to the filter still finds the entry
+        cache.put(employee.id(), Optional.of(employee));
+        var filter = bloom;
+        if (filter != null) {
+            filter.put(employee.id());
+        }
+    }
+
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Refreshes entries from a roster read. Only a {@code complete} read, one that reached every upstream node,
+     * rebuilds the Bloom filter: a read that skipped an ejected node lacks that node's employees, and a filter built
+     * from it would reject their ids. After a partial read the current filter is left to age out.
+     */
+    public void onRoster(Collection<Employee> roster, boolean complete) {
+        Set<String> ids = new HashSet<>(roster.size() * 2);
+        for (Employee employee : roster) {
+            if (employee.id() == null) {
+                continue;
+            }
+            ids.add(employee.id());
+            // also replaces negative entries for ids that have since appeared
+            cache.asMap().computeIfPresent(employee.id(), (id, old) -> Optional.of(employee));
+        }
+        if (!complete) {
+            return;
+        }
+        bloomConfirmedAtNanos = ticker.read();
+        bloom = EmployeeIdBloomFilter.of(ids);
+    }
+
+    /**
+     * Restarts the Bloom filter's max age after a complete roster sync found nothing changed since the filter was
+     * built.
+     */
+    public void onRosterUnchanged() {
+        if (bloom != null) {
+            bloomConfirmedAtNanos = ticker.read();
+        }
+    }
+
+    private EmployeeIdBloomFilter currentBloom() {
+        var filter = bloom;
+        if (filter == null || ticker.read() - bloomConfirmedAtNanos > bloomMaxAgeNanos) {
+            return null;
+        }
+        return filter;
+    }
+}
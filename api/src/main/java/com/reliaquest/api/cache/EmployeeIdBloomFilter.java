@@ -0,0 +1,95 @@
+package com.reliaquest.api.cache;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over employee ids (UUIDs), built from one roster snapshot and then only ever added to. A negative
+ * answer means the id was definitely not added; a positive one may be a false positive (~1% by default).
+ *
+ * <p>Thread safety: the bits live in an {@link AtomicLongArray}, so {@link #mightContain} reads each word with
+ * volatile semantics and {@link #put} sets bits with {@code getAndAccumulate}; bits are never cleared. A filter
+ * is filled before {@link EmployeeCache} publishes it through a volatile field, so every reader sees the whole
+ * snapshot. A {@code put} racing a reader may be only partly visible to it, which can turn that reader's answer
+ * into a false negative for the id being added; that is safe because {@link EmployeeCache#put} caches the
+ * employee before adding its id here, and {@link EmployeeCache#get} checks the cache before the filter.
+ */
+public final class EmployeeIdBloomFilter {
+
+    private static final double DEFAULT_FPP = 0.01;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private EmployeeIdBloomFilter(AtomicLongArray bits, long bitCount, int hashCount) {
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    public static EmployeeIdBloomFilter of(Collection<String> ids) {
+        int n = Math.max(1, ids.size());
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(DEFAULT_FPP) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        var filter = new EmployeeIdBloomFilter(new AtomicLongArray((int) ((m + 63) >>> 6)), m, k);
+        ids.forEach(filter::put);
+        return filter;
+    }
+
+    /**
+     * False only if {@code id} was definitely not added. Ids that are not UUIDs are never rejected.
+     */
+    public boolean mightContain(String id) {
+        var uuid = parse(id);
+        if (uuid == null) {
+            return true;
+        }
+        long h1 = mix(uuid.getMostSignificantBits());
+        long h2 = mix(uuid.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds an id, e.g. one created after the snapshot was taken. Each bit is set atomically, but the id only
+     * reads as present once all of its bits are set.
+     */
+    public void put(String id) {
+        var uuid = parse(id);
+        if (uuid == null) {
+            return;
+        }
+        long h1 = mix(uuid.getMostSignificantBits());
+        long h2 = mix(uuid.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            bits.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+    }
+
+    private static UUID parse(String id) {
+        try {
+            return id == null ? null : UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 64-bit finalizer from MurmurHash3
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
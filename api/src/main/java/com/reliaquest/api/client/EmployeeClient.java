@@ -1,22 +1,45 @@
 package com.reliaquest.api.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.codec.EmployeeFields;
 import com.reliaquest.api.dto.*;
+import com.reliaquest.api.resilience.UpstreamGuard;
+import com.reliaquest.api.resilience.UpstreamGuard.Operation;
+import com.reliaquest.api.trace.TraceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+/**
+ * Mock API client over one or more upstream instances (see {@link UpstreamCluster} for routing). Every call runs
+ * inside the {@link UpstreamGuard} of its operation: bounded concurrency, circuit breaker and the inbound
+ * request's deadline.
+ */
 @Component
 public class EmployeeClient {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeClient.class);
-    private final WebClient webClient;
+    private final UpstreamCluster cluster;
+    private final ObjectMapper objectMapper;
+    private final UpstreamGuard upstreamGuard;
 
-    public EmployeeClient(@Qualifier("mockApiClient") WebClient webClient) {
-        this.webClient = webClient;
+    public EmployeeClient(UpstreamCluster cluster, ObjectMapper objectMapper, UpstreamGuard upstreamGuard) {
+        this.cluster = cluster;
+        this.objectMapper = objectMapper;
+        this.upstreamGuard = upstreamGuard;
     }
 
     private static final ParameterizedTypeReference<ApiListResponse<Employee>> LIST_EMPLOYEES =
@@ -25,64 +48,238 @@ public class EmployeeClient {
             new ParameterizedTypeReference<>() {};
     private static final ParameterizedTypeReference<BooleanResponse> BOOL_RESPONSE =
             new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiSingleResponse<MerkleRoot>> MERKLE_ROOT =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiSingleResponse<Map<Integer, List<String>>>> MERKLE_CHILDREN =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiListResponse<EmployeeBucket>> MERKLE_BUCKETS =
+            new ParameterizedTypeReference<>() {};
 
     /**
-     * GET /employee
+     * GET /employee, scattered to every healthy node and concatenated
      */
-    public ApiListResponse<Employee> getAll() {
+    public RosterRead getAll() {
         log.info("GET /employee");
-        return webClient
-                .get()
-                .uri("/employee")
-                .retrieve()
-                .bodyToMono(LIST_EMPLOYEES)
+        var nodes = cluster.healthyNodes();
+        var resp = Flux.fromIterable(nodes)
+                .flatMapSequential(node -> node.webClient()
+                        .get()
+                        .uri("/employee")
+                        .retrieve()
+                        .bodyToMono(LIST_EMPLOYEES))
+                .collectList()
+                .map(EmployeeClient::concat)
+                .transform(call -> upstreamGuard.guard(Operation.GET_ALL, call))
                 .doOnSuccess(e -> log.info("GET /employee succeeded"))
                 .doOnError(e -> log.error("GET /employee failed: {}", e.toString()))
+                .contextWrite(TraceContext.capture())
                 .block();
+        var employees = (resp == null || resp.data() == null) ? List.<Employee>of() : resp.data();
+        return new RosterRead(employees, nodes.size() == cluster.nodes().size());
+    }
+
+    /**
+     * GET /employee, streamed: employees are emitted one by one as the body arrives instead of being
+     * decoded into a single list. Body chunks are requested on demand, so memory stays flat regardless
+     * of roster size and the codec in-memory limit does not apply. Shards are read concurrently.
+     */
+    public Flux<Employee> streamAll() {
+        log.info("GET /employee (streaming, shards={})", cluster.healthyNodes().size());
+        return Flux.merge(cluster.healthyNodes().stream()
+                .map(node -> streamFrom(node, EmployeeFields.ALL))
+                .toList());
     }
 
     /**
-     * GET /employee/{id}
+     * {@link #streamAll()} with only the given fields requested from the mock API; the others decode as null/0.
+     */
+    public Flux<Employee> streamAll(EmployeeFields fields) {
+        if (fields.isAll()) {
+            return streamAll();
+        }
+        log.info("GET /employee?fields={} (streaming, shards={})", fields, cluster.healthyNodes().size());
+        return Flux.merge(cluster.healthyNodes().stream()
+                .map(node -> streamFrom(node, fields))
+                .toList());
+    }
+
+    /**
+     * One node's GET /employee, streamed like {@link #streamAll()}
+     */
+    public Flux<Employee> stream(UpstreamNode node) {
+        log.info("GET {}/employee (streaming)", node);
+        return streamFrom(node, EmployeeFields.ALL);
+    }
+
+    private Flux<Employee> streamFrom(UpstreamNode node, EmployeeFields fields) {
+        return node.webClient()
+                .get()
+                .uri(uri -> fields.isAll()
+                        ? uri.path("/employee").build()
+                        : uri.path("/employee").queryParam("fields", fields).build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .transform(buffers -> Flux.defer(() -> {
+                    var decoder = new EmployeeStreamDecoder(objectMapper);
+                    return buffers.concatMapIterable(decoder::decode, 1)
+                            .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.complete())));
+                }))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .transform(shard -> upstreamGuard.guard(Operation.GET_ALL, shard))
+                .doOnComplete(() -> log.info("GET {}/employee (streaming) succeeded", node))
+                .doOnError(e -> log.error("GET {}/employee (streaming) failed: {}", node, e.toString()))
+                .contextWrite(TraceContext.capture());
+    }
+
+    /**
+     * GET /employee/{id}: the id's hash owner first, then the other nodes; null if no node has it
      */
     public ApiSingleResponse<Employee> getById(String id) {
         log.info("GET /employee/{}", id);
-        return webClient
+        return Flux.fromIterable(cluster.candidatesFor(id))
+                .concatMap(node -> node.webClient()
+                        .get()
+                        .uri("/employee/{id}", id)
+                        .retrieve()
+                        .bodyToMono(SINGLE_EMPLOYEE)
+                        .filter(r -> r.data() != null)
+                        .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty()))
+                .next()
+                .transform(call -> upstreamGuard.guard(Operation.GET_BY_ID, call))
+                .doOnSuccess(r -> log.info("GET /employee/{} succeeded (found={})", id, r != null))
+                .doOnError(e -> log.error("GET /employee/{} failed: {}", id, e.toString()))
+                .contextWrite(TraceContext.capture())
+                .block();
+    }
+
+    /**
+     * POST /employee/batch (body: {ids}) on every healthy node; unknown ids are omitted from the result
+     */
+    public ApiListResponse<Employee> getByIds(Collection<String> ids) {
+        return fetchByIds(ids).contextWrite(TraceContext.capture()).block();
+    }
+
+    /**
+     * {@link #getByIds} without blocking. The caller supplies the correlation id and deadline in the Reactor
+     * context, since the call is not necessarily assembled on the request thread.
+     */
+    public Mono<ApiListResponse<Employee>> fetchByIds(Collection<String> ids) {
+        log.info("POST /employee/batch ids={}", ids.size());
+        return Flux.fromIterable(cluster.healthyNodes())
+                .flatMapSequential(node -> node.webClient()
+                        .post()
+                        .uri("/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Map.of("ids", ids))
+                        .retrieve()
+                        .bodyToMono(LIST_EMPLOYEES))
+                .collectList()
+                .map(EmployeeClient::concat)
+                .transform(call -> upstreamGuard.guard(Operation.GET_BY_ID, call))
+                .doOnSuccess(r -> log.info("POST /employee/batch succeeded"))
+                .doOnError(e -> log.error("POST /employee/batch failed: {}", e.toString()));
+    }
+
+    /**
+     * GET /employee/merkle on one node: the shape and root hash of its roster Merkle tree
+     */
+    public MerkleRoot merkleRoot(UpstreamNode node) {
+        var resp = node.webClient()
                 .get()
-                .uri("/employee/{id}", id)
+                .uri("/employee/merkle")
                 .retrieve()
-                .bodyToMono(SINGLE_EMPLOYEE)
-                .doOnSuccess(r -> log.info("GET /employee/{} succeeded", id))
-                .doOnError(e -> log.error("GET /employee/{} failed: {}", id, e.toString()))
+                .bodyToMono(MERKLE_ROOT)
+                .transform(call -> upstreamGuard.guard(Operation.GET_ALL, call))
+                .doOnError(e -> log.error("GET {}/employee/merkle failed: {}", node, e.toString()))
+                .contextWrite(TraceContext.capture())
+                .block();
+        return resp == null ? null : resp.data();
+    }
+
+    /**
+     * GET /employee/merkle/{level}?parents=... on one node: the child hashes (at {@code level}) of each parent
+     */
+    public Map<Integer, List<String>> merkleChildren(UpstreamNode node, int level, Collection<Integer> parents) {
+        log.debug("GET {}/employee/merkle/{} parents={}", node, level, parents.size());
+        var resp = node.webClient()
+                .get()
+                .uri(uri -> uri.path("/employee/merkle/{level}")
+                        .queryParam("parents", joined(parents))
+                        .build(level))
+                .retrieve()
+                .bodyToMono(MERKLE_CHILDREN)
+                .transform(call -> upstreamGuard.guard(Operation.GET_ALL, call))
+                .doOnError(e -> log.error("GET {}/employee/merkle/{} failed: {}", node, level, e.toString()))
+                .contextWrite(TraceContext.capture())
                 .block();
+        return resp == null || resp.data() == null ? Map.of() : resp.data();
     }
 
     /**
-     * POST /employee (body: {name, salary, age, title})
+     * POST /employee/merkle/buckets (body: {buckets}) on one node: the members and hash of each leaf bucket
+     */
+    public List<EmployeeBucket> merkleBuckets(UpstreamNode node, Collection<Integer> buckets) {
+        log.info("POST {}/employee/merkle/buckets buckets={}", node, buckets.size());
+        var resp = node.webClient()
+                .post()
+                .uri("/employee/merkle/buckets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("buckets", buckets))
+                .retrieve()
+                .bodyToMono(MERKLE_BUCKETS)
+                .transform(call -> upstreamGuard.guard(Operation.GET_ALL, call))
+                .doOnError(e -> log.error("POST {}/employee/merkle/buckets failed: {}", node, e.toString()))
+                .contextWrite(TraceContext.capture())
+                .block();
+        return resp == null || resp.data() == null ? List.of() : resp.data();
+    }
+
+    /**
+     * POST /employee (body: {name, salary, age, title}) on the next node in round-robin order
      */
     public ApiSingleResponse<Employee> create(EmployeeCreateRequest req) {
+        var node = cluster.nextForWrite();
         log.info(
-                "POST /employee name={}, salary={}, age={}, title={}",
+                "POST {}/employee name={}, salary={}, age={}, title={}",
+                node,
                 req.name(),
                 req.salary(),
                 req.age(),
                 req.title());
-        return webClient
+        return node.webClient()
                 .post()
                 .uri("/employee")
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(req)
                 .retrieve()
                 .bodyToMono(SINGLE_EMPLOYEE)
+                .transform(call -> upstreamGuard.guard(Operation.CREATE, call))
                 .doOnSuccess(r -> log.info("POST /employee succeeded"))
                 .doOnError(e -> log.error("POST /employee failed: {}", e.toString()))
+                .contextWrite(TraceContext.capture())
                 .block();
     }
 
-    public boolean deleteByName(String name) {
-        log.info("DELETE /employee/{}", name);
+    /**
+     * Deletes employee {@code name}, trying the nodes in lookup order for {@code id} until one deletes it.
+     */
+    public boolean deleteByName(String id, String name) {
+        log.info("DELETE /employee/{} (id={})", name, id);
+        return Boolean.TRUE.equals(Flux.fromIterable(cluster.candidatesFor(id))
+                .concatMap(node -> deleteOn(node, id, name))
+                .filter(Boolean::booleanValue)
+                .next()
+                .defaultIfEmpty(false)
+                .transform(call -> upstreamGuard.guard(Operation.DELETE, call))
+                .contextWrite(TraceContext.capture())
+                .block());
+    }
+
+    private Mono<Boolean> deleteOn(UpstreamNode node, String id, String name) {
+        var webClient = node.webClient();
         // 404 → doesn't exist
         // 405/500 "method not supported" → try alternate endpoint that expects a JSON body
-        return Boolean.TRUE.equals(webClient
+        return webClient
                 .delete()
                 .uri("/employee/{name}", name)
                 .exchangeToMono(resp -> {
@@ -92,29 +289,58 @@ public class EmployeeClient {
                     }
                     // 404 → doesn't exist
                     if (resp.statusCode().value() == 404) {
-                        log.info("DELETE /employee/{} -> 404 (not found)", name);
-                        return reactor.core.publisher.Mono.just(false);
+                        log.info("DELETE {}/employee/{} -> 404 (not found)", node, name);
+                        return Mono.just(false);
                     }
-                    // 405/500 "method not supported"
+                    // 405/500 "method not supported"; the body names the id too, so only that employee goes
                     if (resp.statusCode().value() == 405 || resp.statusCode().is5xxServerError()) {
-                        log.warn("DELETE /employee/{} -> {}. Trying body DELETE fallback.", name, resp.statusCode());
+                        log.warn(
+                                "DELETE {}/employee/{} -> {}. Trying body DELETE fallback.",
+                                node,
+                                name,
+                                resp.statusCode());
                         return webClient
-                                .method(org.springframework.http.HttpMethod.DELETE)
+                                .method(HttpMethod.DELETE)
                                 .uri("/employee")
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .bodyValue(java.util.Map.of("name", name))
+                                .bodyValue(Map.of("name", name, "id", id))
                                 .exchangeToMono(resp2 -> {
                                     if (resp2.statusCode().is2xxSuccessful()) {
                                         return resp2.bodyToMono(BooleanResponse.class)
                                                 .map(r -> r != null && Boolean.TRUE.equals(r.data()));
                                     }
-                                    if (resp2.statusCode().value() == 404)
-                                        return reactor.core.publisher.Mono.just(false);
-                                    return resp2.createException().flatMap(reactor.core.publisher.Mono::error);
+                                    if (resp2.statusCode().value() == 404) return Mono.just(false);
+                                    return resp2.createException().flatMap(Mono::error);
                                 });
                     }
-                    return resp.createException().flatMap(reactor.core.publisher.Mono::error);
-                })
-                .block());
+                    return resp.createException().flatMap(Mono::error);
+                });
+    }
+
+    private static String joined(Collection<Integer> values) {
+        var joiner = new StringJoiner(",");
+        values.forEach(value -> joiner.add(Integer.toString(value)));
+        return joiner.toString();
+    }
+
+    /**
+     * A whole-roster read. {@code complete} is false when ejected nodes were skipped, so their employees are
+     * missing from {@code employees}.
+     */
+    public record RosterRead(List<Employee> employees, boolean complete) {}
+
+    private static ApiListResponse<Employee> concat(List<ApiListResponse<Employee>> responses) {
+        if (responses.size() == 1) {
+            return responses.get(0);
+        }
+        List<Employee> all = new ArrayList<>();
+        String status = null;
+        for (var resp : responses) {
+            if (resp != null && resp.data() != null) {
+                all.addAll(resp.data());
+                status = resp.status();
+            }
+        }
+        return new ApiListResponse<>(all, status);
     }
 }
@@ -0,0 +1,128 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.codec.EmployeeJson;
+import com.reliaquest.api.dto.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * Incrementally decodes the list envelope { "data": [ ... ], "status": "..." } into employees as bytes arrive.
+ * Only the employee currently being parsed is buffered, so memory does not grow with the roster size.
+ * One instance per response; not thread-safe.
+ */
+public final class EmployeeStreamDecoder {
+
+    private static final String DATA_FIELD = "data";
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private int depth;
+    private String field;
+    private boolean inData;
+
+    // tokens of the element currently being read from the data array
+    private TokenBuffer element;
+    private int elementDepth;
+
+    public EmployeeStreamDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new DecodingException("Could not create non-blocking JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Feeds one chunk of the response body and returns the employees completed by it. Releases the buffer.
+     */
+    public List<Employee> decode(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+            return drain();
+        } catch (IOException e) {
+            throw new DecodingException("Malformed employee list response", e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * Signals end of the body and returns any employees still pending.
+     */
+    public List<Employee> complete() {
+        feeder.endOfInput();
+        try {
+            return drain();
+        } catch (IOException e) {
+            throw new DecodingException("Malformed employee list response", e);
+        }
+    }
+
+    private List<Employee> drain() throws IOException {
+        List<Employee> out = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (element != null) {
+                element.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    elementDepth++;
+                } else if (token.isStructEnd() && --elementDepth == 0) {
+                    try (var elementParser = element.asParser(objectMapper)) {
+                        elementParser.nextToken();
+                        out.add(EmployeeJson.read(elementParser));
+                    }
+                    element = null;
+                }
+                continue;
+            }
+            switch (token) {
+                case START_OBJECT -> {
+                    if (inData) {
+                        element = new TokenBuffer(parser, null);
+                        element.copyCurrentEvent(parser);
+                        elementDepth = 1;
+                    } else {
+                        depth++;
+                    }
+                }
+                case START_ARRAY -> {
+                    depth++;
+                    if (depth == 2 && DATA_FIELD.equals(field)) {
+                        inData = true;
+                    }
+                }
+                case END_ARRAY -> {
+                    if (depth == 2) {
+                        inData = false;
+                    }
+                    depth--;
+                }
+                case END_OBJECT -> depth--;
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        field = parser.currentName();
+                    }
+                }
+                default -> {
+                    // scalars outside the data array (e.g. "status") are skipped
+                }
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.api.client;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * The set of mock API instances the api talks to.
+ *
+ * <ul>
+ *   <li>Reads and deletes by employee id go to the id's owner on a consistent-hash ring (with virtual nodes),
+ *       then to the remaining healthy nodes. The mock server assigns ids itself, so an id is not guaranteed to
+ *       live on its hash owner; the owner is simply tried first.</li>
+ *   <li>Creates are spread round-robin over healthy nodes.</li>
+ *   <li>Whole-roster reads scatter to every healthy node.</li>
+ * </ul>
+ * Ejected nodes are skipped; if every node is ejected all of them are used rather than failing outright.
+ */
+public final class UpstreamCluster {
+
+    private static final int VIRTUAL_NODES = 128;
+
+    private final List<UpstreamNode> nodes;
+    private final NavigableMap<Long, UpstreamNode> ring = new TreeMap<>();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    public UpstreamCluster(
+            List<String> baseUrls, WebClient.Builder template, int failureThreshold, Duration ejectionCooldown) {
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one upstream base url is required");
+        }
+        List<UpstreamNode> built = new ArrayList<>(baseUrls.size());
+        for (String baseUrl : baseUrls) {
+            var node = new UpstreamNode(baseUrl.trim(), failureThreshold, ejectionCooldown.toNanos());
+            node.bind(template);
+            built.add(node);
+            for (int v = 0; v < VIRTUAL_NODES; v++) {
+                ring.put(hash(node.baseUrl() + "#" + v), node);
+            }
+        }
+        this.nodes = List.copyOf(built);
+    }
+
+    public List<UpstreamNode> nodes() {
+        return nodes;
+    }
+
+    public List<UpstreamNode> healthyNodes() {
+        var healthy = nodes.stream().filter(UpstreamNode::isHealthy).toList();
+        return healthy.isEmpty() ? nodes : healthy;
+    }
+
+    /**
+     * Healthy nodes in lookup order for {@code key}: the hash owner first, then clockwise around the ring.
+     */
+    public List<UpstreamNode> candidatesFor(String key) {
+        List<UpstreamNode> ordered = new ArrayList<>(nodes.size());
+        long h = hash(key);
+        walk(ring.tailMap(h, true), ordered);
+        walk(ring.headMap(h, false), ordered);
+        var healthy = ordered.stream().filter(UpstreamNode::isHealthy).toList();
+        return healthy.isEmpty() ? ordered : healthy;
+    }
+
+    public UpstreamNode nextForWrite() {
+        var healthy = healthyNodes();
+        return healthy.get(Math.floorMod(roundRobin.getAndIncrement(), healthy.size()));
+    }
+
+    private void walk(Map<Long, UpstreamNode> segment, List<UpstreamNode> ordered) {
+        for (UpstreamNode node : segment.values()) {
+            if (ordered.size() == nodes.size()) {
+                return;
+            }
+            if (!ordered.contains(node)) {
+                ordered.add(node);
+            }
+        }
+    }
+
+    // FNV-1a over UTF-8 bytes, finished with the MurmurHash3 mixer for better spread on the ring
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * One mock API instance plus its health. After {@code failureThreshold} consecutive transport failures or
+ * gateway errors (502/503/504) the node is ejected for {@code cooldownNanos}; the first call after the
+ * cooldown acts as the probe that readmits it.
+ */
+public final class UpstreamNode {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamNode.class);
+
+    private final String baseUrl;
+    private final int failureThreshold;
+    private final long cooldownNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long ejectedUntilNanos = System.nanoTime();
+    private WebClient webClient;
+
+    UpstreamNode(String baseUrl, int failureThreshold, long cooldownNanos) {
+        this.baseUrl = baseUrl;
+        this.failureThreshold = failureThreshold;
+        this.cooldownNanos = cooldownNanos;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public WebClient webClient() {
+        return webClient;
+    }
+
+    void bind(WebClient.Builder template) {
+        this.webClient = template.clone().baseUrl(baseUrl).filter(healthFilter()).build();
+    }
+
+    public boolean isHealthy() {
+        return System.nanoTime() - ejectedUntilNanos >= 0;
+    }
+
+    void recordSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && isHealthy()) {
+            ejectedUntilNanos = System.nanoTime() + cooldownNanos;
+            consecutiveFailures.set(0);
+            log.warn("Ejecting upstream {} after {} consecutive failures", baseUrl, failureThreshold);
+        }
+    }
+
+    private ExchangeFilterFunction healthFilter() {
+        return (request, next) -> next.exchange(request)
+                .doOnNext(resp -> {
+                    int status = resp.statusCode().value();
+                    if (status == 502 || status == 503 || status == 504) {
+                        recordFailure();
+                    } else {
+                        recordSuccess();
+                    }
+                })
+                .doOnError(e -> recordFailure());
+    }
+
+    @Override
+    public String toString() {
+        return baseUrl;
+    }
+}
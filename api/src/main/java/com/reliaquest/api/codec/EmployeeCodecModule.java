@@ -0,0 +1,164 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.api.dto.ApiListResponse;
+import com.reliaquest.api.dto.ApiSingleResponse;
+import com.reliaquest.api.dto.Employee;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Registers the {@link EmployeeJson} codecs with Jackson: {@link Employee} both ways, and the
+ * {@code ApiListResponse<Employee>} / {@code ApiSingleResponse<Employee>} envelopes on the read side.
+ * {@link EmployeeProjection} names its {@link ProjectionSerializer} itself, so it serializes without the module.
+ * Envelopes of other element types keep the default binding.
+ */
+public class EmployeeCodecModule extends SimpleModule {
+
+    public EmployeeCodecModule() {
+        super("EmployeeCodecModule");
+        addSerializer(Employee.class, new EmployeeSerializer());
+        addDeserializer(Employee.class, new EmployeeDeserializer());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addDeserializers(new EnvelopeDeserializers());
+    }
+
+    static final class EmployeeSerializer extends StdSerializer<Employee> {
+
+        EmployeeSerializer() {
+            super(Employee.class);
+        }
+
+        @Override
+        public void serialize(Employee value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            EmployeeJson.write(gen, value);
+        }
+    }
+
+    static final class ProjectionSerializer extends StdSerializer<EmployeeProjection> {
+
+        ProjectionSerializer() {
+            super(EmployeeProjection.class);
+        }
+
+        @Override
+        public void serialize(EmployeeProjection value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (!(value.value() instanceof Collection<?> employees)) {
+                EmployeeJson.write(gen, (Employee) value.value(), value.fields());
+                return;
+            }
+            gen.writeStartArray();
+            for (var employee : employees) {
+                EmployeeJson.write(gen, (Employee) employee, value.fields());
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class EmployeeDeserializer extends StdDeserializer<Employee> {
+
+        EmployeeDeserializer() {
+            super(Employee.class);
+        }
+
+        @Override
+        public Employee deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return EmployeeJson.read(p);
+        }
+    }
+
+    static final class ListResponseDeserializer extends StdDeserializer<ApiListResponse<Employee>> {
+
+        ListResponseDeserializer() {
+            super(ApiListResponse.class);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ApiListResponse<Employee> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartObjectToken()) {
+                return (ApiListResponse<Employee>) ctxt.handleUnexpectedToken(ApiListResponse.class, p);
+            }
+            List<Employee> data = null;
+            String status = null;
+            String field;
+            while ((field = p.nextFieldName()) != null) {
+                var value = p.nextToken();
+                if (EmployeeJson.DATA.equals(field)) {
+                    data = EmployeeJson.readList(p);
+                } else if (EmployeeJson.STATUS.equals(field) && value == JsonToken.VALUE_STRING) {
+                    status = p.getText();
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return new ApiListResponse<>(data, status);
+        }
+    }
+
+    static final class SingleResponseDeserializer extends StdDeserializer<ApiSingleResponse<Employee>> {
+
+        SingleResponseDeserializer() {
+            super(ApiSingleResponse.class);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ApiSingleResponse<Employee> deserialize(JsonParser p, DeserializationContext ctxt)
+                throws IOException {
+            if (!p.isExpectedStartObjectToken()) {
+                return (ApiSingleResponse<Employee>) ctxt.handleUnexpectedToken(ApiSingleResponse.class, p);
+            }
+            Employee data = null;
+            String status = null;
+            String field;
+            while ((field = p.nextFieldName()) != null) {
+                var value = p.nextToken();
+                if (EmployeeJson.DATA.equals(field)) {
+                    data = EmployeeJson.read(p);
+                } else if (EmployeeJson.STATUS.equals(field) && value == JsonToken.VALUE_STRING) {
+                    status = p.getText();
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return new ApiSingleResponse<>(data, status);
+        }
+    }
+
+    private static final class EnvelopeDeserializers extends Deserializers.Base {
+
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(
+                JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+            if (!type.hasGenericTypes() || !type.containedType(0).hasRawClass(Employee.class)) {
+                return null;
+            }
+            if (type.hasRawClass(ApiListResponse.class)) {
+                return new ListResponseDeserializer();
+            }
+            if (type.hasRawClass(ApiSingleResponse.class)) {
+                return new SingleResponseDeserializer();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.codec;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Sparse fieldset from {@code ?fields=id,employee_name,...}: one bit per {@code Employee} JSON field. A missing or
+ * blank parameter selects every field; unknown names are rejected with {@link IllegalArgumentException}.
+ */
+public record EmployeeFields(int bits) {
+
+    public static final int ID = 0;
+    public static final int NAME = 1;
+    public static final int SALARY = 2;
+    public static final int AGE = 3;
+    public static final int TITLE = 4;
+    public static final int EMAIL = 5;
+
+    private static final List<String> NAMES = List.of(
+            EmployeeJson.ID,
+            EmployeeJson.NAME,
+            EmployeeJson.SALARY,
+            EmployeeJson.AGE,
+            EmployeeJson.TITLE,
+            EmployeeJson.EMAIL);
+
+    public static final EmployeeFields ALL = new EmployeeFields((1 << NAMES.size()) - 1);
+
+    public static EmployeeFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        int bits = 0;
+        for (var field : fields.split(",")) {
+            var name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            int index = NAMES.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            bits |= 1 << index;
+        }
+        return bits == 0 ? ALL : new EmployeeFields(bits);
+    }
+
+    public boolean includes(int field) {
+        return (bits & (1 << field)) != 0;
+    }
+
+    public boolean isAll() {
+        return bits == ALL.bits;
+    }
+
+    /** This fieldset plus one more field. */
+    public EmployeeFields with(int field) {
+        return new EmployeeFields(bits | (1 << field));
+    }
+
+    /** Canonical form, the selected names in output order; used for cache keys and the upstream parameter. */
+    @Override
+    public String toString() {
+        var joiner = new StringJoiner(",");
+        for (int i = 0; i < NAMES.size(); i++) {
+            if (includes(i)) {
+                joiner.add(NAMES.get(i));
+            }
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.reliaquest.api.dto.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-specialized streaming reader/writer for {@link Employee} and the mock API envelopes: straight token
+ * loops with no bean introspection, property lookup or creator reflection. Field names and null/unknown
+ * handling mirror the annotations on the records (unknown fields skipped, null numbers read as 0).
+ */
+public final class EmployeeJson {
+
+    static final String ID = "id";
+    static final String NAME = "employee_name";
+    static final String SALARY = "employee_salary";
+    static final String AGE = "employee_age";
+    static final String TITLE = "employee_title";
+    static final String EMAIL = "employee_email";
+    static final String DATA = "data";
+    static final String STATUS = "status";
+
+    private static final SerializedString ID_NAME = new SerializedString(ID);
+    private static final SerializedString NAME_NAME = new SerializedString(NAME);
+    private static final SerializedString SALARY_NAME = new SerializedString(SALARY);
+    private static final SerializedString AGE_NAME = new SerializedString(AGE);
+    private static final SerializedString TITLE_NAME = new SerializedString(TITLE);
+    private static final SerializedString EMAIL_NAME = new SerializedString(EMAIL);
+
+    private EmployeeJson() {}
+
+    /**
+     * Reads one employee; the parser must be positioned on its START_OBJECT (or VALUE_NULL, giving null) and
+     * is left on the matching END_OBJECT.
+     */
+    public static Employee read(JsonParser p) throws IOException {
+        var token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(p, token, JsonToken.START_OBJECT);
+        String id = null;
+        String name = null;
+        int salary = 0;
+        int age = 0;
+        String title = null;
+        String email = null;
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            var value = p.nextToken();
+            switch (field) {
+                case ID -> id = scalarText(p, value);
+                case NAME -> name = scalarText(p, value);
+                case SALARY -> salary = scalarInt(p, value);
+                case AGE -> age = scalarInt(p, value);
+                case TITLE -> title = scalarText(p, value);
+                case EMAIL -> email = scalarText(p, value);
+                default -> p.skipChildren();
+            }
+        }
+        expect(p, p.currentToken(), JsonToken.END_OBJECT);
+        return new Employee(id, name, salary, age, title, email);
+    }
+
+    public static void write(JsonGenerator g, Employee employee) throws IOException {
+        write(g, employee, EmployeeFields.ALL);
+    }
+
+    /**
+     * Writes only the selected fields, in the usual order.
+     */
+    public static void write(JsonGenerator g, Employee employee, EmployeeFields fields) throws IOException {
+        if (employee == null) {
+            g.writeNull();
+            return;
+        }
+        g.writeStartObject();
+        if (fields.includes(EmployeeFields.ID)) {
+            g.writeFieldName(ID_NAME);
+            g.writeString(employee.id());
+        }
+        if (fields.includes(EmployeeFields.NAME)) {
+            g.writeFieldName(NAME_NAME);
+            g.writeString(employee.employeeName());
+        }
+        if (fields.includes(EmployeeFields.SALARY)) {
+            g.writeFieldName(SALARY_NAME);
+            g.writeNumber(employee.employeeSalary());
+        }
+        if (fields.includes(EmployeeFields.AGE)) {
+            g.writeFieldName(AGE_NAME);
+            g.writeNumber(employee.employeeAge());
+        }
+        if (fields.includes(EmployeeFields.TITLE)) {
+            g.writeFieldName(TITLE_NAME);
+            g.writeString(employee.employeeTitle());
+        }
+        if (fields.includes(EmployeeFields.EMAIL)) {
+            g.writeFieldName(EMAIL_NAME);
+            g.writeString(employee.employeeEmail());
+        }
+        g.writeEndObject();
+    }
+
+    /**
+     * Reads a JSON array of employees (or null); the parser must be positioned on the START_ARRAY.
+     */
+    public static List<Employee> readList(JsonParser p) throws IOException {
+        var token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(p, token, JsonToken.START_ARRAY);
+        List<Employee> out = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            out.add(read(p));
+        }
+        return out;
+    }
+
+    private static String scalarText(JsonParser p, JsonToken value) throws IOException {
+        if (value.isStructStart()) {
+            throw new JsonParseException(p, "Expected a scalar for '" + p.currentName() + "' but found " + value);
+        }
+        return value == JsonToken.VALUE_NULL ? null : p.getText();
+    }
+
+    private static int scalarInt(JsonParser p, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NUMBER_INT -> p.getIntValue();
+            case VALUE_NUMBER_FLOAT -> p.getValueAsInt();
+            case VALUE_NULL -> 0;
+            case VALUE_STRING -> {
+                try {
+                    yield Integer.parseInt(p.getText().trim());
+                } catch (NumberFormatException e) {
+                    throw new JsonParseException(p, "Not an int for '" + p.currentName() + "': " + p.getText(), e);
+                }
+            }
+            default -> throw new JsonParseException(
+                    p, "Expected an int for '" + p.currentName() + "' but found " + value);
+        };
+    }
+
+    private static void expect(JsonParser p, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(p, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
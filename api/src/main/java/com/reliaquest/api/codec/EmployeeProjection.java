@@ -0,0 +1,21 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.reliaquest.api.dto.Employee;
+import java.util.Collection;
+
+/**
+ * One employee, or a collection of them, written with only the selected fields. {@link EmployeeCodecModule}
+ * streams it straight from the {@link Employee} records; nothing is copied per employee.
+ */
+@JsonSerialize(using = EmployeeCodecModule.ProjectionSerializer.class)
+public record EmployeeProjection(Object value, EmployeeFields fields) {
+
+    public static EmployeeProjection of(Employee employee, EmployeeFields fields) {
+        return new EmployeeProjection(employee, fields);
+    }
+
+    public static EmployeeProjection of(Collection<Employee> employees, EmployeeFields fields) {
+        return new EmployeeProjection(employees, fields);
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.codec.EmployeeCodecModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Picked up by Boot's ObjectMapper, so it serves the MVC message converters, the WebClient codecs
+     * (see {@link WebClientConfig}) and the streaming roster decoder alike.
+     */
+    @Bean
+    public EmployeeCodecModule employeeCodecModule() {
+        return new EmployeeCodecModule();
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.resilience.AdaptiveConcurrencyLimit;
+import com.reliaquest.api.resilience.CircuitBreaker;
+import com.reliaquest.api.resilience.ConcurrencyLimitFilter;
+import com.reliaquest.api.resilience.DeadlineFilter;
+import com.reliaquest.api.resilience.UpstreamGuard;
+import java.time.Duration;
+import java.util.EnumMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class ResilienceConfig {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Per-operation bulkheads, timeouts and circuit breakers, from {@code resilience.bulkhead.<operation>},
+     * {@code resilience.timeout.<operation>} and the shared {@code resilience.circuit-breaker.*} settings.
+     */
+    @Bean
+    public UpstreamGuard upstreamGuard(
+            Environment env,
+            @Value("${resilience.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${resilience.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${resilience.circuit-breaker.failure-rate:0.5}") double failureRate,
+            @Value("${resilience.circuit-breaker.open-duration:15s}") Duration openDuration,
+            @Value("${resilience.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        var limits = new EnumMap<UpstreamGuard.Operation, UpstreamGuard.Limits>(UpstreamGuard.Operation.class);
+        for (var operation : UpstreamGuard.Operation.values()) {
+            var maxConcurrent = env.getProperty("resilience.bulkhead." + operation.key(), Integer.class, 16);
+            var timeout = env.getProperty("resilience.timeout." + operation.key(), Duration.class, DEFAULT_TIMEOUT);
+            limits.put(operation, new UpstreamGuard.Limits(maxConcurrent, timeout));
+        }
+        return new UpstreamGuard(
+                limits,
+                operation -> new CircuitBreaker(
+                        operation.key(), windowSize, minimumCalls, failureRate, openDuration, halfOpenCalls));
+    }
+
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(
+            @Value("${resilience.deadline.default:10s}") Duration defaultBudget,
+            @Value("${resilience.deadline.max:30s}") Duration maxBudget) {
+        var registration = new FilterRegistrationBean<>(new DeadlineFilter(defaultBudget, maxBudget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /**
+     * Adaptive inbound concurrency limit in front of the employee endpoints ({@code resilience.concurrency-limit.*}).
+     * It runs after the correlation and deadline filters, so shed requests are still traced.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "resilience.concurrency-limit.enabled", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${resilience.concurrency-limit.initial:20}") int initialLimit,
+            @Value("${resilience.concurrency-limit.min:4}") int minLimit,
+            @Value("${resilience.concurrency-limit.max:200}") int maxLimit,
+            @Value("${resilience.concurrency-limit.probe-interval:1000}") int probeInterval,
+            @Value("${resilience.concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        var limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, probeInterval);
+        var registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limit, retryAfter));
+        registration.addUrlPatterns("/api/v1/employees/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.EmployeeStreamDecoder;
+import com.reliaquest.api.dto.ApiListResponse;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional warm-up ({@code warmup.enabled}) run before the app reports itself ready: Spring Boot publishes
+ * ReadinessState.ACCEPTING_TRAFFIC only after all ApplicationRunners return. Primes the employee cache and
+ * Bloom filter with one roster read, then loops the in-memory hot paths (response serialization, streaming
+ * decode, cache hits) so the JIT has compiled them before the first real request.
+ *
+ * <p>The flag is read at runtime rather than through a condition so the bean survives AOT processing.
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final EmployeeService employeeService;
+    private final EmployeeCache employeeCache;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int iterations;
+
+    public StartupWarmup(
+            EmployeeService employeeService,
+            EmployeeCache employeeCache,
+            ObjectMapper objectMapper,
+            @Value("${warmup.enabled:false}") boolean enabled,
+            @Value("${warmup.iterations:2000}") int iterations) {
+        this.employeeService = employeeService;
+        this.employeeCache = employeeCache;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<Employee> roster;
+        try {
+            roster = employeeService.getAllEmployees();
+        } catch (RuntimeException e) {
+            log.warn("Warm-up could not prime the roster, continuing with JIT warm-up only: {}", e.toString());
+            roster = List.of();
+        }
+
+        byte[] body = objectMapper.writeValueAsBytes(new ApiListResponse<>(roster, "warmup"));
+        long firstMicros = 0;
+        long lastMicros = 0;
+        for (int i = 0; i < iterations; i++) {
+            long iterationStart = System.nanoTime();
+            objectMapper.writeValueAsBytes(roster);
+            var decoder = new EmployeeStreamDecoder(objectMapper);
+            decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(body));
+            decoder.complete();
+            for (Employee employee : roster) {
+                employeeCache.get(employee.id(), id -> employee);
+            }
+            lastMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - iterationStart);
+            if (i == 0) {
+                firstMicros = lastMicros;
+            }
+        }
+        log.info(
+                "Warm-up done in {} ms: roster={}, iterations={}, first iteration {} us, last {} us",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                roster.size(),
+                iterations,
+                firstMicros,
+                lastMicros);
+    }
+}
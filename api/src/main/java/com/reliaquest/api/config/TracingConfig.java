@@ -0,0 +1,26 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.trace.CorrelationIdFilter;
+import com.reliaquest.api.trace.SpanRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public SpanRecorder spanRecorder(
+            @Value("${tracing.enabled:true}") boolean enabled, @Value("${tracing.buffer-size:4096}") int bufferSize) {
+        return new SpanRecorder(enabled, bufferSize);
+    }
+
+    @Bean
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter(SpanRecorder spanRecorder) {
+        var registration = new FilterRegistrationBean<>(new CorrelationIdFilter(spanRecorder));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.replay.TrafficCaptureFilter;
+import com.reliaquest.api.replay.TrafficLog;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Recording mode, on when {@code traffic.record.file} is set: inbound employee requests and every EmployeeClient
+ * exchange are appended to that file for offline replay (see the replay source set). The upstream side is hooked
+ * into the WebClient template by {@link WebClientConfig}.
+ */
+@Configuration
+@ConditionalOnProperty("traffic.record.file")
+public class TrafficConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(TrafficConfig.class);
+
+    @Bean
+    public TrafficLog.Writer trafficLogWriter(@Value("${traffic.record.file}") String file) throws IOException {
+        var path = Path.of(file);
+        log.info("Recording traffic to {}", path.toAbsolutePath());
+        return TrafficLog.append(path);
+    }
+
+    /**
+     * Runs after the correlation and deadline filters and before the concurrency limit, so shed requests are
+     * captured with their 503.
+     */
+    @Bean
+    public FilterRegistrationBean<TrafficCaptureFilter> trafficCaptureFilter(TrafficLog.Writer writer) {
+        var registration = new FilterRegistrationBean<>(new TrafficCaptureFilter(writer));
+        registration.addUrlPatterns("/api/v1/employees/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
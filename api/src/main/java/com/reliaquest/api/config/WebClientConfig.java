@@ -1,22 +1,54 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.UpstreamCluster;
+import com.reliaquest.api.jfr.JfrExchangeFilter;
+import com.reliaquest.api.replay.TrafficCaptureExchangeFilter;
+import com.reliaquest.api.replay.TrafficLog;
+import com.reliaquest.api.resilience.DeadlineExchangeFilter;
+import com.reliaquest.api.trace.SpanRecorder;
+import com.reliaquest.api.trace.TracingExchangeFilter;
+import java.time.Duration;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebClientConfig {
 
-    @Bean(name = "mockApiClient")
-    public WebClient mockApiClient(@Value("${mock.base-url}") String baseUrl) {
-        return WebClient.builder()
-                .baseUrl(baseUrl)
+    @Bean
+    public UpstreamCluster upstreamCluster(
+            @Value("${mock.base-urls:${mock.base-url}}") List<String> baseUrls,
+            @Value("${mock.max-in-memory-size:16MB}") DataSize maxInMemorySize,
+            @Value("${mock.ejection.failures:3}") int ejectionFailures,
+            @Value("${mock.ejection.cooldown:10s}") Duration ejectionCooldown,
+            SpanRecorder spanRecorder,
+            ObjectMapper objectMapper,
+            ObjectProvider<TrafficLog.Writer> trafficLog) {
+        // Only applies to fully buffered decoding (getAll); EmployeeClient.streamAll bypasses the codec limit.
+        var template = WebClient.builder()
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                .build();
+                .codecs(codecs -> {
+                    // the application ObjectMapper carries the hand-written Employee codecs (JacksonConfig)
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                    codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes());
+                })
+                .filter(new TracingExchangeFilter(spanRecorder))
+                .filter(new DeadlineExchangeFilter())
+                .filter(new JfrExchangeFilter());
+        // recording mode (TrafficConfig): last, so it sees exactly what goes over the wire
+        trafficLog.ifAvailable(writer -> template.filter(new TrafficCaptureExchangeFilter(writer)));
+        return new UpstreamCluster(baseUrls, template, ejectionFailures, ejectionCooldown);
     }
 }
@@ -0,0 +1,167 @@
+package com.reliaquest.api.controller;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Local-only Flight Recorder capture with the JDK "profile" settings plus the {@code com.reliaquest.*} events.
+ *
+ * <p>Starting a recording returns 202 at once: Flight Recorder stops it by itself after the requested duration, so
+ * no request thread waits for it. Polling the returned location answers 202 until then, and afterwards streams the
+ * .jfr file for JDK Mission Control or {@code jfr print}. Only the latest recording is kept; its file is deleted
+ * when the next one starts.
+ */
+@RestController
+@RequestMapping("/api/v1/debug")
+public class DebugRecordingController {
+
+    private static final Logger log = LoggerFactory.getLogger(DebugRecordingController.class);
+    private static final Duration MAX_DURATION = Duration.ofMinutes(10);
+
+    // guarded by this
+    private Capture current;
+
+    // POST /api/v1/debug/jfr?duration=30s
+    @PostMapping(value = "/jfr", produces = MediaType.APPLICATION_JSON_VALUE)
+    public synchronized ResponseEntity<RecordingStatus> start(
+            @RequestParam(defaultValue = "30s") Duration duration, HttpServletRequest request) {
+        DebugTraceController.requireLocal(request);
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(MAX_DURATION) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "duration must be between 0 and " + MAX_DURATION);
+        }
+        if (current != null && current.recording.getState() == RecordingState.RUNNING) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A recording is already in progress");
+        }
+        discard(current);
+        current = null;
+        Recording jfr;
+        try {
+            jfr = new Recording(Configuration.getConfiguration("profile"));
+        } catch (IOException | ParseException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Recording failed", e);
+        }
+        jfr.setName("api-debug");
+        jfr.enable("com.reliaquest.api.UpstreamCall");
+        jfr.enable("com.reliaquest.api.ServiceOperation");
+        jfr.setDuration(duration);
+        jfr.start();
+        current = new Capture(jfr, duration);
+        log.info("JFR recording {} started for {}", jfr.getId(), duration);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/debug/jfr/" + jfr.getId()))
+                .body(current.status());
+    }
+
+    // GET /api/v1/debug/jfr/{id} (202 while recording, then the .jfr file)
+    @GetMapping("/jfr/{id}")
+    public synchronized ResponseEntity<?> download(@PathVariable long id, HttpServletRequest request) {
+        DebugTraceController.requireLocal(request);
+        var capture = current;
+        if (capture == null || capture.recording.getId() != id) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No recording " + id);
+        }
+        if (capture.file == null) {
+            if (capture.recording.getState() != RecordingState.STOPPED) {
+                var status = capture.status();
+                long retryAfterSeconds = Math.max(1, (status.remainingMs() + 999) / 1000);
+                return ResponseEntity.accepted()
+                        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                        .body(status);
+            }
+            capture.file = dump(capture.recording);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename("api-" + id + ".jfr")
+                                .build()
+                                .toString())
+                .body(new FileSystemResource(capture.file));
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        discard(current);
+        current = null;
+    }
+
+    private static Path dump(Recording jfr) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("api-", ".jfr");
+            jfr.dump(file);
+            jfr.close();
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Recording failed", e);
+        }
+    }
+
+    private static void discard(Capture capture) {
+        if (capture != null) {
+            capture.recording.close();
+            deleteQuietly(capture.file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", file, e);
+        }
+    }
+
+    private static final class Capture {
+
+        private final Recording recording;
+        private final Instant endsAt;
+        private Path file;
+
+        private Capture(Recording recording, Duration duration) {
+            this.recording = recording;
+            this.endsAt = Instant.now().plus(duration);
+        }
+
+        private RecordingStatus status() {
+            var remaining = Duration.between(Instant.now(), endsAt).toMillis();
+            return new RecordingStatus(recording.getId(), recording.getState(), Math.max(0, remaining));
+        }
+    }
+
+    /**
+     * A recording as reported while it runs: its id, Flight Recorder state and the time left until it stops.
+     */
+    public record RecordingStatus(long id, RecordingState state, long remainingMs) {}
+}
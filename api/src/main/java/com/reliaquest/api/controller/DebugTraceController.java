@@ -0,0 +1,49 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.trace.Span;
+import com.reliaquest.api.trace.SpanRecorder;
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Local-only view of the recent spans held by {@link SpanRecorder}.
+ */
+@RestController
+@RequestMapping("/api/v1/debug")
+public class DebugTraceController {
+
+    private final SpanRecorder spanRecorder;
+
+    public DebugTraceController(SpanRecorder spanRecorder) {
+        this.spanRecorder = spanRecorder;
+    }
+
+    // GET /api/v1/debug/traces?traceId=...&limit=...
+    @GetMapping(value = "/traces", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<Span> traces(
+            @RequestParam(required = false) String traceId,
+            @RequestParam(defaultValue = "100") int limit,
+            HttpServletRequest request) {
+        requireLocal(request);
+        return spanRecorder.recent(traceId, Math.max(0, Math.min(limit, spanRecorder.capacity())));
+    }
+
+    static void requireLocal(HttpServletRequest request) {
+        try {
+            if (!InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+            }
+        } catch (UnknownHostException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+    }
+}
@@ -1,59 +1,109 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.codec.EmployeeFields;
+import com.reliaquest.api.codec.EmployeeProjection;
+import com.reliaquest.api.dto.CreateJobStatus;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.service.EmployeeCreateQueue;
 import com.reliaquest.api.service.EmployeeService;
 import jakarta.validation.Valid;
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/v1")
 public class EmployeeController {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeController.class);
+    // cache key per fieldset, indexed by EmployeeFields.bits(); built once instead of per request
+    private static final String[] FIELDSET_ENDPOINTS = new String[EmployeeFields.ALL.bits() + 1];
+
+    static {
+        for (int bits = 0; bits < FIELDSET_ENDPOINTS.length; bits++) {
+            FIELDSET_ENDPOINTS[bits] = "employees-f" + Integer.toHexString(bits);
+        }
+    }
+
     private final EmployeeService employeeService;
+    private final EmployeeCreateQueue createQueue;
+    private final ReadResponseCache readCache;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(
+            EmployeeService employeeService, EmployeeCreateQueue createQueue, ReadResponseCache readCache) {
         this.employeeService = employeeService;
+        this.createQueue = createQueue;
+        this.readCache = readCache;
     }
 
-    // GET /api/v1/employees
+    // GET /api/v1/employees?fields=id,employee_name (ETag + Cache-Control; If-None-Match -> 304)
     @GetMapping(value = "/employees", produces = MediaType.APPLICATION_JSON_VALUE)
-    public List<Employee> getAllEmployees() {
-        log.info("HIT getAllEmployees");
-        return employeeService.getAllEmployees();
+    public ResponseEntity<byte[]> getAllEmployees(@RequestParam(required = false) String fields) {
+        log.debug("HIT getAllEmployees fields={}", fields);
+        var selected = parseFields(fields);
+        var snapshot = employeeService.getRosterSnapshot();
+        // each fieldset is cached (and ETagged) separately; the full body keeps its original key
+        var endpoint = selected.isAll() ? "employees" : FIELDSET_ENDPOINTS[selected.bits()];
+        return readCache.respond(endpoint, snapshot, () -> EmployeeProjection.of(snapshot.employees(), selected));
     }
 
-    // GET /api/v1/employees/search/{searchString}
+    // GET /api/v1/employees?ids=a,b,c&fields=...
+    @GetMapping(value = "/employees", params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    public EmployeeProjection getEmployeesByIds(
+            @RequestParam List<String> ids, @RequestParam(required = false) String fields) {
+        if (log.isDebugEnabled()) {
+            log.debug("HIT getEmployeesByIds count={}", ids.size());
+        }
+        var selected = parseFields(fields);
+        return EmployeeProjection.of(employeeService.getEmployeesByIds(ids), selected);
+    }
+
+    // GET /api/v1/employees/search/{searchString}?fields=... (fields pushed down to the upstream read)
     @GetMapping(value = "/employees/search/{searchString}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public List<Employee> getEmployeesByNameSearch(@PathVariable String searchString) {
-        log.info("HIT getEmployeesByNameSearch searchString={}", searchString);
-        return employeeService.getEmployeesByNameSearch(searchString);
+    public EmployeeProjection getEmployeesByNameSearch(
+            @PathVariable String searchString, @RequestParam(required = false) String fields) {
+        log.debug("HIT getEmployeesByNameSearch searchString={}", searchString);
+        var selected = parseFields(fields);
+        var matches = selected.isAll()
+                ? employeeService.getEmployeesByNameSearch(searchString)
+                : employeeService.getEmployeesByNameSearch(searchString, selected);
+        return EmployeeProjection.of(matches, selected);
     }
 
-    // GET /api/v1/employees/highestSalary
+    // GET /api/v1/employees/highestSalary (ETag + Cache-Control; If-None-Match -> 304)
     @GetMapping(value = "/employees/highestSalary", produces = MediaType.APPLICATION_JSON_VALUE)
-    public Integer getHighestSalaryOfEmployees() {
-        log.info("HIT highestSalary");
-        return employeeService.getHighestSalaryOfEmployees();
+    public ResponseEntity<byte[]> getHighestSalaryOfEmployees() {
+        log.debug("HIT highestSalary");
+        var snapshot = employeeService.getRosterSnapshot();
+        return readCache.respond(
+                "highestSalary", snapshot, () -> employeeService.getHighestSalaryOfEmployees(snapshot));
     }
 
-    // GET /api/v1/employees/topTenHighestEarningEmployeeNames
+    // GET /api/v1/employees/topTenHighestEarningEmployeeNames (ETag + Cache-Control; If-None-Match -> 304)
     @GetMapping(value = "/employees/topTenHighestEarningEmployeeNames", produces = MediaType.APPLICATION_JSON_VALUE)
-    public List<String> getTop10HighestEarningEmployeeNames() {
-        log.info("HIT getTop10HighestEarningEmployeeNames");
-        return employeeService.getTop10HighestEarningEmployeeNames();
+    public ResponseEntity<byte[]> getTop10HighestEarningEmployeeNames() {
+        log.debug("HIT getTop10HighestEarningEmployeeNames");
+        var snapshot = employeeService.getRosterSnapshot();
+        return readCache.respond(
+                "topTenHighestEarningEmployeeNames",
+                snapshot,
+                () -> employeeService.getTop10HighestEarningEmployeeNames(snapshot));
     }
 
-    // GET /api/v1/employees/{id}
+    // GET /api/v1/employees/{id}?fields=...
     @GetMapping(value = "/employees/{id:[0-9a-fA-F\\-]{36}}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public Employee getEmployeeById(@PathVariable String id) {
-        log.info("HIT getEmployeeById id={}", id);
-        return employeeService.getEmployeeById(id);
+    public EmployeeProjection getEmployeeById(@PathVariable String id, @RequestParam(required = false) String fields) {
+        log.debug("HIT getEmployeeById id={}", id);
+        var selected = parseFields(fields);
+        return EmployeeProjection.of(employeeService.getEmployeeById(id), selected);
     }
 
     // POST /api/v1/employees
@@ -71,6 +121,35 @@ public class EmployeeController {
         return employeeService.createEmployee(input);
     }
 
+    // POST /api/v1/employees/async -> 202 + job; created in the background at the rate upstream allows
+    @PostMapping(
+            value = "/employees/async",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CreateJobStatus> createEmployeeAsync(@Valid @RequestBody EmployeeCreateRequest input) {
+        log.info("HIT createEmployeeAsync name={}", input.name());
+        var job = createQueue.submit(input);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/employees/jobs/" + job.jobId()))
+                .body(job);
+    }
+
+    // GET /api/v1/employees/jobs/{jobId}?waitMs=... (long-poll up to waitMs for completion)
+    @GetMapping(value = "/employees/jobs/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<CreateJobStatus> getCreateJob(
+            @PathVariable String jobId, @RequestParam(defaultValue = "0") long waitMs) {
+        log.debug("HIT getCreateJob jobId={}, waitMs={}", jobId, waitMs);
+        return createQueue.status(jobId, waitMs);
+    }
+
+    private static EmployeeFields parseFields(String fields) {
+        try {
+            return EmployeeFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     // DELETE /api/v1/employees/{id}
     @DeleteMapping(value = "/employees/{id}", produces = MediaType.TEXT_PLAIN_VALUE)
     public String deleteEmployeeById(@PathVariable String id) {
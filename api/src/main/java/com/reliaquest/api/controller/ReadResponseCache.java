@@ -0,0 +1,77 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.service.RosterSnapshot;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Serialized bodies of the roster-derived read endpoints, kept for the latest {@link RosterSnapshot} version.
+ *
+ * <p>Each response carries a strong ETag ({@code "<version>-<endpoint>"}) and {@code Cache-Control}; MVC answers
+ * a matching {@code If-None-Match} with 304 from the ETag alone. A new snapshot version drops every cached body.
+ * A hit allocates only the response entity: the quoted ETag is built once, with the body.
+ */
+@Component
+public class ReadResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final CacheControl cacheControl;
+
+    private volatile Generation generation = new Generation("", new ConcurrentHashMap<>());
+
+    public ReadResponseCache(ObjectMapper objectMapper, @Value("${http.cache.max-age:0s}") Duration maxAge) {
+        this.objectMapper = objectMapper;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+    public ResponseEntity<byte[]> respond(String endpoint, RosterSnapshot snapshot, Supplier<Object> body) {
+        var version = snapshot.version();
+        var bodies = bodiesFor(version);
+        var cached = bodies.get(endpoint);
+        if (cached == null) {
+            cached = bodies.computeIfAbsent(
+                    endpoint, ignored -> new Body(serialize(body.get()), '"' + version + "-" + endpoint + '"'));
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.eTag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.bytes());
+    }
+
+    private Map<String, Body> bodiesFor(String version) {
+        var current = generation;
+        if (current.version().equals(version)) {
+            return current.bodies();
+        }
+        synchronized (this) {
+            if (!generation.version().equals(version)) {
+                generation = new Generation(version, new ConcurrentHashMap<>());
+            }
+            return generation.bodies();
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not serialize response", e);
+        }
+    }
+
+    private record Generation(String version, ConcurrentHashMap<String, Body> bodies) {}
+
+    private record Body(byte[] bytes, String eTag) {}
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * State of an asynchronous employee creation: PENDING until the dispatcher reaches it, then DONE with the
+ * created employee, FAILED with the upstream error, or UNKNOWN when the upstream failed or timed out after the
+ * request was sent and may have created the employee anyway.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CreateJobStatus(String jobId, State state, Employee employee, String error) {
+
+    public enum State {
+        PENDING,
+        DONE,
+        FAILED,
+        UNKNOWN
+    }
+}
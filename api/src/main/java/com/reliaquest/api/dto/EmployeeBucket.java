@@ -0,0 +1,8 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+/** One Merkle leaf bucket: its employees and the hash they produce, as read together by the mock API. */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record EmployeeBucket(int bucket, String hash, List<Employee> employees) {}
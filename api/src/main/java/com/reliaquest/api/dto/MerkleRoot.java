@@ -0,0 +1,7 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/** Shape and root hash of one mock instance's roster Merkle tree: { "fanout": 16, "depth": 3, "hash": "..." } */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MerkleRoot(int fanout, int depth, String hash) {}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.jfr;
+
+import com.reliaquest.api.trace.TraceContext;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Emits an {@link UpstreamCallEvent} per exchange. The event ends when the response body has been consumed
+ * (or the exchange fails), so its duration covers the transfer and {@code bytes} counts what was read. When no
+ * recording has the event enabled the exchange passes through untouched.
+ */
+public class JfrExchangeFilter implements ExchangeFilterFunction {
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(ctx -> {
+            // one event per subscription, so retried exchanges are recorded separately
+            var event = new UpstreamCallEvent();
+            if (!event.isEnabled()) {
+                return next.exchange(request);
+            }
+            event.correlationId = ctx.getOrDefault(TraceContext.MDC_KEY, null);
+            event.method = request.method().name();
+            event.node = request.url().getScheme() + "://" + request.url().getAuthority();
+            event.path = request.url().getPath();
+            event.begin();
+            return next.exchange(request)
+                    .map(response -> {
+                        event.status = response.statusCode().value();
+                        var bytes = new AtomicLong();
+                        return response.mutate()
+                                .body(body -> body.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                                        .doFinally(signal -> {
+                                            event.bytes = bytes.get();
+                                            event.commit();
+                                        }))
+                                .build();
+                    })
+                    .doOnError(e -> {
+                        event.error = e.toString();
+                        event.commit();
+                    });
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.jfr;
+
+import com.reliaquest.api.trace.TraceContext;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code EmployeeService} operation and the size of its result. Fields are only filled in while a recording
+ * has the event enabled, so an idle instance costs a field check.
+ */
+@Name("com.reliaquest.api.ServiceOperation")
+@Label("Service Operation")
+@Category({"ReliaQuest", "API"})
+@Description("EmployeeService operation with its result size")
+@StackTrace(false)
+public final class ServiceOperationEvent extends Event {
+
+    @Label("Correlation Id")
+    String correlationId;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Result Size")
+    @Description("Employees or names returned; 1 for a single value")
+    int resultSize;
+
+    @Label("Error")
+    String error;
+
+    public static ServiceOperationEvent begin(String operation) {
+        var event = new ServiceOperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.correlationId = TraceContext.currentId();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void succeeded(int resultSize) {
+        if (isEnabled()) {
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+
+    public void failed(Throwable error) {
+        if (isEnabled()) {
+            this.error = error.toString();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP exchange with the mock API, from request to the end of the response body.
+ */
+@Name("com.reliaquest.api.UpstreamCall")
+@Label("Upstream Call")
+@Category({"ReliaQuest", "API"})
+@Description("HTTP exchange between EmployeeClient and a mock API node")
+@StackTrace(false)
+class UpstreamCallEvent extends Event {
+
+    @Label("Correlation Id")
+    String correlationId;
+
+    @Label("Method")
+    String method;
+
+    @Label("Node")
+    String node;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    @Description("HTTP status, 0 when the exchange failed without a response")
+    int status;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Error")
+    String error;
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Captures every EmployeeClient exchange as an {@link TrafficRecord.Kind#UPSTREAM} record. Request and response
+ * bodies are copied as they stream past, without changing what the client sends or reads. The record is written
+ * once the response body completes; exchanges that fail or are cancelled are not recorded, since the replay stub
+ * could not serve them back faithfully.
+ */
+public class TrafficCaptureExchangeFilter implements ExchangeFilterFunction {
+
+    private static final List<String> RESPONSE_HEADERS =
+            List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_ENCODING);
+
+    private final TrafficLog.Writer writer;
+
+    public TrafficCaptureExchangeFilter(TrafficLog.Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            var requestBody = new ByteArrayOutputStream();
+            var captured = ClientRequest.from(request)
+                    .body((outputMessage, context) ->
+                            request.body().insert(new CapturingRequest(outputMessage, requestBody), context))
+                    .build();
+            long start = System.nanoTime();
+            return next.exchange(captured).map(response -> {
+                var responseBody = new ByteArrayOutputStream();
+                return response.mutate()
+                        .body(body -> body.doOnNext(buffer -> copy(buffer, responseBody))
+                                .doFinally(signal -> {
+                                    if (signal == SignalType.ON_COMPLETE) {
+                                        writer.append(new TrafficRecord(
+                                                TrafficRecord.Kind.UPSTREAM,
+                                                writer.epochNanos(start),
+                                                System.nanoTime() - start,
+                                                request.method().name(),
+                                                target(request),
+                                                Map.of(),
+                                                requestBody.toByteArray(),
+                                                response.statusCode().value(),
+                                                headers(response.headers().asHttpHeaders()),
+                                                responseBody.toByteArray()));
+                                    }
+                                }))
+                        .build();
+            });
+        });
+    }
+
+    private static String target(ClientRequest request) {
+        var url = request.url();
+        return url.getRawQuery() == null ? url.getRawPath() : url.getRawPath() + "?" + url.getRawQuery();
+    }
+
+    private static Map<String, String> headers(HttpHeaders headers) {
+        var kept = new LinkedHashMap<String, String>();
+        for (var name : RESPONSE_HEADERS) {
+            var value = headers.getFirst(name);
+            if (value != null) {
+                kept.put(name, value);
+            }
+        }
+        return kept;
+    }
+
+    /** Copies the readable bytes of {@code buffer} without moving its read position. */
+    static void copy(DataBuffer buffer, ByteArrayOutputStream into) {
+        var bytes = new byte[buffer.readableByteCount()];
+        int position = buffer.readPosition();
+        buffer.read(bytes);
+        buffer.readPosition(position);
+        into.writeBytes(bytes);
+    }
+
+    private static final class CapturingRequest extends ClientHttpRequestDecorator {
+
+        private final ByteArrayOutputStream body;
+
+        private CapturingRequest(ClientHttpRequest delegate, ByteArrayOutputStream body) {
+            super(delegate);
+            this.body = body;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.<DataBuffer>from(body).doOnNext(buffer -> copy(buffer, this.body)));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.<Publisher<? extends DataBuffer>>from(body)
+                    .map(chunk -> Flux.<DataBuffer>from(chunk).doOnNext(buffer -> copy(buffer, this.body))));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.api.replay;
+
+import com.reliaquest.api.resilience.Deadline;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+/**
+ * Captures inbound employee requests as {@link TrafficRecord.Kind#INBOUND} records for the replay driver: method,
+ * target, the request headers that change the answer, and the body. Only the status and latency of the response are
+ * kept, as the baseline that a replay is compared with. Async responses are recorded when they complete.
+ */
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    private static final List<String> REQUEST_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.ACCEPT,
+            HttpHeaders.ACCEPT_ENCODING,
+            HttpHeaders.IF_NONE_MATCH,
+            Deadline.HEADER);
+
+    private final TrafficLog.Writer writer;
+
+    public TrafficCaptureFilter(TrafficLog.Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var cachingRequest = new ContentCachingRequestWrapper(request);
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(cachingRequest, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnComplete(cachingRequest, start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                record(cachingRequest, start, response.getStatus());
+            }
+        }
+    }
+
+    private void record(ContentCachingRequestWrapper request, long start, int status) {
+        var query = request.getQueryString();
+        var headers = new LinkedHashMap<String, String>();
+        for (var name : REQUEST_HEADERS) {
+            var value = request.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        writer.append(new TrafficRecord(
+                TrafficRecord.Kind.INBOUND,
+                writer.epochNanos(start),
+                System.nanoTime() - start,
+                request.getMethod(),
+                query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query,
+                headers,
+                request.getContentAsByteArray(),
+                status,
+                Map.of(),
+                null));
+    }
+
+    private final class RecordOnComplete implements AsyncListener {
+
+        private final ContentCachingRequestWrapper request;
+        private final long start;
+
+        private RecordOnComplete(ContentCachingRequestWrapper request, long start) {
+            this.request = request;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, start, ((HttpServletResponse) event.getSuppliedResponse()).getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {}
+
+        @Override
+        public void onError(AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {}
+    }
+}
@@ -0,0 +1,217 @@
+package com.reliaquest.api.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only binary file of {@link TrafficRecord}s.
+ *
+ * <p>Layout: a 6-byte header (magic {@code RQTR}, version) written once when the file is created, then records
+ * back to back. Integers are unsigned LEB128 varints, strings and bodies are length-prefixed, and the start time
+ * is a fixed 8 bytes. A record costs a few dozen bytes plus its bodies. A later session appends to the same file.
+ * A record cut off by a crash ends the read instead of failing it.
+ */
+public final class TrafficLog {
+
+    private static final Logger log = LoggerFactory.getLogger(TrafficLog.class);
+    private static final int MAGIC = 0x52515452; // "RQTR"
+    private static final short VERSION = 1;
+    private static final TrafficRecord.Kind[] KINDS = TrafficRecord.Kind.values();
+
+    private TrafficLog() {}
+
+    /**
+     * Streams every complete record of {@code file} to {@code consumer}, in file order.
+     */
+    public static void read(Path file, Consumer<TrafficRecord> consumer) throws IOException {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a traffic log: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported traffic log version " + version + ": " + file);
+            }
+            while (true) {
+                int kind = in.read();
+                if (kind < 0) {
+                    return;
+                }
+                TrafficRecord record;
+                try {
+                    record = new TrafficRecord(
+                            KINDS[kind],
+                            in.readLong(),
+                            readVarLong(in),
+                            readString(in),
+                            readString(in),
+                            readHeaders(in),
+                            readBytes(in),
+                            (int) readVarLong(in),
+                            readHeaders(in),
+                            readBytes(in));
+                } catch (EOFException e) {
+                    log.warn("Traffic log {} ends with a truncated record; ignoring it", file);
+                    return;
+                }
+                consumer.accept(record);
+            }
+        }
+    }
+
+    public static List<TrafficRecord> readAll(Path file) throws IOException {
+        var records = new ArrayList<TrafficRecord>();
+        read(file, records::add);
+        return records;
+    }
+
+    /**
+     * Opens {@code file} for appending, creating it (and its parent directories) if needed.
+     */
+    public static Writer append(Path file) throws IOException {
+        var parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        boolean fresh = !Files.exists(file) || Files.size(file) == 0;
+        var out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND), 1 << 16));
+        if (fresh) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+        }
+        return new Writer(file, out);
+    }
+
+    /**
+     * Thread-safe appender. Records are buffered and reach the file on buffer overflow and on {@link #close()},
+     * which Spring calls at shutdown.
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path file;
+        private final DataOutputStream out;
+        // wall clock at open plus monotonic elapsed time: nanosecond spacing that does not jump with NTP
+        private final long epochNanosAtOpen = System.currentTimeMillis() * 1_000_000L;
+        private final long nanoTimeAtOpen = System.nanoTime();
+        private boolean failed;
+
+        private Writer(Path file, DataOutputStream out) {
+            this.file = file;
+            this.out = out;
+        }
+
+        public Path file() {
+            return file;
+        }
+
+        /** Epoch-based timestamp for {@code nanoTime}, a value of {@link System#nanoTime()}. */
+        public long epochNanos(long nanoTime) {
+            return epochNanosAtOpen + (nanoTime - nanoTimeAtOpen);
+        }
+
+        /**
+         * Appends one record. An I/O failure is logged once and turns the writer into a no-op: capture must never
+         * fail the traffic it observes.
+         */
+        public synchronized void append(TrafficRecord record) {
+            if (failed) {
+                return;
+            }
+            try {
+                out.write(record.kind().ordinal());
+                out.writeLong(record.startEpochNanos());
+                writeVarLong(out, record.durationNanos());
+                writeString(out, record.method());
+                writeString(out, record.target());
+                writeHeaders(out, record.requestHeaders());
+                writeBytes(out, record.requestBody());
+                writeVarLong(out, record.status());
+                writeHeaders(out, record.responseHeaders());
+                writeBytes(out, record.responseBody());
+            } catch (IOException e) {
+                failed = true;
+                log.error("Traffic capture to {} stopped: {}", file, e.toString());
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        var value = bytes == null ? new byte[0] : bytes;
+        writeVarLong(out, value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        var bytes = new byte[Math.toIntExact(readVarLong(in))];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeHeaders(DataOutputStream out, Map<String, String> headers) throws IOException {
+        var value = headers == null ? Map.<String, String>of() : headers;
+        writeVarLong(out, value.size());
+        for (var header : value.entrySet()) {
+            writeString(out, header.getKey());
+            writeString(out, header.getValue());
+        }
+    }
+
+    private static Map<String, String> readHeaders(DataInputStream in) throws IOException {
+        int count = Math.toIntExact(readVarLong(in));
+        var headers = new LinkedHashMap<String, String>(count * 2);
+        for (int i = 0; i < count; i++) {
+            headers.put(readString(in), readString(in));
+        }
+        return headers;
+    }
+}
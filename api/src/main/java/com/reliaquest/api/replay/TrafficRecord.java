@@ -0,0 +1,28 @@
+package com.reliaquest.api.replay;
+
+import java.util.Map;
+
+/**
+ * One captured request/response pair. {@code target} is the path plus query string; {@code startEpochNanos} is
+ * wall-clock based, so gaps between records (and between appended recording sessions) are preserved.
+ * Bodies are raw bytes as they crossed the wire; only the headers that affect replay are kept.
+ */
+public record TrafficRecord(
+        Kind kind,
+        long startEpochNanos,
+        long durationNanos,
+        String method,
+        String target,
+        Map<String, String> requestHeaders,
+        byte[] requestBody,
+        int status,
+        Map<String, String> responseHeaders,
+        byte[] responseBody) {
+
+    public enum Kind {
+        /** A request to EmployeeController, replayed by the driver. */
+        INBOUND,
+        /** An EmployeeClient exchange with a mock instance, served back by the replay stub. */
+        UPSTREAM
+    }
+}
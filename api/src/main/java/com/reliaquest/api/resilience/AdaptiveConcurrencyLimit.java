@@ -0,0 +1,147 @@
+package com.reliaquest.api.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Vegas-style adaptive limit on concurrent inbound requests.
+ *
+ * <p>The lowest RTT seen is taken as the no-load latency; each completed request then estimates how many requests
+ * are queued as {@code limit * (1 - minRtt / rtt)}. A short queue grows the limit, a long one shrinks it, both by
+ * {@code log10(limit)}, and a request that ran out of time cuts it multiplicatively. Every {@code probeInterval}
+ * samples the baseline is re-learned, so a permanently slower upstream does not pin the limit at the minimum.
+ *
+ * <p>The baseline is kept per {@link Priority}: a cached read answers in microseconds and an upstream read in
+ * milliseconds, so against one shared minimum every upstream sample would look like a long queue.
+ *
+ * <p>Each {@link Priority} may use only its share of the limit, so writes are shed first and cheap cached reads
+ * last. Acquiring never waits: excess requests are refused at once.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimit.class);
+
+    // queue-size thresholds, in multiples of log10(limit)
+    private static final int ALPHA = 3;
+    private static final int BETA = 6;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    public enum Priority {
+        /** GETs answered from the roster snapshot or the employee cache. */
+        CACHED_READ(1.0),
+        /** GETs that scan or batch-load from the upstream. */
+        READ(0.9),
+        /** Creates and deletes. */
+        WRITE(0.6);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int probeInterval;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+
+    // guarded by this; baselines indexed by Priority.ordinal()
+    private double estimate;
+    private final long[] minRttNanos = new long[Priority.values().length];
+    private final int[] samplesSinceProbe = new int[Priority.values().length];
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int probeInterval) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Require 1 <= minLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.probeInterval = probeInterval;
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimate;
+        Arrays.fill(minRttNanos, Long.MAX_VALUE);
+    }
+
+    /**
+     * Takes a slot when the priority's share of the limit has room; never blocks.
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a slot taken by {@link #tryAcquire} and feeds its round trip into the limit.
+     *
+     * @param priority the priority the slot was acquired with; its RTT is compared with that priority's baseline
+     * @param inFlightAtStart requests in flight when this one started, itself included
+     * @param dropped whether the request ran out of time
+     */
+    public void release(Priority priority, long rttNanos, int inFlightAtStart, boolean dropped) {
+        inFlight.decrementAndGet();
+        onSample(priority, rttNanos, inFlightAtStart, dropped);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(Priority priority, long rttNanos, int inFlightAtStart, boolean dropped) {
+        double current = estimate;
+        if (dropped) {
+            update(current, current * BACKOFF_RATIO, priority);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+        int p = priority.ordinal();
+        if (++samplesSinceProbe[p] >= probeInterval) {
+            samplesSinceProbe[p] = 0;
+            minRttNanos[p] = rttNanos;
+        }
+        minRttNanos[p] = Math.min(minRttNanos[p], rttNanos);
+
+        double queue = Math.ceil(current * (1 - (double) minRttNanos[p] / rttNanos));
+        double step = Math.max(1, Math.log10(current));
+        if (queue <= ALPHA * step) {
+            // only grow when the traffic actually used the current limit
+            if (inFlightAtStart * 2 >= current) {
+                update(current, current + step, priority);
+            }
+        } else if (queue >= BETA * step) {
+            update(current, current - step, priority);
+        }
+    }
+
+    private void update(double current, double next, Priority priority) {
+        estimate = Math.max(minLimit, Math.min(maxLimit, next));
+        int rounded = (int) estimate;
+        if (rounded != (int) current) {
+            log.debug(
+                    "Concurrency limit {} -> {} ({} min RTT {}us)",
+                    (int) current,
+                    rounded,
+                    priority,
+                    minRttNanos[priority.ordinal()] / 1000);
+        }
+        limit = rounded;
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.resilience;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounded concurrency for one kind of upstream call. Callers never queue: when every permit is taken the call
+ * is rejected at once, so a stalled upstream ties up at most {@code maxConcurrent} request threads per operation.
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+
+    public Bulkhead(String name, int maxConcurrent) {
+        this.name = name;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.permits = new Semaphore(this.maxConcurrent);
+    }
+
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    @Override
+    public String toString() {
+        return name + " bulkhead (" + inFlight() + "/" + maxConcurrent + ")";
+    }
+}
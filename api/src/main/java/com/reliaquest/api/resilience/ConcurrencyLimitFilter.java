@@ -0,0 +1,122 @@
+package com.reliaquest.api.resilience;
+
+import com.reliaquest.api.resilience.AdaptiveConcurrencyLimit.Priority;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admits employee requests through an {@link AdaptiveConcurrencyLimit}. Requests over the limit are answered
+ * with 503 and {@code Retry-After} before any work is done; admitted ones report their round trip when the
+ * response completes, including async (CompletableFuture) responses. A 504 counts as a dropped request.
+ *
+ * <p>Create job polls ({@code /employees/jobs/{id}}) bypass the limit: a long-poll waits on the dispatcher, not on
+ * this server's capacity, so it must neither hold a slot nor feed its wait to the limit as a round trip.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit concurrencyLimit, Duration retryAfter) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.retryAfterSeconds = Long.toString(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var priority = priorityOf(request);
+        if (!concurrencyLimit.tryAcquire(priority)) {
+            log.debug(
+                    "Shedding {} {} ({}): {} in flight, limit {}",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    priority,
+                    concurrencyLimit.inFlight(),
+                    concurrencyLimit.limit());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is at its concurrency limit");
+            return;
+        }
+        int inFlight = concurrencyLimit.inFlight();
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(priority, start, inFlight));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                release(priority, start, inFlight, response.getStatus());
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().contains("/employees/jobs/");
+    }
+
+    static Priority priorityOf(HttpServletRequest request) {
+        var method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return Priority.WRITE;
+        }
+        if (request.getRequestURI().contains("/search/") || request.getParameter("ids") != null) {
+            return Priority.READ;
+        }
+        return Priority.CACHED_READ;
+    }
+
+    private void release(Priority priority, long start, int inFlight, int status) {
+        boolean dropped = status == HttpStatus.GATEWAY_TIMEOUT.value();
+        concurrencyLimit.release(priority, System.nanoTime() - start, inFlight, dropped);
+    }
+
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        private final Priority priority;
+        private final long start;
+        private final int inFlight;
+
+        private ReleaseOnComplete(Priority priority, long start, int inFlight) {
+            this.priority = priority;
+            this.start = start;
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            // also called after a timeout or error, so this is the single release point
+            var response = (HttpServletResponse) event.getSuppliedResponse();
+            release(priority, start, inFlight, response.getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {}
+
+        @Override
+        public void onError(AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.resilience;
+
+import java.time.Duration;
+import java.util.function.Function;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Deadline of the inbound request being served. {@link DeadlineFilter} sets it on the request thread; upstream
+ * calls assembled on that thread carry it in the Reactor context via {@link #capture()}, cap their timeout at the
+ * remaining budget and forward that budget in {@value #HEADER}.
+ */
+public final class Deadline {
+
+    /** Remaining budget in milliseconds, accepted from callers and sent to the upstream. */
+    public static final String HEADER = "X-Request-Timeout";
+
+    static final String CONTEXT_KEY = "deadlineNanos";
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private Deadline() {}
+
+    static void set(long deadlineNanos) {
+        CURRENT.set(deadlineNanos);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The calling thread's deadline in {@link System#nanoTime()} terms, or null when it has none.
+     */
+    public static Long current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Copies the calling thread's deadline into the Reactor context, like {@code TraceContext.capture()}.
+     */
+    public static Function<Context, Context> capture() {
+        return capture(CURRENT.get());
+    }
+
+    /**
+     * Puts a deadline taken earlier with {@link #current()} into the Reactor context, for calls made on another
+     * thread on the request's behalf.
+     */
+    public static Function<Context, Context> capture(Long deadlineNanos) {
+        return ctx -> deadlineNanos == null ? ctx : ctx.put(CONTEXT_KEY, deadlineNanos);
+    }
+
+    /**
+     * Time left until the deadline in {@code ctx} (may be zero or negative), or null when the call has none.
+     */
+    public static Duration remaining(ContextView ctx) {
+        Long deadline = ctx.getOrDefault(CONTEXT_KEY, null);
+        return deadline == null ? null : Duration.ofNanos(deadline - System.nanoTime());
+    }
+}
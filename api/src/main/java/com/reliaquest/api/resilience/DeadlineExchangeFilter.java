@@ -0,0 +1,27 @@
+package com.reliaquest.api.resilience;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Forwards the remaining {@link Deadline} budget to the upstream in {@value Deadline#HEADER}, so a deadline-aware
+ * upstream can give up on work nobody will wait for.
+ */
+public class DeadlineExchangeFilter implements ExchangeFilterFunction {
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(ctx -> {
+            var remaining = Deadline.remaining(ctx);
+            if (remaining == null) {
+                return next.exchange(request);
+            }
+            return next.exchange(ClientRequest.from(request)
+                    .header(Deadline.HEADER, Long.toString(Math.max(0, remaining.toMillis())))
+                    .build());
+        });
+    }
+}
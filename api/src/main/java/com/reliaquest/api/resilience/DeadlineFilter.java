@@ -0,0 +1,47 @@
+package com.reliaquest.api.resilience;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts each inbound request's {@link Deadline}: the caller's {@value Deadline#HEADER} budget when given,
+ * otherwise the default, never more than the maximum.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final long defaultNanos;
+    private final long maxNanos;
+
+    public DeadlineFilter(Duration defaultBudget, Duration maxBudget) {
+        this.defaultNanos = defaultBudget.toNanos();
+        this.maxNanos = maxBudget.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long budget = Math.min(maxNanos, requested(request.getHeader(Deadline.HEADER)));
+        Deadline.set(System.nanoTime() + budget);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Deadline.clear();
+        }
+    }
+
+    private long requested(String header) {
+        if (header == null || header.isBlank()) {
+            return defaultNanos;
+        }
+        try {
+            return Math.max(0, Duration.ofMillis(Long.parseLong(header.trim())).toNanos());
+        } catch (NumberFormatException e) {
+            return defaultNanos;
+        }
+    }
+}
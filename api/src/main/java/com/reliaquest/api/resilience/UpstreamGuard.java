@@ -0,0 +1,134 @@
+package com.reliaquest.api.resilience;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Wraps upstream calls per {@link Operation} in, from the outside in: a deadline (the inbound request's remaining
+ * budget, capped by the operation's own timeout, on the whole call including a streamed body), a
+ * {@link CircuitBreaker} and a {@link Bulkhead}. Refused or timed-out calls fail with
+ * {@link UpstreamUnavailableException}.
+ *
+ * <p>Transport errors, timeouts, 5xx and 429 count as failures for the breaker; other 4xx answers (e.g. 404) and
+ * 501 (an endpoint this upstream does not serve) mean the upstream is healthy and count as successes.
+ */
+public class UpstreamGuard {
+
+    public enum Operation {
+        GET_ALL("get-all"),
+        GET_BY_ID("get-by-id"),
+        CREATE("create"),
+        DELETE("delete");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        /** Property key suffix, e.g. {@code resilience.bulkhead.get-all}. */
+        public String key() {
+            return key;
+        }
+    }
+
+    /** Limits for one operation. */
+    public record Limits(int maxConcurrent, Duration timeout) {}
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamGuard.class);
+
+    private final Map<Operation, Guard> guards = new EnumMap<>(Operation.class);
+
+    public UpstreamGuard(Map<Operation, Limits> limits, Function<Operation, CircuitBreaker> breakers) {
+        for (var operation : Operation.values()) {
+            var operationLimits = limits.get(operation);
+            guards.put(
+                    operation,
+                    new Guard(
+                            new Bulkhead(operation.key(), operationLimits.maxConcurrent()),
+                            breakers.apply(operation),
+                            operationLimits.timeout()));
+        }
+    }
+
+    public <T> Mono<T> guard(Operation operation, Mono<T> call) {
+        // singleOrEmpty waits for completion, so the outcome is recorded before the value is handed on
+        return guard(operation, call.flux()).singleOrEmpty();
+    }
+
+    public <T> Flux<T> guard(Operation operation, Flux<T> call) {
+        var guard = guards.get(operation);
+        return Flux.deferContextual(ctx -> {
+                    var timeout = guard.timeout();
+                    var remaining = Deadline.remaining(ctx);
+                    if (remaining != null && remaining.compareTo(timeout) < 0) {
+                        timeout = remaining;
+                    }
+                    if (timeout.isNegative() || timeout.isZero()) {
+                        return Flux.error(new UpstreamUnavailableException(
+                                HttpStatus.GATEWAY_TIMEOUT, "Request deadline exceeded before " + operation));
+                    }
+                    if (!guard.bulkhead().tryAcquire()) {
+                        log.warn("{} full, rejecting {}", guard.bulkhead(), operation);
+                        return Flux.error(new UpstreamUnavailableException(
+                                HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent " + operation + " calls"));
+                    }
+                    if (!guard.breaker().tryAcquirePermission()) {
+                        guard.bulkhead().release();
+                        return Flux.error(new UpstreamUnavailableException(
+                                HttpStatus.SERVICE_UNAVAILABLE,
+                                "Upstream circuit open for " + operation,
+                                guard.breaker().retryAfter()));
+                    }
+                    // a deadline on the whole call, not per item: a trickled body cannot outlive it
+                    long deadlineNanos = System.nanoTime() + timeout.toNanos();
+                    return call.timeout(Mono.delay(timeout), item -> Mono.delay(untilNanos(deadlineNanos)))
+                            .onErrorMap(TimeoutException.class, e -> new UpstreamUnavailableException(
+                                    HttpStatus.GATEWAY_TIMEOUT, "Upstream " + operation + " timed out", e))
+                            .doOnComplete(() -> guard.breaker().onSuccess())
+                            .doOnError(e -> {
+                                if (isFailure(e)) {
+                                    guard.breaker().onFailure();
+                                } else {
+                                    guard.breaker().onSuccess();
+                                }
+                            })
+                            .doFinally(signal -> {
+                                if (signal == SignalType.CANCEL) {
+                                    guard.breaker().onIgnored();
+                                }
+                                guard.bulkhead().release();
+                            });
+                })
+                .contextWrite(Deadline.capture());
+    }
+
+    public CircuitBreaker.State state(Operation operation) {
+        return guards.get(operation).breaker().state();
+    }
+
+    private static Duration untilNanos(long deadlineNanos) {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    static boolean isFailure(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            var status = response.getStatusCode();
+            return (status.is5xxServerError() && status.value() != HttpStatus.NOT_IMPLEMENTED.value())
+                    || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return true;
+    }
+
+    private record Guard(Bulkhead bulkhead, CircuitBreaker breaker, Duration timeout) {}
+}
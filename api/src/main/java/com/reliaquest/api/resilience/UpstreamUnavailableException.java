@@ -0,0 +1,40 @@
+package com.reliaquest.api.resilience;
+
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * An upstream call that was refused or abandoned by {@link UpstreamGuard}: 503 when the circuit is open or the
+ * bulkhead is full, 504 when the deadline ran out. Carries {@code Retry-After} when a retry time is known.
+ */
+public class UpstreamUnavailableException extends ResponseStatusException {
+
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(HttpStatus status, String reason) {
+        this(status, reason, (Duration) null);
+    }
+
+    public UpstreamUnavailableException(HttpStatus status, String reason, Duration retryAfter) {
+        super(status, reason);
+        this.retryAfter = retryAfter;
+    }
+
+    public UpstreamUnavailableException(HttpStatus status, String reason, Throwable cause) {
+        super(status, reason, cause);
+        this.retryAfter = null;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        if (retryAfter == null) {
+            return HttpHeaders.EMPTY;
+        }
+        var headers = new HttpHeaders();
+        // whole seconds, rounded up so clients never retry before the breaker half-opens
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+        return headers;
+    }
+}
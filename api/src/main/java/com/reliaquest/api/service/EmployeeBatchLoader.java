@@ -0,0 +1,194 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.resilience.Deadline;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import com.reliaquest.api.trace.TraceContext;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * DataLoader-style batching of single-employee lookups. Lookups arriving within {@code mock.batch.window-ms}
+ * of the first pending one are sent upstream as a single POST /employee/batch and the results fanned back
+ * out to the waiting callers. A batch that reaches {@code mock.batch.max-size} is dispatched immediately. A
+ * window of 0 disables batching.
+ *
+ * <p>The batched call is non-blocking, so batches do not queue behind each other. It carries the first caller's
+ * correlation id and the latest of the callers' deadlines; each caller waits only until its own deadline and then
+ * fails with 504.
+ */
+@Component
+public class EmployeeBatchLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeBatchLoader.class);
+
+    private final EmployeeClient employeeClient;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private Batch pending = new Batch();
+
+    public EmployeeBatchLoader(
+            EmployeeClient employeeClient,
+            @Value("${mock.batch.window-ms:5}") long windowMs,
+            @Value("${mock.batch.max-size:100}") int maxBatchSize) {
+        this.employeeClient = employeeClient;
+        this.windowMs = windowMs;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        // only fires the window timer; the upstream call itself never runs on this thread
+        this.scheduler = windowMs > 0
+                ? Executors.newSingleThreadScheduledExecutor(r -> {
+                    var t = new Thread(r, "employee-batch-loader");
+                    t.setDaemon(true);
+                    return t;
+                })
+                : null;
+    }
+
+    /**
+     * Returns the employee with the given id, or null if the upstream does not know it.
+     */
+    public Employee load(String id) {
+        if (scheduler == null) {
+            var resp = employeeClient.getById(id);
+            return resp == null ? null : resp.data();
+        }
+
+        var deadline = Deadline.current();
+        CompletableFuture<Employee> future;
+        Batch full = null;
+        synchronized (lock) {
+            var batch = pending;
+            future = batch.add(id, deadline, TraceContext.currentId());
+            if (batch.futures.size() >= maxBatchSize) {
+                full = batch;
+                pending = new Batch();
+            } else if (batch.futures.size() == 1) {
+                scheduler.schedule(() -> flush(batch), windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            var batch = full;
+            // sent from the loader thread too, so the batch's deadline is not replaced by this caller's
+            scheduler.execute(() -> dispatch(batch));
+        }
+        return await(future, deadline);
+    }
+
+    private static Employee await(CompletableFuture<Employee> future, Long deadline) {
+        try {
+            if (deadline == null) {
+                // still bounded: the batched call runs inside the upstream guard's timeout
+                return future.get();
+            }
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new UpstreamUnavailableException(
+                    HttpStatus.GATEWAY_TIMEOUT, "Request deadline exceeded waiting for a batched lookup", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException(
+                    HttpStatus.SERVICE_UNAVAILABLE, "Interrupted waiting for a batched lookup", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Looks up many ids directly (no window), in upstream batches of at most {@code mock.batch.max-size}.
+     * Unknown ids are absent from the returned map.
+     */
+    public Map<String, Employee> loadAll(Collection<String> ids) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<String, Employee> found = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += maxBatchSize) {
+            var chunk = distinct.subList(from, Math.min(distinct.size(), from + maxBatchSize));
+            var resp = employeeClient.getByIds(chunk);
+            if (resp != null && resp.data() != null) {
+                resp.data().forEach(e -> found.put(e.id(), e));
+            }
+        }
+        return found;
+    }
+
+    private void flush(Batch batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return; // already dispatched as a full batch
+            }
+            pending = new Batch();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+        log.debug("Dispatching batched lookup of {} ids", batch.futures.size());
+        Mono.defer(() -> employeeClient.fetchByIds(List.copyOf(batch.futures.keySet())))
+                .contextWrite(Deadline.capture(batch.deadline))
+                .contextWrite(TraceContext.capture(batch.correlationId))
+                .subscribe(
+                        resp -> {
+                            Map<String, Employee> found = new HashMap<>();
+                            if (resp.data() != null) {
+                                resp.data().forEach(e -> found.put(e.id(), e));
+                            }
+                            batch.futures.forEach((id, future) -> future.complete(found.get(id)));
+                        },
+                        e -> batch.futures.values().forEach(future -> future.completeExceptionally(e)),
+                        () -> batch.futures.values().forEach(future -> future.complete(null)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /** Lookups waiting for one upstream call; guarded by the loader's lock until dispatched. */
+    private static final class Batch {
+
+        private final Map<String, CompletableFuture<Employee>> futures = new LinkedHashMap<>();
+        private String correlationId;
+        private Long deadline;
+        private boolean unbounded;
+
+        CompletableFuture<Employee> add(String id, Long callerDeadline, String callerCorrelationId) {
+            if (futures.isEmpty()) {
+                correlationId = callerCorrelationId;
+            }
+            // the call must live as long as its most patient caller; one without a deadline lifts it
+            if (callerDeadline == null) {
+                unbounded = true;
+                deadline = null;
+            } else if (!unbounded && (deadline == null || callerDeadline - deadline > 0)) {
+                deadline = callerDeadline;
+            }
+            return futures.computeIfAbsent(id, ignored -> new CompletableFuture<>());
+        }
+    }
+}
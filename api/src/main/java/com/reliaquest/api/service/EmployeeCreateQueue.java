@@ -0,0 +1,250 @@
+package com.reliaquest.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.reliaquest.api.dto.CreateJobStatus;
+import com.reliaquest.api.dto.CreateJobStatus.State;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import com.reliaquest.api.trace.TraceContext;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Write-behind queue for employee creation. Accepted requests wait in a bounded in-process queue and a single
+ * background dispatcher sends them one at a time, pacing itself to the upstream: a 429 pauses dispatch (honouring
+ * Retry-After, else exponential backoff) before the job is retried.
+ *
+ * <p>POST /employee is not idempotent, so a job is only sent again when the upstream cannot have processed it: a 429
+ * or a refusal by the circuit breaker or bulkhead. Both are retried for at most {@code async.create.max-hold}; a job
+ * still throttled or refused after that fails, since nothing was created. A 5xx or a timeout may come after the
+ * employee was created, so those jobs end {@link State#UNKNOWN} instead of risking a duplicate.
+ */
+@Component
+public class EmployeeCreateQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeCreateQueue.class);
+    private static final long MAX_WAIT_MS = 25_000;
+
+    private final EmployeeService employeeService;
+    private final BlockingQueue<Job> queue;
+    private final Cache<String, Job> jobs;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration maxHold;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public EmployeeCreateQueue(
+            EmployeeService employeeService,
+            @Value("${async.create.queue-capacity:10000}") int capacity,
+            @Value("${async.create.initial-backoff:500ms}") Duration initialBackoff,
+            @Value("${async.create.max-backoff:30s}") Duration maxBackoff,
+            @Value("${async.create.max-hold:2m}") Duration maxHold,
+            @Value("${async.create.retention:10m}") Duration retention) {
+        this.employeeService = employeeService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxHold = maxHold;
+        // pending jobs never expire; finished ones are kept for polling for the retention period
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Job>() {
+                    @Override
+                    public long expireAfterCreate(String id, Job job, long currentTime) {
+                        return job.status().state() == State.PENDING ? Long.MAX_VALUE : retention.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String id, Job job, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, job, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String id, Job job, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.dispatcher = new Thread(this::dispatchLoop, "employee-create-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Enqueues a creation. Fails with 503 only if the queue itself is full.
+     */
+    public CreateJobStatus submit(EmployeeCreateRequest req) {
+        var job = new Job(UUID.randomUUID().toString(), req);
+        jobs.put(job.id, job);
+        if (!queue.offer(job)) {
+            jobs.invalidate(job.id);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Create queue is full");
+        }
+        log.debug("Queued create job {} (depth={})", job.id, queue.size());
+        return job.status();
+    }
+
+    /**
+     * Current status of a job, waiting up to {@code waitMs} for it to finish first.
+     */
+    public CompletableFuture<CreateJobStatus> status(String jobId, long waitMs) {
+        var job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown create job: " + jobId);
+        }
+        long wait = Math.max(0, Math.min(waitMs, MAX_WAIT_MS));
+        return job.done.copy()
+                .completeOnTimeout(null, wait, TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> job.status());
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                var job = queue.poll(1, TimeUnit.SECONDS);
+                if (job != null) {
+                    process(job);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void process(Job job) throws InterruptedException {
+        // keep the submitting request's correlation id on the upstream calls made for it
+        if (job.correlationId != null) {
+            MDC.put(TraceContext.MDC_KEY, job.correlationId);
+        }
+        try {
+            createWithRetry(job);
+        } finally {
+            MDC.remove(TraceContext.MDC_KEY);
+        }
+        jobs.put(job.id, job); // re-put so the finished job gets its retention expiry
+    }
+
+    private void createWithRetry(Job job) throws InterruptedException {
+        long backoffMs = initialBackoff.toMillis();
+        long holdUntil = System.nanoTime() + maxHold.toNanos();
+        while (true) {
+            try {
+                job.succeed(employeeService.createEmployee(job.request));
+                return;
+            } catch (WebClientResponseException.TooManyRequests e) {
+                long waitMs = retryAfterMs(e.getHeaders(), backoffMs);
+                if (pastHold(waitMs, holdUntil)) {
+                    job.fail(e.getStatusCode() + " " + e.getStatusText());
+                    return;
+                }
+                log.info("Create job {} throttled by upstream; retrying in {}ms", job.id, waitMs);
+                Thread.sleep(waitMs);
+                backoffMs = Math.min(backoffMs * 2, maxBackoff.toMillis());
+            } catch (WebClientResponseException e) {
+                if (e.getStatusCode().is5xxServerError()) {
+                    job.unknown(e.getStatusCode() + " " + e.getStatusText());
+                } else {
+                    job.fail(e.getStatusCode() + " " + e.getStatusText());
+                }
+                return;
+            } catch (UpstreamUnavailableException e) {
+                if (e.getStatusCode().value() == HttpStatus.GATEWAY_TIMEOUT.value()) {
+                    job.unknown(e.getStatusCode() + " " + e.getReason());
+                    return;
+                }
+                // refused by the circuit breaker or bulkhead before anything was sent
+                long waitMs = retryAfterMs(e.getHeaders(), backoffMs);
+                if (pastHold(waitMs, holdUntil)) {
+                    job.fail(e.getStatusCode() + " " + e.getReason());
+                    return;
+                }
+                log.info("Create job {} held back ({}); retrying in {}ms", job.id, e.getReason(), waitMs);
+                Thread.sleep(waitMs);
+                backoffMs = Math.min(backoffMs * 2, maxBackoff.toMillis());
+            } catch (RuntimeException e) {
+                job.fail(e.getMessage());
+                return;
+            }
+        }
+    }
+
+    // whether retrying after waitMs would run past the job's max-hold deadline
+    private static boolean pastHold(long waitMs, long holdUntil) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMs) - holdUntil > 0;
+    }
+
+    private long retryAfterMs(HttpHeaders headers, long fallbackMs) {
+        var retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Math.min(TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())), maxBackoff.toMillis());
+            } catch (NumberFormatException ignored) {
+                // HTTP-date form; fall back to our own backoff
+            }
+        }
+        return fallbackMs;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+    }
+
+    private static final class Job {
+
+        private final String id;
+        private final EmployeeCreateRequest request;
+        private final String correlationId = TraceContext.currentId();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile CreateJobStatus status;
+
+        private Job(String id, EmployeeCreateRequest request) {
+            this.id = id;
+            this.request = request;
+            this.status = new CreateJobStatus(id, State.PENDING, null, null);
+        }
+
+        CreateJobStatus status() {
+            return status;
+        }
+
+        void succeed(Employee employee) {
+            status = new CreateJobStatus(id, State.DONE, employee, null);
+            done.complete(null);
+        }
+
+        void fail(String error) {
+            status = new CreateJobStatus(id, State.FAILED, null, error);
+            done.complete(null);
+        }
+
+        void unknown(String error) {
+            log.warn("Create job {} ended without a known outcome: {}", id, error);
+            status = new CreateJobStatus(id, State.UNKNOWN, null, error);
+            done.complete(null);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.codec.EmployeeFields;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
 import java.util.List;
@@ -10,11 +11,19 @@ public interface EmployeeService {
 
     List<Employee> getEmployeesByNameSearch(String searchName);
 
+    /** Name search that fetches only {@code fields} (plus the name) from the upstream. */
+    List<Employee> getEmployeesByNameSearch(String searchName, EmployeeFields fields);
+
     Employee getEmployeeById(String Id);
 
-    int getHighestSalaryOfEmployees();
+    List<Employee> getEmployeesByIds(List<String> ids);
+
+    /** Recent roster read shared by the cacheable read endpoints; refreshed once it is older than its max age. */
+    RosterSnapshot getRosterSnapshot();
+
+    int getHighestSalaryOfEmployees(RosterSnapshot snapshot);
 
-    List<String> getTop10HighestEarningEmployeeNames();
+    List<String> getTop10HighestEarningEmployeeNames(RosterSnapshot snapshot);
 
     Employee createEmployee(EmployeeCreateRequest req);
 
@@ -1,14 +1,26 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeCache;
 import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.codec.EmployeeFields;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
-import java.util.Comparator;
+import com.reliaquest.api.jfr.ServiceOperationEvent;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -17,117 +29,317 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
     private static final Logger log = LoggerFactory.getLogger(EmployeeServiceImpl.class);
+    private static final int TOP_N = 10;
+    private static final int MAX_IDS_PER_REQUEST = 1000;
+    private static final Pattern UUID_PATTERN = Pattern.compile("[0-9a-fA-F\\-]{36}");
+
     private final EmployeeClient employeeClient;
+    private final EmployeeBatchLoader batchLoader;
+    private final EmployeeCache employeeCache;
+    // null when http.cache.anti-entropy is off: every refresh then reads the whole roster
+    private final RosterReplica rosterReplica;
+    private final long snapshotMaxAgeNanos;
+    private final Object snapshotLock = new Object();
+
+    private volatile RosterSnapshot snapshot;
+    private volatile long snapshotTakenAtNanos;
+    // last roster read successfully, kept across writes; the fallback while the upstream is unavailable
+    private volatile RosterSnapshot lastSnapshot;
 
-    public EmployeeServiceImpl(EmployeeClient employeeClient) {
+    public EmployeeServiceImpl(
+            EmployeeClient employeeClient,
+            EmployeeBatchLoader batchLoader,
+            EmployeeCache employeeCache,
+            Optional<RosterReplica> rosterReplica,
+            @Value("${http.cache.snapshot-max-age:2s}") Duration snapshotMaxAge) {
         this.employeeClient = employeeClient;
+        this.batchLoader = batchLoader;
+        this.employeeCache = employeeCache;
+        this.rosterReplica = rosterReplica.orElse(null);
+        this.snapshotMaxAgeNanos = snapshotMaxAge.toNanos();
     }
 
     @Override
     public List<Employee> getAllEmployees() {
-        var resp = employeeClient.getAll(); // ApiListResponse<Employee>
-        var list = (resp == null || resp.data() == null) ? List.<Employee>of() : resp.data();
-        log.info("Service.getAllEmployees -> size={}", list.size());
+        return observe("getAllEmployees", List::size, () -> readRoster().employees());
+    }
+
+    /**
+     * Reads the whole roster and refreshes the employee cache from it; only a read that reached every upstream
+     * node may rebuild the cache's Bloom filter.
+     */
+    private EmployeeClient.RosterRead readRoster() {
+        var roster = employeeClient.getAll();
+        if (roster == null) {
+            roster = new EmployeeClient.RosterRead(List.of(), false);
+        }
+        var list = roster.employees();
+        log.debug("Service.getAllEmployees -> size={}, complete={}", list.size(), roster.complete());
+        employeeCache.onRoster(list, roster.complete());
         if (!list.isEmpty()) {
             var first = list.get(0);
             log.debug("Employee: id={}, name={}", first.id(), first.employeeName());
         }
-        return list;
+        return roster;
+    }
+
+    private RosterSnapshot readSnapshot() {
+        var roster = readRoster();
+        return RosterSnapshot.of(roster.employees(), roster.complete());
     }
 
     @Override
     public List<Employee> getEmployeesByNameSearch(String emplName) {
-        log.debug("Service: getEmployeesByNameSearch({})", emplName);
-        String f = (emplName == null ? "" : emplName).toLowerCase(Locale.ROOT);
+        return getEmployeesByNameSearch(emplName, EmployeeFields.ALL);
+    }
 
-        List<Employee> all = getAllEmployees();
-        log.debug("Search base size={}", all.size());
+    @Override
+    public List<Employee> getEmployeesByNameSearch(String emplName, EmployeeFields fields) {
+        return observe("getEmployeesByNameSearch", List::size, () -> {
+            log.debug("Service: getEmployeesByNameSearch({})", emplName);
+            String f = (emplName == null ? "" : emplName).toLowerCase(Locale.ROOT);
 
-        if (f.isEmpty()) {
-            return all;
-        }
+            if (f.isEmpty()) {
+                return getAllEmployees();
+            }
 
-        return all.stream()
-                .filter(e -> {
-                    String name = e.employeeName();
-                    return name != null && name.toLowerCase(Locale.ROOT).contains(f);
-                })
-                .toList();
+            // the needle is folded once; names are compared in place instead of being lowercased per employee
+            Predicate<Employee> matchesName = e -> containsIgnoreCase(e.employeeName(), f);
+            try {
+                // a sparse fieldset is pushed down to the upstream, keeping the name needed for matching
+                var roster = fields.isAll()
+                        ? employeeClient.streamAll()
+                        : employeeClient.streamAll(fields.with(EmployeeFields.NAME));
+                // single pass over the streamed roster; only matches are retained
+                var matches = roster.filter(matchesName).collectList().block();
+                return matches == null ? List.of() : matches;
+            } catch (UpstreamUnavailableException e) {
+                return fallbackRoster(e).employees().stream().filter(matchesName).toList();
+            }
+        });
     }
 
     @Override
     public Employee getEmployeeById(String id) {
-        log.debug("service: getEmployeeById({})", id);
+        return observe("getEmployeeById", employee -> 1, () -> {
+            log.debug("service: getEmployeeById({})", id);
+            try {
+                // served from the cache when possible; concurrent misses are coalesced into one upstream batch
+                var employee = employeeCache.get(id, batchLoader::load);
+                if (employee == null) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found: " + id);
+                }
+                return employee;
+            } catch (WebClientResponseException.NotFound e) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found: " + id, e);
+            }
+        });
+    }
+
+    @Override
+    public List<Employee> getEmployeesByIds(List<String> ids) {
+        return observe("getEmployeesByIds", List::size, () -> {
+            log.debug("Service: getEmployeesByIds(count={})", ids.size());
+            if (ids.size() > MAX_IDS_PER_REQUEST) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "At most " + MAX_IDS_PER_REQUEST + " ids per request");
+            }
+            for (String id : ids) {
+                if (!UUID_PATTERN.matcher(id).matches()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid employee id: " + id);
+                }
+            }
+
+            // request order, duplicates collapsed, unknown ids skipped
+            var found = batchLoader.loadAll(ids);
+            return new LinkedHashSet<>(ids).stream().map(found::get).filter(Objects::nonNull).toList();
+        });
+    }
+
+    @Override
+    public RosterSnapshot getRosterSnapshot() {
+        return observe("getRosterSnapshot", roster -> roster.employees().size(), () -> {
+            var current = snapshot;
+            if (current != null && System.nanoTime() - snapshotTakenAtNanos < snapshotMaxAgeNanos) {
+                return current;
+            }
+            synchronized (snapshotLock) {
+                // single flight: callers that queued behind a refresh reuse its result
+                current = snapshot;
+                if (current != null && System.nanoTime() - snapshotTakenAtNanos < snapshotMaxAgeNanos) {
+                    return current;
+                }
+                try {
+                    current = rosterReplica == null ? readSnapshot() : syncReplica();
+                } catch (UpstreamUnavailableException e) {
+                    return fallbackRoster(e);
+                }
+                snapshot = current;
+                lastSnapshot = current;
+                snapshotTakenAtNanos = System.nanoTime();
+                return current;
+            }
+        });
+    }
+
+    /**
+     * Brings the replica up to date by Merkle-tree anti-entropy, fetching only the buckets that changed upstream.
+     * Falls back to reading the whole roster when the upstream cannot answer the sync (e.g. it predates it).
+     */
+    private RosterSnapshot syncReplica() {
         try {
-            var resp = employeeClient.getById(id);
-            if (resp == null || resp.data() == null) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found: " + id);
+            var synced = rosterReplica.sync();
+            if (synced != lastSnapshot) {
+                employeeCache.onRoster(synced.employees(), synced.complete());
+            } else if (synced.complete()) {
+                // the filter still matches the upstream roster, so its max age starts over
+                employeeCache.onRosterUnchanged();
             }
-            return resp.data();
-        } catch (WebClientResponseException.NotFound e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found: " + id, e);
+            return synced;
+        } catch (UpstreamUnavailableException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Anti-entropy sync failed ({}); reading the whole roster", e.toString());
+            return readSnapshot();
         }
     }
 
+    /**
+     * The last roster read successfully, served while the upstream is refused by its circuit breaker, bulkhead or
+     * deadline; rethrows when there is none yet.
+     */
+    private RosterSnapshot fallbackRoster(UpstreamUnavailableException e) {
+        var stale = lastSnapshot;
+        if (stale == null) {
+            throw e;
+        }
+        log.warn("Upstream unavailable ({}); serving last known roster {}", e.getReason(), stale.version());
+        return stale;
+    }
+
     @Override
-    public int getHighestSalaryOfEmployees() {
-        var all = getAllEmployees();
-        log.debug("Highest salary base size={}", all.size());
+    public int getHighestSalaryOfEmployees(RosterSnapshot snapshot) {
+        return highestSalary(snapshot.employees());
+    }
 
-        int max = all.stream().mapToInt(Employee::employeeSalary).max().orElse(0);
+    @Override
+    public List<String> getTop10HighestEarningEmployeeNames(RosterSnapshot snapshot) {
+        return topNames(snapshot.employees());
+    }
 
-        log.info("Highest salary = {}", max);
+    static int highestSalary(List<Employee> employees) {
+        int max = 0;
+        for (var employee : employees) {
+            max = Math.max(max, employee.employeeSalary());
+        }
         return max;
     }
 
-    @Override
-    public List<String> getTop10HighestEarningEmployeeNames() {
-        log.debug("Service: getTop10HighestEarningEmployeeNames()");
-        return getAllEmployees().stream()
-                .sorted(Comparator.comparingInt(Employee::employeeSalary).reversed())
-                .limit(10)
-                .map(Employee::employeeName)
-                .collect(Collectors.toList());
+    /**
+     * Whether {@code name} contains {@code foldedNeedle} (already lowercased) ignoring case, compared in place
+     * without allocating a lowercased copy of the name.
+     */
+    static boolean containsIgnoreCase(String name, String foldedNeedle) {
+        if (name == null) {
+            return false;
+        }
+        int length = foldedNeedle.length();
+        for (int i = 0, last = name.length() - length; i <= last; i++) {
+            if (name.regionMatches(true, i, foldedNeedle, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Names of the {@value #TOP_N} best paid employees, highest first; the earlier employee wins a tie. A single pass
+     * with insertion into a fixed array: no boxing, heap or stream.
+     */
+    static List<String> topNames(List<Employee> employees) {
+        var top = new Employee[TOP_N];
+        int size = 0;
+        for (var employee : employees) {
+            int salary = employee.employeeSalary();
+            if (size == TOP_N && salary <= top[TOP_N - 1].employeeSalary()) {
+                continue;
+            }
+            int i = size < TOP_N ? size++ : TOP_N - 1;
+            while (i > 0 && top[i - 1].employeeSalary() < salary) {
+                top[i] = top[i - 1];
+                i--;
+            }
+            top[i] = employee;
+        }
+        var names = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = top[i].employeeName();
+        }
+        return Arrays.asList(names);
+    }
+
+    /**
+     * Runs one service operation inside a {@link ServiceOperationEvent}; a field check when JFR is not recording.
+     */
+    private static <T> T observe(String operation, ToIntFunction<T> resultSize, Supplier<T> call) {
+        var event = ServiceOperationEvent.begin(operation);
+        try {
+            T result = call.get();
+            event.succeeded(result == null ? 0 : resultSize.applyAsInt(result));
+            return result;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        }
     }
 
     @Override
     public Employee createEmployee(EmployeeCreateRequest req) {
-        log.debug(
-                "Service: createEmployee(name={}, salary={}, age={}, title={})",
-                req.name(),
-                req.salary(),
-                req.age(),
-                req.title());
-        var resp = employeeClient.create(req);
-        if (resp == null || resp.data() == null) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Create failed");
-        }
-        return resp.data();
+        return observe("createEmployee", employee -> 1, () -> {
+            log.debug(
+                    "Service: createEmployee(name={}, salary={}, age={}, title={})",
+                    req.name(),
+                    req.salary(),
+                    req.age(),
+                    req.title());
+            var resp = employeeClient.create(req);
+            if (resp == null || resp.data() == null) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Create failed");
+            }
+            employeeCache.put(resp.data());
+            snapshot = null;
+            return resp.data();
+        });
     }
 
     // in EmployeeServiceImpl
     @Override
     public String deleteEmployeeById(String id) {
-        log.info("Service: delete by id={}", id);
-
-        // fetch by id (so we get the current name in THIS dataset run)
-        var resp = employeeClient.getById(id); // may throw WebClientResponseException.NotFound
-        var emp = resp == null ? null : resp.data();
-        if (emp == null || emp.employeeName() == null || emp.employeeName().isBlank()) {
-            throw new org.springframework.web.server.ResponseStatusException(
-                    org.springframework.http.HttpStatus.NOT_FOUND, "Employee not found: " + id);
-        }
-        String name = emp.employeeName();
-
-        // delete by name
-        boolean ok = employeeClient.deleteByName(name);
-        if (!ok) {
-            // treat as not-found rather than 500
-            throw new org.springframework.web.server.ResponseStatusException(
-                    org.springframework.http.HttpStatus.NOT_FOUND, "Employee not found when deleting by name: " + name);
-        }
+        return observe("deleteEmployeeById", name -> 1, () -> {
+            log.info("Service: delete by id={}", id);
+
+            // fetch by id (so we get the current name in THIS dataset run)
+            var resp = employeeClient.getById(id); // may throw WebClientResponseException.NotFound
+            var emp = resp == null ? null : resp.data();
+            if (emp == null || emp.employeeName() == null || emp.employeeName().isBlank()) {
+                throw new org.springframework.web.server.ResponseStatusException(
+                        org.springframework.http.HttpStatus.NOT_FOUND, "Employee not found: " + id);
+            }
+            String name = emp.employeeName();
+
+            // delete by name
+            boolean ok = employeeClient.deleteByName(id, name);
+            if (!ok) {
+                // treat as not-found rather than 500
+                throw new org.springframework.web.server.ResponseStatusException(
+                        org.springframework.http.HttpStatus.NOT_FOUND,
+                        "Employee not found when deleting by name: " + name);
+            }
 
-        log.info("Service: deleted '{}'(id={})", name, id);
-        return name;
+            employeeCache.invalidate(id);
+            snapshot = null;
+            log.info("Service: deleted '{}'(id={})", name, id);
+            return name;
+        });
     }
 }
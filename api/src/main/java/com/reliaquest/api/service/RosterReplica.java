@@ -0,0 +1,207 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.UpstreamCluster;
+import com.reliaquest.api.client.UpstreamNode;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.MerkleRoot;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Local copy of every upstream roster, kept fresh by Merkle-tree anti-entropy instead of full refetches.
+ *
+ * <p>Each mock instance hashes its roster into a tree of id-hash buckets. Per node, the replica remembers the
+ * hashes it last reconciled. A sync compares the root, then asks only for the children of nodes that differ,
+ * level by level, and finally fetches just the leaf buckets that differ. An unchanged roster costs one small
+ * request; a changed one costs a few requests plus the changed buckets, whatever the roster size.
+ *
+ * <p>The replica does not hash anything itself: it only compares the server's answers with the server's earlier
+ * answers. New hashes are adopted only once a node's sync has completed, so a failed sync is simply retried in
+ * full next time. Employees are listed bucket by bucket rather than in upstream insertion order.
+ *
+ * <p>A node that answers the Merkle root with 501 (a mock server on a virtual dataset) has no tree to compare. It
+ * is not asked again: every later sync reads that node's whole roster instead.
+ */
+@Component
+@ConditionalOnProperty(value = "http.cache.anti-entropy", havingValue = "true", matchIfMissing = true)
+public class RosterReplica {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterReplica.class);
+
+    private final EmployeeClient employeeClient;
+    private final UpstreamCluster cluster;
+    private final int maxBucketsPerRequest;
+    private final Map<String, NodeReplica> replicas = new HashMap<>();
+
+    private RosterSnapshot snapshot;
+    private List<UpstreamNode> snapshotNodes = List.of();
+
+    public RosterReplica(
+            EmployeeClient employeeClient,
+            UpstreamCluster cluster,
+            @Value("${http.cache.anti-entropy-batch:1024}") int maxBucketsPerRequest) {
+        this.employeeClient = employeeClient;
+        this.cluster = cluster;
+        this.maxBucketsPerRequest = maxBucketsPerRequest;
+    }
+
+    /**
+     * Reconciles every healthy node and returns the combined roster; the previous snapshot instance when nothing
+     * changed. Upstream failures propagate, leaving the replica as it was for the failed node.
+     */
+    public synchronized RosterSnapshot sync() {
+        var nodes = cluster.healthyNodes();
+        boolean changed = snapshot == null || !nodes.equals(snapshotNodes);
+        for (var node : nodes) {
+            changed |= replicas.computeIfAbsent(node.baseUrl(), url -> new NodeReplica()).sync(node);
+        }
+        if (changed) {
+            var employees = new ArrayList<Employee>();
+            for (var node : nodes) {
+                replicas.get(node.baseUrl()).appendTo(employees);
+            }
+            // healthyNodes() falls back to every node when all are ejected, so equal sizes mean nothing was skipped
+            snapshot = RosterSnapshot.of(employees, nodes.size() == cluster.nodes().size());
+            snapshotNodes = nodes;
+        }
+        return snapshot;
+    }
+
+    /** The roster of one mock instance as of its last completed sync. */
+    private final class NodeReplica {
+
+        private int fanout;
+        private int depth;
+        // hashes[level][node] as last reconciled; null means never seen, which never matches
+        private String[][] hashes = new String[0][];
+        private List<List<Employee>> buckets = List.of();
+        // set once the node has answered 501: its whole roster, reread on every sync
+        private List<Employee> wholeRoster;
+
+        /** @return whether anything changed */
+        boolean sync(UpstreamNode node) {
+            if (wholeRoster != null) {
+                wholeRoster = readWhole(node);
+                return true;
+            }
+            MerkleRoot root;
+            try {
+                root = employeeClient.merkleRoot(node);
+            } catch (WebClientResponseException.NotImplemented e) {
+                log.info("{} does not serve a Merkle tree; reading its whole roster from now on", node);
+                wholeRoster = readWhole(node);
+                return true;
+            }
+            if (root == null) {
+                throw new IllegalStateException("No Merkle root from " + node);
+            }
+            if (root.fanout() != fanout || root.depth() != depth) {
+                reset(root.fanout(), root.depth());
+            }
+            if (root.hash().equals(hashes[0][0])) {
+                return false;
+            }
+
+            // walk down: at each level keep only the nodes whose hash differs from the reconciled one
+            var adopted = new HashMap<Integer, Map<Integer, String>>();
+            var mismatched = List.of(0);
+            for (int level = 1; level <= depth && !mismatched.isEmpty(); level++) {
+                var differing = new ArrayList<Integer>();
+                var levelHashes = new HashMap<Integer, String>();
+                for (var parents : chunks(mismatched, maxBucketsPerRequest)) {
+                    var children = employeeClient.merkleChildren(node, level, parents);
+                    for (int parent : parents) {
+                        var childHashes = children.get(parent);
+                        if (childHashes == null || childHashes.size() != fanout) {
+                            throw new IllegalStateException("Incomplete Merkle level " + level + " from " + node);
+                        }
+                        for (int k = 0; k < fanout; k++) {
+                            int child = parent * fanout + k;
+                            var hash = childHashes.get(k);
+                            if (!Objects.equals(hash, hashes[level][child])) {
+                                differing.add(child);
+                                // a leaf hash is adopted from its bucket read below, never from the walk
+                                if (level < depth) {
+                                    levelHashes.put(child, hash);
+                                }
+                            }
+                        }
+                    }
+                }
+                adopted.put(level, levelHashes);
+                mismatched = differing;
+            }
+
+            // leaves: refetch the differing buckets; each comes with the hash of exactly what was read
+            var fetched = new HashMap<Integer, List<Employee>>();
+            var leafHashes = new HashMap<Integer, String>();
+            for (var ids : chunks(mismatched, maxBucketsPerRequest)) {
+                for (var bucket : employeeClient.merkleBuckets(node, ids)) {
+                    fetched.put(bucket.bucket(), bucket.employees() == null ? List.of() : bucket.employees());
+                    leafHashes.put(bucket.bucket(), bucket.hash());
+                }
+            }
+            if (!fetched.keySet().containsAll(mismatched)) {
+                // adopting the inner hashes now would hide the missing buckets from every later sync
+                throw new IllegalStateException("Incomplete bucket answer from " + node);
+            }
+            adopted.put(depth, leafHashes);
+
+            hashes[0][0] = root.hash();
+            adopted.forEach((level, levelHashes) -> levelHashes.forEach((i, hash) -> hashes[level][i] = hash));
+            fetched.forEach(buckets::set);
+            log.debug(
+                    "Anti-entropy sync {}: refetched {} of {} buckets, {} employees",
+                    node,
+                    fetched.size(),
+                    buckets.size(),
+                    fetched.values().stream().mapToInt(List::size).sum());
+            return true;
+        }
+
+        void appendTo(List<Employee> employees) {
+            if (wholeRoster != null) {
+                employees.addAll(wholeRoster);
+            } else {
+                buckets.forEach(employees::addAll);
+            }
+        }
+
+        private List<Employee> readWhole(UpstreamNode node) {
+            var employees = employeeClient.stream(node).collectList().block();
+            return employees == null ? List.of() : employees;
+        }
+
+        private void reset(int fanout, int depth) {
+            this.fanout = fanout;
+            this.depth = depth;
+            hashes = new String[depth + 1][];
+            for (int level = 0, width = 1; level <= depth; level++, width *= fanout) {
+                hashes[level] = new String[width];
+            }
+            var empty = new ArrayList<List<Employee>>(hashes[depth].length);
+            for (int b = 0; b < hashes[depth].length; b++) {
+                empty.add(List.of());
+            }
+            buckets = empty;
+        }
+    }
+
+    private static List<List<Integer>> chunks(List<Integer> values, int size) {
+        var chunks = new ArrayList<List<Integer>>();
+        for (int from = 0; from < values.size(); from += size) {
+            chunks.add(values.subList(from, Math.min(values.size(), from + size)));
+        }
+        return chunks;
+    }
+}
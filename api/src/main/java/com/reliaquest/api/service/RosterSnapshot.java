@@ -0,0 +1,41 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.Employee;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One immutable read of the upstream roster. {@code version} is a content hash, so equal rosters get equal
+ * versions (also across restarts and instances) and any change yields a new one; it backs the strong ETags
+ * on the read endpoints. {@code complete} is false when the read skipped ejected upstream nodes.
+ */
+public record RosterSnapshot(String version, List<Employee> employees, boolean complete) {
+
+    public static RosterSnapshot of(List<Employee> employees) {
+        return of(employees, true);
+    }
+
+    public static RosterSnapshot of(List<Employee> employees, boolean complete) {
+        var copy = List.copyOf(employees);
+        long h = 0xcbf29ce484222325L;
+        for (Employee e : copy) {
+            h = mix(h, Objects.hashCode(e.id()));
+            h = mix(h, Objects.hashCode(e.employeeName()));
+            h = mix(h, e.employeeSalary());
+            h = mix(h, e.employeeAge());
+            h = mix(h, Objects.hashCode(e.employeeTitle()));
+            h = mix(h, Objects.hashCode(e.employeeEmail()));
+        }
+        return new RosterSnapshot(Long.toHexString(mix(h, copy.size())), copy, complete);
+    }
+
+    // MurmurHash3 finalizer over (hash ^ value): cheap, order-sensitive, and well spread
+    private static long mix(long h, int value) {
+        h ^= value;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
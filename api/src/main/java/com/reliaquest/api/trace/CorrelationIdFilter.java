@@ -0,0 +1,41 @@
+package com.reliaquest.api.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Assigns each inbound request a correlation id (or adopts the caller's {@value TraceContext#HEADER}),
+ * exposes it in the MDC and response header, and records the request as the root span.
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    private final SpanRecorder spanRecorder;
+
+    public CorrelationIdFilter(SpanRecorder spanRecorder) {
+        this.spanRecorder = spanRecorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String id = request.getHeader(TraceContext.HEADER);
+        if (id == null || id.isBlank() || id.length() > 64) {
+            id = TraceContext.newId();
+        }
+        long start = System.nanoTime();
+        MDC.put(TraceContext.MDC_KEY, id);
+        response.setHeader(TraceContext.HEADER, id);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            spanRecorder.record(
+                    id, "api " + request.getMethod() + " " + request.getRequestURI(), start, response.getStatus());
+            MDC.remove(TraceContext.MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.trace;
+
+/**
+ * One timed hop of a traced request.
+ *
+ * @param traceId correlation id shared by every hop of the same inbound request
+ * @param name hop description, e.g. "api GET /api/v1/employees/{id}" or "upstream DELETE /employee"
+ * @param startEpochMs wall-clock start of the hop
+ * @param durationMicros elapsed time of the hop
+ * @param status HTTP status of the hop, or 0 if it failed without a response
+ */
+public record Span(String traceId, String name, long startEpochMs, long durationMicros, int status) {}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring buffer of the most recent spans. Writers claim a slot with a single
+ * getAndIncrement and overwrite whatever was there, so recording never blocks and never allocates
+ * beyond the span itself. Readers get a best-effort view of the latest spans.
+ */
+public class SpanRecorder {
+
+    private final boolean enabled;
+    private final AtomicReferenceArray<Span> slots;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public SpanRecorder(boolean enabled, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.enabled = enabled;
+        this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+        this.mask = slots.length() - 1;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a hop that started at {@code startNanos} (from {@link System#nanoTime()}) and ends now.
+     */
+    public void record(String traceId, String name, long startNanos, int status) {
+        if (!enabled) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long startEpochMs = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        var span = new Span(traceId, name, startEpochMs, TimeUnit.NANOSECONDS.toMicros(elapsedNanos), status);
+        slots.lazySet((int) (cursor.getAndIncrement() & mask), span);
+    }
+
+    /**
+     * Returns up to {@code limit} of the most recent spans, newest first, optionally restricted to one trace.
+     */
+    public List<Span> recent(String traceId, int limit) {
+        long end = cursor.get();
+        long start = Math.max(0, end - slots.length());
+        List<Span> out = new ArrayList<>(Math.min(limit, slots.length()));
+        for (long seq = end - 1; seq >= start && out.size() < limit; seq--) {
+            Span span = slots.get((int) (seq & mask));
+            if (span != null && (traceId == null || traceId.equals(span.traceId()))) {
+                out.add(span);
+            }
+        }
+        return out;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.api.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import org.slf4j.MDC;
+import reactor.util.context.Context;
+
+/**
+ * Correlation id plumbing. The id of the request being served lives in the logging MDC of the request
+ * thread; reactive upstream calls pick it up from the Reactor context via {@link #capture()}.
+ */
+public final class TraceContext {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    private TraceContext() {}
+
+    /** Cheap 64-bit random id; uniqueness only needs to hold across the span buffer's window. */
+    public static String newId() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    public static String currentId() {
+        return MDC.get(MDC_KEY);
+    }
+
+    /**
+     * Copies the calling thread's correlation id into the Reactor context, for use with
+     * {@code contextWrite} on calls that are assembled on the request thread but run elsewhere.
+     */
+    public static Function<Context, Context> capture() {
+        return capture(currentId());
+    }
+
+    /**
+     * Puts a correlation id taken earlier with {@link #currentId()} into the Reactor context.
+     */
+    public static Function<Context, Context> capture(String id) {
+        return ctx -> id == null ? ctx : ctx.put(MDC_KEY, id);
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.trace;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Propagates the correlation id to the mock API and records every upstream exchange as a span,
+ * timed until response headers arrive. Each fallback attempt is its own exchange and so its own span.
+ */
+public class TracingExchangeFilter implements ExchangeFilterFunction {
+
+    private final SpanRecorder spanRecorder;
+
+    public TracingExchangeFilter(SpanRecorder spanRecorder) {
+        this.spanRecorder = spanRecorder;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(ctx -> {
+            String id = ctx.getOrDefault(TraceContext.MDC_KEY, null);
+            if (id == null) {
+                return next.exchange(request);
+            }
+            var traced = ClientRequest.from(request).header(TraceContext.HEADER, id).build();
+            String name = "upstream " + request.method() + " " + request.url().getPath();
+            long start = System.nanoTime();
+            return next.exchange(traced)
+                    .doOnNext(resp -> spanRecorder.record(id, name, start, resp.statusCode().value()))
+                    .doOnError(e -> spanRecorder.record(id, name, start, 0));
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package com.reliaquest.api.replay;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Replays the {@link TrafficRecord.Kind#INBOUND} requests of a traffic log against a running api and reports
+ * latency per endpoint next to the latency recorded at capture time.
+ *
+ * <pre>
+ *   ./gradlew :api:replayDriver -Preplay.file=build/traffic/api.traffic [-Preplay.target=http://localhost:8111]
+ *                               [-Preplay.speed=1] [-Preplay.max-gap=5s] [-Preplay.concurrency=16]
+ * </pre>
+ *
+ * With a positive {@code replay.speed} the load is open-loop. Each request is sent at its recorded offset divided
+ * by the speed, whatever happened to earlier requests. Latency is measured from that intended send time, so a
+ * stalled api shows up as queueing instead of being hidden by a slower send rate. Idle gaps longer than
+ * {@code replay.max-gap}, such as the gap between two appended recording sessions, are shortened to it. Speed 0
+ * drops the timing: requests go out in recorded order, {@code replay.concurrency} at a time, as fast as the api
+ * answers.
+ *
+ * <p>Run it against an api whose upstream is {@link ReplayStubServer}, and the whole loop stays on the machine.
+ */
+public final class ReplayDriver {
+
+    private static final Pattern UUID_SEGMENT =
+            Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+    private static final Pattern SEARCH_SEGMENT = Pattern.compile("/search/[^/]+");
+
+    private ReplayDriver() {}
+
+    public static void main(String[] args) throws IOException {
+        var file = Path.of(ReplayStubServer.requiredProperty("replay.file"));
+        var target = System.getProperty("replay.target", "http://localhost:8111");
+        double speed = Double.parseDouble(System.getProperty("replay.speed", "1"));
+        long maxGapNanos = DurationStyle.detectAndParse(System.getProperty("replay.max-gap", "5s"))
+                .toNanos();
+        int concurrency = Integer.getInteger("replay.concurrency", 16);
+
+        var requests = new ArrayList<TrafficRecord>();
+        TrafficLog.read(file, record -> {
+            if (record.kind() == TrafficRecord.Kind.INBOUND) {
+                requests.add(record);
+            }
+        });
+        requests.sort(Comparator.comparingLong(TrafficRecord::startEpochNanos));
+        if (requests.isEmpty()) {
+            System.out.println("No inbound requests in " + file);
+            return;
+        }
+
+        var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        var stats = new ConcurrentHashMap<String, Stats>();
+        var inFlight = new ArrayList<CompletableFuture<?>>(requests.size());
+        var permits = new Semaphore(concurrency);
+
+        long begin = System.nanoTime();
+        long offset = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            var record = requests.get(i);
+            long intended;
+            if (speed > 0) {
+                if (i > 0) {
+                    long gap = record.startEpochNanos() - requests.get(i - 1).startEpochNanos();
+                    offset += (long) (Math.min(gap, maxGapNanos) / speed);
+                }
+                intended = begin + offset;
+                for (long wait; (wait = intended - System.nanoTime()) > 0; ) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                permits.acquireUninterruptibly();
+                intended = System.nanoTime();
+            }
+            var endpoint = stats.computeIfAbsent(endpoint(record), Stats::new);
+            inFlight.add(client.sendAsync(request(target, record), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        endpoint.add(
+                                System.nanoTime() - intended,
+                                record.durationNanos(),
+                                error != null,
+                                response != null && response.statusCode() != record.status());
+                        if (speed <= 0) {
+                            permits.release();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        System.out.printf(
+                "%nReplayed %d requests from %s against %s in %.1f s (%.0f req/s, speed %s)%n",
+                requests.size(),
+                file,
+                target,
+                seconds,
+                requests.size() / seconds,
+                speed > 0 ? speed + "x" : "unpaced, concurrency " + concurrency);
+        System.out.printf(
+                "%n%-52s %7s %9s %9s %9s %9s %12s %8s %7s%n",
+                "endpoint", "count", "p50 ms", "p90 ms", "p99 ms", "max ms", "rec p50 ms", "st diff", "errors");
+        new TreeMap<String, Stats>(stats).values().forEach(Stats::print);
+    }
+
+    private static HttpRequest request(String target, TrafficRecord record) {
+        var body = record.requestBody().length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(record.requestBody());
+        var builder = HttpRequest.newBuilder(URI.create(target + record.target()))
+                .timeout(Duration.ofSeconds(60))
+                .method(record.method(), body);
+        record.requestHeaders().forEach(builder::header);
+        return builder.build();
+    }
+
+    /** Method plus path with ids and search terms folded, e.g. {@code GET /api/v1/employees/{id}}. */
+    static String endpoint(TrafficRecord record) {
+        var target = record.target();
+        int query = target.indexOf('?');
+        var path = query < 0 ? target : target.substring(0, query);
+        path = UUID_SEGMENT.matcher(path).replaceAll("/{id}");
+        path = SEARCH_SEGMENT.matcher(path).replaceAll("/search/{name}");
+        return record.method() + " " + path;
+    }
+
+    private static final class Stats {
+
+        private final String endpoint;
+        private final List<Long> latencies = new ArrayList<>();
+        private final List<Long> recorded = new ArrayList<>();
+        private int errors;
+        private int statusMismatches;
+
+        private Stats(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        synchronized void add(long latencyNanos, long recordedNanos, boolean error, boolean statusMismatch) {
+            latencies.add(latencyNanos);
+            recorded.add(recordedNanos);
+            errors += error ? 1 : 0;
+            statusMismatches += statusMismatch ? 1 : 0;
+        }
+
+        synchronized void print() {
+            var sorted = sorted(latencies);
+            System.out.printf(
+                    "%-52s %7d %9.2f %9.2f %9.2f %9.2f %12.2f %8d %7d%n",
+                    endpoint,
+                    sorted.length,
+                    millis(sorted, 0.50),
+                    millis(sorted, 0.90),
+                    millis(sorted, 0.99),
+                    millis(sorted, 1.0),
+                    millis(sorted(recorded), 0.50),
+                    statusMismatches,
+                    errors);
+        }
+
+        private static long[] sorted(List<Long> values) {
+            var array = values.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(array);
+            return array;
+        }
+
+        private static double millis(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+}
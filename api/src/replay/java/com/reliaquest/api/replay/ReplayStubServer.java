@@ -0,0 +1,137 @@
+package com.reliaquest.api.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stands in for the mock API: serves the {@link TrafficRecord.Kind#UPSTREAM} exchanges of a traffic log back over
+ * HTTP, so the api can run against recorded upstream behaviour with no network.
+ *
+ * <pre>
+ *   ./gradlew :api:replayStub -Preplay.file=build/traffic/api.traffic [-Preplay.port=8112] [-Preplay.speed=1]
+ * </pre>
+ *
+ * A request is matched on method, path, query and body, then on method, path and query alone (batch bodies depend
+ * on how lookups were coalesced). The answers recorded for one key are served in recorded order and then cycle.
+ * Each answer is delayed by its recorded upstream latency divided by {@code replay.speed}. With speed 0 there is
+ * no delay. An unknown request gets 404.
+ *
+ * <p>The default port is the mock API's, so the api needs no configuration change. To replay a sharded setup, start
+ * the api with {@code mock.base-url} pointing at the stub instead.
+ */
+public final class ReplayStubServer {
+
+    private ReplayStubServer() {}
+
+    public static void main(String[] args) throws IOException {
+        var file = Path.of(requiredProperty("replay.file"));
+        int port = Integer.getInteger("replay.port", 8112);
+        double speed = Double.parseDouble(System.getProperty("replay.speed", "1"));
+
+        var exact = new HashMap<String, Answers>();
+        var byTarget = new HashMap<String, Answers>();
+        TrafficLog.read(file, record -> {
+            if (record.kind() == TrafficRecord.Kind.UPSTREAM) {
+                var key = exactKey(record.method(), record.target(), record.requestBody());
+                exact.computeIfAbsent(key, k -> new Answers()).add(record);
+                byTarget.computeIfAbsent(targetKey(record.method(), record.target()), k -> new Answers())
+                        .add(record);
+            }
+        });
+
+        var server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            try {
+                serve(exchange, exact, byTarget, speed);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        System.out.printf(
+                "Replaying %d recorded upstream requests (%d distinct) from %s on port %d, speed %s%n",
+                byTarget.values().stream().mapToInt(answers -> answers.records.size()).sum(),
+                exact.size(),
+                file,
+                port,
+                speed == 0 ? "unpaced" : speed + "x");
+    }
+
+    private static void serve(
+            HttpExchange exchange, Map<String, Answers> exact, Map<String, Answers> byTarget, double speed)
+            throws IOException {
+        var method = exchange.getRequestMethod();
+        var uri = exchange.getRequestURI();
+        var target = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        var body = exchange.getRequestBody().readAllBytes();
+
+        var answers = exact.get(exactKey(method, target, body));
+        if (answers == null) {
+            answers = byTarget.get(targetKey(method, target));
+        }
+        if (answers == null) {
+            var notFound = "{\"status\":\"No recorded response\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(404, notFound.length);
+            exchange.getResponseBody().write(notFound);
+            return;
+        }
+
+        var record = answers.next();
+        if (speed > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep((long) (record.durationNanos() / speed));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        record.responseHeaders().forEach(exchange.getResponseHeaders()::add);
+        var response = record.responseBody();
+        exchange.sendResponseHeaders(record.status(), response.length == 0 ? -1 : response.length);
+        exchange.getResponseBody().write(response);
+    }
+
+    private static String exactKey(String method, String target, byte[] body) {
+        return method + " " + target + " " + new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static String targetKey(String method, String target) {
+        return method + " " + target;
+    }
+
+    static String requiredProperty(String name) {
+        var value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Set -P" + name + " (system property " + name + ")");
+        }
+        return value;
+    }
+
+    /** The answers recorded for one request key, handed out in order and then cycled. */
+    private static final class Answers {
+
+        private final List<TrafficRecord> records = new ArrayList<>();
+        private final AtomicInteger next = new AtomicInteger();
+
+        void add(TrafficRecord record) {
+            records.add(record);
+        }
+
+        TrafficRecord next() {
+            return records.get(Math.floorMod(next.getAndIncrement(), records.size()));
+        }
+    }
+}
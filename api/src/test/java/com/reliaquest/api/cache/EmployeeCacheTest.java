@@ -0,0 +1,86 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.dto.Employee;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCacheTest {
+
+    private final EmployeeCache cache =
+            new EmployeeCache(100, Duration.ofMinutes(1), Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+    private static Employee emp(String name) {
+        return new Employee(UUID.randomUUID().toString(), name, 100, 30, "Engineer", "e@example.com");
+    }
+
+    @Test
+    @DisplayName("an invalidate that arrives while a lookup is loading is not undone by the load's result")
+    void invalidateDuringLoad() throws Exception {
+        // ARRANGE
+        var employee = emp("Alice");
+        var loading = new CountDownLatch(1);
+        var finishLoad = new CountDownLatch(1);
+        var lookup = CompletableFuture.supplyAsync(() -> cache.get(employee.id(), id -> {
+            loading.countDown();
+            try {
+                finishLoad.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return employee;
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // ACT: the delete's invalidate lands mid-load
+        var invalidate = CompletableFuture.runAsync(() -> cache.invalidate(employee.id()));
+        Thread.sleep(50);
+        finishLoad.countDown();
+
+        // ASSERT
+        assertThat(lookup.get(5, TimeUnit.SECONDS)).isEqualTo(employee);
+        invalidate.get(5, TimeUnit.SECONDS);
+        assertThat(cache.get(employee.id(), id -> null)).isNull();
+    }
+
+    @Test
+    @DisplayName("concurrent misses for one id share a single load")
+    void coalescesMisses() throws Exception {
+        // ARRANGE
+        var employee = emp("Bob");
+        var loads = new AtomicInteger();
+        var loading = new CountDownLatch(1);
+        var finishLoad = new CountDownLatch(1);
+        var first = CompletableFuture.supplyAsync(() -> cache.get(employee.id(), id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                finishLoad.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return employee;
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // ACT
+        var second = CompletableFuture.supplyAsync(() -> cache.get(employee.id(), id -> {
+            loads.incrementAndGet();
+            return employee;
+        }));
+        Thread.sleep(50);
+        finishLoad.countDown();
+
+        // ASSERT
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(employee);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(employee);
+        assertThat(loads).hasValue(1);
+    }
+}
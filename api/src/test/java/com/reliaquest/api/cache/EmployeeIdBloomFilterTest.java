@@ -0,0 +1,51 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmployeeIdBloomFilterTest {
+
+    private static List<String> randomIds(int n) {
+        var ids = new ArrayList<String>(n);
+        for (int i = 0; i < n; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("never rejects an id that was added")
+    void noFalseNegatives() {
+        var ids = randomIds(5_000);
+        var filter = EmployeeIdBloomFilter.of(ids);
+
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("rejects most absent ids (false positive rate near 1%)")
+    void lowFalsePositiveRate() {
+        var filter = EmployeeIdBloomFilter.of(randomIds(5_000));
+
+        long falsePositives = randomIds(10_000).stream().filter(filter::mightContain).count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("ids added later are accepted; non-UUID ids are never rejected")
+    void putAndNonUuid() {
+        var filter = EmployeeIdBloomFilter.of(List.of());
+        var id = UUID.randomUUID().toString();
+
+        filter.put(id);
+
+        assertThat(filter.mightContain(id)).isTrue();
+        assertThat(filter.mightContain("not-a-uuid")).isTrue();
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+class EmployeeStreamDecoderTest {
+
+    private static final String BODY =
+            """
+            {"status":"Successfully processed request.","data":[
+              {"id":"a","employee_name":"Alice","employee_salary":120000,"employee_age":31,
+               "employee_title":"Engineer","employee_email":"alice@company.com","extra":{"nested":[1,2]}},
+              {"id":"b","employee_name":"Bob","employee_salary":90000,"employee_age":28,
+               "employee_title":"QA","employee_email":"bob@company.com"}
+            ]}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<Employee> decodeInChunks(String body, int chunkSize) {
+        var decoder = new EmployeeStreamDecoder(objectMapper);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<Employee> out = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            var chunk = Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + chunkSize));
+            out.addAll(decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(chunk)));
+        }
+        out.addAll(decoder.complete());
+        return out;
+    }
+
+    @Test
+    @DisplayName("decodes every element of the data array regardless of chunk boundaries")
+    void decodesAcrossChunks() {
+        for (int chunkSize : new int[] {1, 7, 64, BODY.length()}) {
+            var employees = decodeInChunks(BODY, chunkSize);
+
+            assertThat(employees).extracting(Employee::employeeName).containsExactly("Alice", "Bob");
+            assertThat(employees.get(0).employeeSalary()).isEqualTo(120_000);
+            assertThat(employees.get(1).employeeEmail()).isEqualTo("bob@company.com");
+        }
+    }
+
+    @Test
+    @DisplayName("emits nothing for an empty or missing data array")
+    void emptyData() {
+        assertThat(decodeInChunks("{\"data\":[],\"status\":\"ok\"}", 5)).isEmpty();
+        assertThat(decodeInChunks("{\"status\":\"ok\"}", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("malformed body surfaces as DecodingException")
+    void malformed() {
+        assertThatThrownBy(() -> decodeInChunks("{\"data\":[{\"id\":}]}", 4)).isInstanceOf(DecodingException.class);
+    }
+}
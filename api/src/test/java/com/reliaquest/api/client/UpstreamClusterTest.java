@@ -0,0 +1,102 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class UpstreamClusterTest {
+
+    private static final List<String> URLS =
+            List.of("http://a:8112/api/v1", "http://b:8112/api/v1", "http://c:8112/api/v1");
+
+    private static UpstreamCluster cluster(Duration cooldown) {
+        return new UpstreamCluster(URLS, WebClient.builder(), 2, cooldown);
+    }
+
+    @Test
+    @DisplayName("candidates list every node once, owner first, and the owner is stable per key")
+    void candidates_stableOwner() {
+        var cluster = cluster(Duration.ofSeconds(10));
+
+        for (int i = 0; i < 100; i++) {
+            String id = UUID.randomUUID().toString();
+            var first = cluster.candidatesFor(id);
+            var second = cluster.candidatesFor(id);
+
+            assertThat(first).hasSize(3).doesNotHaveDuplicates();
+            assertThat(first).containsExactlyElementsOf(second);
+        }
+    }
+
+    @Test
+    @DisplayName("virtual nodes spread ownership roughly evenly")
+    void candidates_spread() {
+        var cluster = cluster(Duration.ofSeconds(10));
+        Map<String, Integer> owned = new HashMap<>();
+
+        for (int i = 0; i < 30_000; i++) {
+            owned.merge(cluster.candidatesFor(UUID.randomUUID().toString()).get(0).baseUrl(), 1, Integer::sum);
+        }
+
+        assertThat(owned).hasSize(3);
+        assertThat(owned.values()).allSatisfy(count -> assertThat(count).isBetween(7_000, 13_000));
+    }
+
+    @Test
+    @DisplayName("writes rotate round-robin over the nodes")
+    void nextForWrite_roundRobin() {
+        var cluster = cluster(Duration.ofSeconds(10));
+
+        var picked = List.of(cluster.nextForWrite(), cluster.nextForWrite(), cluster.nextForWrite());
+
+        assertThat(picked).containsExactlyInAnyOrderElementsOf(cluster.nodes());
+    }
+
+    @Test
+    @DisplayName("a node is ejected after consecutive failures and skipped until the cooldown passes")
+    void ejection() {
+        var cluster = cluster(Duration.ofHours(1));
+        var bad = cluster.nodes().get(1);
+
+        bad.recordFailure();
+        assertThat(bad.isHealthy()).isTrue();
+        bad.recordFailure();
+
+        assertThat(bad.isHealthy()).isFalse();
+        assertThat(cluster.healthyNodes()).hasSize(2).doesNotContain(bad);
+        assertThat(cluster.candidatesFor("some-id")).doesNotContain(bad);
+    }
+
+    @Test
+    @DisplayName("a success resets the consecutive failure count")
+    void ejection_resetOnSuccess() {
+        var cluster = cluster(Duration.ofHours(1));
+        var node = cluster.nodes().get(0);
+
+        node.recordFailure();
+        node.recordSuccess();
+        node.recordFailure();
+
+        assertThat(node.isHealthy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("if every node is ejected all of them are still used")
+    void ejection_failOpen() {
+        var cluster = cluster(Duration.ofHours(1));
+        for (var node : cluster.nodes()) {
+            node.recordFailure();
+            node.recordFailure();
+        }
+
+        assertThat(cluster.healthyNodes()).hasSize(3);
+        assertThat(cluster.candidatesFor("some-id")).hasSize(3);
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.ApiListResponse;
+import com.reliaquest.api.dto.ApiSingleResponse;
+import com.reliaquest.api.dto.Employee;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCodecModuleTest {
+
+    private static final TypeReference<ApiListResponse<Employee>> LIST_EMPLOYEES = new TypeReference<>() {};
+    private static final TypeReference<ApiSingleResponse<Employee>> SINGLE_EMPLOYEE = new TypeReference<>() {};
+
+    private static final String LIST_BODY =
+            """
+            {"status":"Successfully processed request.","extra":{"a":[1,{"b":2}]},"data":[
+              {"id":"a","employee_name":"Alice","employee_salary":120000,"employee_age":31,
+               "employee_title":"Engineer","employee_email":"alice@company.com","unknown":[1,2]},
+              {"id":"b","employee_name":null,"employee_salary":"90000","employee_age":null,
+               "employee_title":"QA"}
+            ]}
+            """;
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper generated = new ObjectMapper().registerModule(new EmployeeCodecModule());
+
+    @Test
+    @DisplayName("list envelope decodes exactly like the reflective binding")
+    void listEnvelope_matchesReflective() throws Exception {
+        var expected = reflective.readValue(LIST_BODY, LIST_EMPLOYEES);
+
+        var actual = generated.readValue(LIST_BODY, LIST_EMPLOYEES);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.data()).hasSize(2);
+        assertThat(actual.data().get(1).employeeSalary()).isEqualTo(90_000);
+    }
+
+    @Test
+    @DisplayName("single envelope decodes data and status, including a null data")
+    void singleEnvelope() throws Exception {
+        var body = "{\"data\":{\"id\":\"x\",\"employee_name\":\"X\",\"employee_salary\":1,\"employee_age\":20},"
+                + "\"status\":\"ok\"}";
+
+        assertThat(generated.readValue(body, SINGLE_EMPLOYEE)).isEqualTo(reflective.readValue(body, SINGLE_EMPLOYEE));
+        assertThat(generated.readValue("{\"data\":null,\"status\":\"ok\"}", SINGLE_EMPLOYEE).data())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("employee serializes to the same JSON as the reflective binding")
+    void encode_matchesReflective() throws Exception {
+        var employees = List.of(
+                new Employee("a", "Alice", 120_000, 31, "Engineer", "alice@company.com"),
+                new Employee(null, null, 0, 0, null, null));
+
+        assertThat(generated.writeValueAsString(employees)).isEqualTo(reflective.writeValueAsString(employees));
+    }
+
+    @Test
+    @DisplayName("object where a scalar is expected is rejected")
+    void malformed() {
+        assertThatThrownBy(() -> generated.readValue("{\"id\":{\"x\":1}}", Employee.class))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    @DisplayName("projection writes only the selected fields, in the usual order")
+    void projection() throws Exception {
+        var employees = List.of(
+                new Employee("a", "Alice", 120_000, 31, "Engineer", "alice@company.com"),
+                new Employee("b", "Bob", 90_000, 28, "QA", "bob@company.com"));
+        var fields = EmployeeFields.parse("employee_name, id");
+
+        assertThat(generated.writeValueAsString(EmployeeProjection.of(employees, fields)))
+                .isEqualTo("[{\"id\":\"a\",\"employee_name\":\"Alice\"},{\"id\":\"b\",\"employee_name\":\"Bob\"}]");
+        assertThat(reflective.writeValueAsString(EmployeeProjection.of(employees.get(0), EmployeeFields.ALL)))
+                .isEqualTo(reflective.writeValueAsString(employees.get(0)));
+        assertThat(fields.toString()).isEqualTo("id,employee_name");
+    }
+
+    @Test
+    @DisplayName("unknown field names are rejected; a blank fieldset selects everything")
+    void parseFields() {
+        assertThatThrownBy(() -> EmployeeFields.parse("id,salary")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(EmployeeFields.parse(" ")).isEqualTo(EmployeeFields.ALL);
+        assertThat(EmployeeFields.parse("employee_email").includes(EmployeeFields.EMAIL)).isTrue();
+    }
+}
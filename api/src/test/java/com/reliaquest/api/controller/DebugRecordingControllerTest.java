@@ -0,0 +1,105 @@
+package com.reliaquest.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import jdk.jfr.RecordingState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+class DebugRecordingControllerTest {
+
+    private final DebugRecordingController controller = new DebugRecordingController();
+    // remote address 127.0.0.1
+    private final MockHttpServletRequest local = new MockHttpServletRequest();
+
+    @AfterEach
+    void tearDown() {
+        controller.close();
+    }
+
+    @Test
+    @DisplayName("start answers 202 at once; the download answers 202 until the recording stops, then the file")
+    void recordsInBackground() throws Exception {
+        // ACT
+        long startedAt = System.nanoTime();
+        var started = controller.start(Duration.ofSeconds(1), local);
+        long startMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        // ASSERT
+        assertThat(started.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(startMillis).isLessThan(1_000);
+        var id = started.getBody().id();
+        assertThat(started.getHeaders().getLocation()).hasToString("/api/v1/debug/jfr/" + id);
+
+        var pending = controller.download(id, local);
+        assertThat(pending.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(pending.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank();
+        assertThat(((DebugRecordingController.RecordingStatus) pending.getBody()).state())
+                .isEqualTo(RecordingState.RUNNING);
+
+        var done = pending;
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (done.getStatusCode() == HttpStatus.ACCEPTED && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            done = controller.download(id, local);
+        }
+        assertThat(done.getStatusCode()).isEqualTo(HttpStatus.OK);
+        var file = ((FileSystemResource) done.getBody()).getFile().toPath();
+        assertThat(Files.size(file)).isPositive();
+        // a second download serves the same file
+        assertThat(((FileSystemResource) controller.download(id, local).getBody()).getFile().toPath())
+                .isEqualTo(file);
+
+        // the next recording replaces this one and deletes its file
+        controller.start(Duration.ofSeconds(1), local);
+        assertThat(file).doesNotExist();
+        assertThatThrownBy(() -> controller.download(id, local))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("a second recording is refused while one runs, and bad durations are rejected")
+    void conflictsAndBadDurations() {
+        // ARRANGE
+        controller.start(Duration.ofMinutes(1), local);
+
+        // ACT / ASSERT
+        assertThatThrownBy(() -> controller.start(Duration.ofSeconds(5), local))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+        assertThatThrownBy(() -> controller.start(Duration.ZERO, local))
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatThrownBy(() -> controller.start(Duration.ofMinutes(11), local))
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("requests from other hosts see 404")
+    void localOnly() {
+        // ARRANGE
+        var remote = new MockHttpServletRequest();
+        remote.setRemoteAddr("10.1.2.3");
+
+        // ACT / ASSERT
+        assertThatThrownBy(() -> controller.start(Duration.ofSeconds(1), remote))
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThatThrownBy(() -> controller.download(1, remote))
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
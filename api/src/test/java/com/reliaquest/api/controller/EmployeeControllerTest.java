@@ -8,9 +8,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.codec.EmployeeFields;
+import com.reliaquest.api.dto.CreateJobStatus;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.service.EmployeeCreateQueue;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.RosterSnapshot;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -20,11 +24,13 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.server.ResponseStatusException;
 
 @WebMvcTest(controllers = EmployeeController.class)
+@Import(ReadResponseCache.class)
 class EmployeeControllerTest {
 
     @Autowired
@@ -36,6 +42,9 @@ class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeCreateQueue createQueue;
+
     private static Employee emp(String id, String name, int salary, int age, String title, String email) {
         return new Employee(id, name, salary, age, title, email);
     }
@@ -48,7 +57,7 @@ class EmployeeControllerTest {
         var list = List.of(
                 emp(UUID.randomUUID().toString(), "Alice", 120_000, 31, "Engineer", "alice@x.com"),
                 emp(UUID.randomUUID().toString(), "Bob", 90_000, 28, "QA", "bob@x.com"));
-        Mockito.when(employeeService.getAllEmployees()).thenReturn(list);
+        Mockito.when(employeeService.getRosterSnapshot()).thenReturn(RosterSnapshot.of(list));
 
         // ACT / ASSERT
         mvc.perform(get("/api/v1/employees"))
@@ -59,7 +68,87 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1].employee_salary", is(90000)));
 
         // ASSERT
-        Mockito.verify(employeeService, Mockito.times(1)).getAllEmployees();
+        Mockito.verify(employeeService, Mockito.times(1)).getRosterSnapshot();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/employees -> strong ETag + Cache-Control; matching If-None-Match -> 304")
+    void getAllEmployees_conditional() throws Exception {
+        // ARRANGE
+        var snapshot = RosterSnapshot.of(
+                List.of(emp(UUID.randomUUID().toString(), "Alice", 120_000, 31, "Engineer", "alice@x.com")));
+        Mockito.when(employeeService.getRosterSnapshot()).thenReturn(snapshot);
+        String etag = "\"" + snapshot.version() + "-employees\"";
+
+        // ACT / ASSERT
+        mvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("Cache-Control", containsString("must-revalidate")));
+
+        mvc.perform(get("/api/v1/employees").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        mvc.perform(get("/api/v1/employees").header("If-None-Match", "\"stale-employees\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    // ----------------- GET /employees?ids= -----------------
+    @Test
+    @DisplayName("GET /api/v1/employees?ids=a,b -> 200 + batch lookup, not the full list")
+    void getByIds_ok() throws Exception {
+        // ARRANGE
+        String a = UUID.randomUUID().toString();
+        String b = UUID.randomUUID().toString();
+        var list = List.of(emp(a, "Alice", 120_000, 31, "Engineer", "alice@x.com"));
+        Mockito.when(employeeService.getEmployeesByIds(eq(List.of(a, b)))).thenReturn(list);
+
+        // ACT / ASSERT
+        mvc.perform(get("/api/v1/employees").param("ids", a + "," + b))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(a)));
+
+        // ASSERT
+        Mockito.verify(employeeService, Mockito.times(1)).getEmployeesByIds(eq(List.of(a, b)));
+        Mockito.verify(employeeService, Mockito.never()).getAllEmployees();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/employees?fields=id,employee_name -> only those fields, separately ETagged")
+    void getAllEmployees_fields() throws Exception {
+        // ARRANGE
+        var snapshot = RosterSnapshot.of(
+                List.of(emp(UUID.randomUUID().toString(), "Alice", 120_000, 31, "Engineer", "alice@x.com")));
+        Mockito.when(employeeService.getRosterSnapshot()).thenReturn(snapshot);
+
+        // ACT / ASSERT
+        mvc.perform(get("/api/v1/employees").param("fields", "id,employee_name"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + snapshot.version() + "-employees-f3\""))
+                .andExpect(jsonPath("$[0].employee_name", is("Alice")))
+                .andExpect(jsonPath("$[0].employee_salary").doesNotExist())
+                .andExpect(jsonPath("$[0].employee_email").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/employees/search/{q}?fields=... -> pushed down to the service; unknown field -> 400")
+    void search_fields() throws Exception {
+        // ARRANGE
+        var list = List.of(emp(UUID.randomUUID().toString(), "Rosario O'Kon", 130_000, 40, "Mgr", "r@x.com"));
+        Mockito.when(employeeService.getEmployeesByNameSearch(eq("rosa"), eq(EmployeeFields.parse("id"))))
+                .thenReturn(list);
+
+        // ACT / ASSERT
+        mvc.perform(get("/api/v1/employees/search/{q}", "rosa").param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(list.get(0).id())))
+                .andExpect(jsonPath("$[0].employee_name").doesNotExist());
+        mvc.perform(get("/api/v1/employees/search/{q}", "rosa").param("fields", "nickname"))
+                .andExpect(status().isBadRequest());
     }
 
     // ------------- GET /employees/search/{fragment} -------------
@@ -86,7 +175,10 @@ class EmployeeControllerTest {
     @DisplayName("GET /api/v1/employees/highestSalary -> 200 + integer")
     void highestSalary_ok() throws Exception {
         // ARRANGE
-        Mockito.when(employeeService.getHighestSalaryOfEmployees()).thenReturn(320_800);
+        var snapshot = RosterSnapshot.of(
+                List.of(emp(UUID.randomUUID().toString(), "Tiger", 320_800, 61, "Chair", "tiger@x.com")));
+        Mockito.when(employeeService.getRosterSnapshot()).thenReturn(snapshot);
+        Mockito.when(employeeService.getHighestSalaryOfEmployees(snapshot)).thenReturn(320_800);
 
         // ACT / ASSERT
         mvc.perform(get("/api/v1/employees/highestSalary"))
@@ -95,7 +187,7 @@ class EmployeeControllerTest {
                 .andExpect(content().string("320800"));
 
         // Additional Assertions
-        Mockito.verify(employeeService, Mockito.times(1)).getHighestSalaryOfEmployees();
+        Mockito.verify(employeeService, Mockito.times(1)).getHighestSalaryOfEmployees(snapshot);
     }
 
     // ------------- GET /employees/topTenHighestEarningEmployeeNames -------------
@@ -104,7 +196,10 @@ class EmployeeControllerTest {
     void topTen_ok() throws Exception {
         // ARRANGE
         var names = List.of("Alice", "Bob", "Carol", "Dan", "Eve", "Frank", "Grace", "Heidi", "Ivan", "Judy");
-        Mockito.when(employeeService.getTop10HighestEarningEmployeeNames()).thenReturn(names);
+        var snapshot = RosterSnapshot.of(
+                List.of(emp(UUID.randomUUID().toString(), "Alice", 120_000, 31, "Engineer", "alice@x.com")));
+        Mockito.when(employeeService.getRosterSnapshot()).thenReturn(snapshot);
+        Mockito.when(employeeService.getTop10HighestEarningEmployeeNames(snapshot)).thenReturn(names);
 
         // ACT / ASSERT
         mvc.perform(get("/api/v1/employees/topTenHighestEarningEmployeeNames"))
@@ -114,7 +209,7 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0]", is("Alice")));
 
         // Additional Assertions
-        Mockito.verify(employeeService, Mockito.times(1)).getTop10HighestEarningEmployeeNames();
+        Mockito.verify(employeeService, Mockito.times(1)).getTop10HighestEarningEmployeeNames(snapshot);
     }
 
     // ----------------- GET /employees/{id} -----------------
@@ -175,6 +270,28 @@ class EmployeeControllerTest {
         assertEquals("Software Engineer", captured.title());
     }
 
+    // ----------------- POST /employees/async -----------------
+    @Test
+    @DisplayName("POST /api/v1/employees/async -> 202 + job id and status location")
+    void createEmployeeAsync_accepted() throws Exception {
+        // ARRANGE
+        var request = new EmployeeCreateRequest("Jon Doe", 110500, 26, "Software Engineer");
+        Mockito.when(createQueue.submit(eq(request)))
+                .thenReturn(new CreateJobStatus("job-1", CreateJobStatus.State.PENDING, null, null));
+
+        // ACT / ASSERT
+        mvc.perform(post("/api/v1/employees/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/employees/jobs/job-1"))
+                .andExpect(jsonPath("$.jobId", is("job-1")))
+                .andExpect(jsonPath("$.state", is("PENDING")));
+
+        // ASSERT
+        Mockito.verify(employeeService, Mockito.never()).createEmployee(Mockito.any());
+    }
+
     // ----------------- DELETE /employees/{id} -----------------
     @Test
     @DisplayName("DELETE /api/v1/employees/{id} -> 200 + name (text/plain)")
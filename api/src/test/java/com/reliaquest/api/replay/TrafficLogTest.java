@@ -0,0 +1,105 @@
+package com.reliaquest.api.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TrafficLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("records round-trip, and a second session appends to the same file")
+    void roundTrip_acrossSessions() throws Exception {
+        // ARRANGE
+        var file = dir.resolve("traffic/api.traffic");
+        var inbound = new TrafficRecord(
+                TrafficRecord.Kind.INBOUND,
+                1_700_000_000_000_000_000L,
+                2_500_000L,
+                "GET",
+                "/api/v1/employees/search/ali?fields=id",
+                Map.of("Accept", "application/json"),
+                new byte[0],
+                200,
+                Map.of(),
+                new byte[0]);
+        var upstream = new TrafficRecord(
+                TrafficRecord.Kind.UPSTREAM,
+                1_700_000_000_001_000_000L,
+                900_000L,
+                "POST",
+                "/api/v1/employee",
+                Map.of(),
+                "{\"name\":\"Zoë\"}".getBytes(StandardCharsets.UTF_8),
+                201,
+                Map.of("Content-Type", "application/json"),
+                "{\"data\":{}}".getBytes(StandardCharsets.UTF_8));
+
+        // ACT
+        try (var writer = TrafficLog.append(file)) {
+            writer.append(inbound);
+        }
+        try (var writer = TrafficLog.append(file)) {
+            writer.append(upstream);
+        }
+        var records = TrafficLog.readAll(file);
+
+        // ASSERT
+        assertThat(records).hasSize(2);
+        assertSameRecord(records.get(0), inbound);
+        assertSameRecord(records.get(1), upstream);
+    }
+
+    @Test
+    @DisplayName("a record cut off mid-write ends the read without failing it")
+    void truncatedTail_isIgnored() throws Exception {
+        // ARRANGE
+        var file = dir.resolve("api.traffic");
+        var record = new TrafficRecord(
+                TrafficRecord.Kind.UPSTREAM,
+                42L,
+                1L,
+                "GET",
+                "/api/v1/employee",
+                Map.of(),
+                null,
+                200,
+                Map.of(),
+                "[]".getBytes(StandardCharsets.UTF_8));
+        try (var writer = TrafficLog.append(file)) {
+            writer.append(record);
+            writer.append(record);
+        }
+        var bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // ACT
+        var records = TrafficLog.readAll(file);
+
+        // ASSERT
+        assertThat(records).hasSize(1);
+        assertSameRecord(records.get(0), record);
+    }
+
+    private static void assertSameRecord(TrafficRecord actual, TrafficRecord expected) {
+        assertThat(actual)
+                .usingRecursiveComparison()
+                .ignoringFields("requestBody", "responseBody")
+                .isEqualTo(expected);
+        assertThat(actual.requestBody()).isEqualTo(orEmpty(expected.requestBody()));
+        assertThat(actual.responseBody()).isEqualTo(orEmpty(expected.responseBody()));
+    }
+
+    private static byte[] orEmpty(byte[] bytes) {
+        return bytes == null ? new byte[0] : bytes;
+    }
+}
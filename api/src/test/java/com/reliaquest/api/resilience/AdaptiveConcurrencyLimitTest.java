@@ -0,0 +1,113 @@
+package com.reliaquest.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.resilience.AdaptiveConcurrencyLimit.Priority;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    // initial 20, between 4 and 200, no baseline re-learning within a test
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 1_000_000);
+
+    private void samples(int count, long rttNanos, int inFlight) {
+        samples(Priority.CACHED_READ, count, rttNanos, inFlight);
+    }
+
+    private void samples(Priority priority, int count, long rttNanos, int inFlight) {
+        for (int i = 0; i < count; i++) {
+            assertThat(limit.tryAcquire(priority)).isTrue();
+            limit.release(priority, rttNanos, inFlight, false);
+        }
+    }
+
+    @Test
+    @DisplayName("grows while the RTT stays at its minimum and the limit is in use")
+    void growsWithoutQueueing() {
+        // ACT
+        samples(50, RTT, 20);
+
+        // ASSERT
+        assertThat(limit.limit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("does not grow when traffic uses less than half of the limit")
+    void appLimited() {
+        // ACT
+        samples(50, RTT, 5);
+
+        // ASSERT
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("shrinks when the RTT rises above the no-load baseline")
+    void shrinksWhenQueueing() {
+        // ARRANGE
+        samples(1, RTT, 20);
+
+        // ACT: RTT tripled, i.e. about two thirds of the in-flight requests are waiting
+        samples(20, 3 * RTT, 20);
+
+        // ASSERT
+        assertThat(limit.limit()).isLessThan(20).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("microsecond cached reads mixed with millisecond upstream reads do not look like queueing")
+    void baselinePerPriority() {
+        // ACT: each kind at its own steady RTT, interleaved
+        for (int i = 0; i < 100; i++) {
+            samples(Priority.CACHED_READ, 1, TimeUnit.MICROSECONDS.toNanos(50), 20);
+            samples(Priority.READ, 3, RTT, 20);
+        }
+
+        // ASSERT
+        assertThat(limit.limit()).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("a dropped request cuts the limit multiplicatively, never below the minimum")
+    void backsOffOnDrop() {
+        // ACT
+        assertThat(limit.tryAcquire(Priority.CACHED_READ)).isTrue();
+        limit.release(Priority.CACHED_READ, RTT, 20, true);
+
+        // ASSERT
+        assertThat(limit.limit()).isEqualTo(18);
+
+        // ACT
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire(Priority.CACHED_READ);
+            limit.release(Priority.CACHED_READ, RTT, 20, true);
+        }
+
+        // ASSERT
+        assertThat(limit.limit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("writes are shed at their share of the limit while cached reads still get in")
+    void prioritizesCachedReads() {
+        // ARRANGE: writes may use 60% of 20
+        for (int i = 0; i < 12; i++) {
+            assertThat(limit.tryAcquire(Priority.WRITE)).isTrue();
+        }
+
+        // ACT / ASSERT
+        assertThat(limit.tryAcquire(Priority.WRITE)).isFalse();
+        for (int i = 0; i < 6; i++) {
+            assertThat(limit.tryAcquire(Priority.READ)).isTrue();
+        }
+        assertThat(limit.tryAcquire(Priority.READ)).isFalse();
+        assertThat(limit.tryAcquire(Priority.CACHED_READ)).isTrue();
+        assertThat(limit.tryAcquire(Priority.CACHED_READ)).isTrue();
+        assertThat(limit.tryAcquire(Priority.CACHED_READ)).isFalse();
+        assertThat(limit.inFlight()).isEqualTo(20);
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // window 10, at least 4 calls, opens at 50% failures, 10s open, 2 half-open probes
+    private final CircuitBreaker breaker =
+            new CircuitBreaker("test", 10, 4, 0.5, Duration.ofSeconds(10), 2, clock::get);
+
+    private void calls(int successes, int failures) {
+        for (int i = 0; i < successes; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onSuccess();
+        }
+        for (int i = 0; i < failures; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onFailure();
+        }
+    }
+
+    @Test
+    @DisplayName("stays closed below the minimum number of calls, opens once the failure rate is reached")
+    void opensAtFailureRate() {
+        // ACT
+        calls(0, 3);
+
+        // ASSERT
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // ACT
+        calls(2, 1);
+
+        // ASSERT: 4 failures out of 6 calls
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.retryAfter()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("old outcomes slide out of the window")
+    void slidingWindow() {
+        // ARRANGE: 4 failures, then enough successes to push the rate under 50% before reaching it
+        calls(7, 0);
+        calls(0, 4);
+
+        // ASSERT
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // ACT: the window now holds 6 successes and 4 failures; one more failure evicts a success
+        calls(0, 1);
+
+        // ASSERT
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("after the open duration a limited number of probes decide between closed and open")
+    void halfOpenProbes() {
+        // ARRANGE
+        calls(0, 4);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // ACT: two probes are admitted, a third is not
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        // ASSERT
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // ACT: trip again and fail the first probe
+        calls(0, 4);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onFailure();
+
+        // ASSERT
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.resilience.AdaptiveConcurrencyLimit.Priority;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 4, 4, 1000);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limit, Duration.ofMillis(1500));
+
+    @Test
+    @DisplayName("requests over the limit get 503 with Retry-After and never reach the controller")
+    void shedsOverLimit() throws Exception {
+        // ARRANGE
+        for (int i = 0; i < 4; i++) {
+            assertThat(limit.tryAcquire(Priority.CACHED_READ)).isTrue();
+        }
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        // ACT
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employees"), response, chain);
+
+        // ASSERT
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("an admitted request returns its slot when the response completes")
+    void releasesSlot() throws Exception {
+        // ARRANGE
+        var chain = new MockFilterChain();
+
+        // ACT
+        filter.doFilter(
+                new MockHttpServletRequest("DELETE", "/api/v1/employees/1"), new MockHttpServletResponse(), chain);
+
+        // ASSERT
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(limit.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("create job long-polls bypass the limit even when it is full and take no slot")
+    void jobPollsBypassLimit() throws Exception {
+        // ARRANGE
+        for (int i = 0; i < 4; i++) {
+            assertThat(limit.tryAcquire(Priority.CACHED_READ)).isTrue();
+        }
+        var request = new MockHttpServletRequest("GET", "/api/v1/employees/jobs/42");
+        request.setParameter("waitMs", "25000");
+        var chain = new MockFilterChain();
+
+        // ACT
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // ASSERT
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(limit.inFlight()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("writes, upstream reads and cached reads are told apart")
+    void classifiesRequests() {
+        // ARRANGE
+        var byIds = new MockHttpServletRequest("GET", "/api/v1/employees");
+        byIds.setParameter("ids", "a,b");
+
+        // ACT / ASSERT
+        assertThat(ConcurrencyLimitFilter.priorityOf(new MockHttpServletRequest("POST", "/api/v1/employees")))
+                .isEqualTo(Priority.WRITE);
+        assertThat(ConcurrencyLimitFilter.priorityOf(byIds)).isEqualTo(Priority.READ);
+        assertThat(ConcurrencyLimitFilter.priorityOf(
+                        new MockHttpServletRequest("GET", "/api/v1/employees/search/ann")))
+                .isEqualTo(Priority.READ);
+        assertThat(ConcurrencyLimitFilter.priorityOf(
+                        new MockHttpServletRequest("GET", "/api/v1/employees/highestSalary")))
+                .isEqualTo(Priority.CACHED_READ);
+    }
+}
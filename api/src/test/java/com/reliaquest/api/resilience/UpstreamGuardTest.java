@@ -0,0 +1,130 @@
+package com.reliaquest.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.resilience.UpstreamGuard.Operation;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class UpstreamGuardTest {
+
+    private static UpstreamGuard guard(int maxConcurrent, Duration timeout) {
+        var limits = new EnumMap<Operation, UpstreamGuard.Limits>(Operation.class);
+        for (var operation : Operation.values()) {
+            limits.put(operation, new UpstreamGuard.Limits(maxConcurrent, timeout));
+        }
+        // opens after 2 calls at 100% failures
+        return new UpstreamGuard(
+                limits, operation -> new CircuitBreaker(operation.key(), 2, 2, 1.0, Duration.ofSeconds(30), 1));
+    }
+
+    private static void assertStatus(Throwable e, HttpStatus status) {
+        assertThat(e).isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(status);
+    }
+
+    @Test
+    @DisplayName("a full bulkhead rejects at once and frees its permit when the call ends")
+    void bulkhead_rejectsWhenFull() {
+        // ARRANGE
+        var guard = guard(1, Duration.ofMinutes(1));
+        var inFlight = guard.guard(Operation.GET_BY_ID, Mono.never()).subscribe();
+
+        // ACT / ASSERT
+        StepVerifier.create(guard.guard(Operation.GET_BY_ID, Mono.just("x")))
+                .expectErrorSatisfies(e -> assertStatus(e, HttpStatus.SERVICE_UNAVAILABLE))
+                .verify();
+        // other operations have their own bulkhead
+        StepVerifier.create(guard.guard(Operation.CREATE, Mono.just("y")))
+                .expectNext("y")
+                .verifyComplete();
+
+        inFlight.dispose();
+        StepVerifier.create(guard.guard(Operation.GET_BY_ID, Mono.just("z")))
+                .expectNext("z")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("a stalled upstream fails with 504 after the operation timeout")
+    void timeout_gatewayTimeout() {
+        var guard = guard(4, Duration.ofMillis(50));
+
+        StepVerifier.create(guard.guard(Operation.GET_ALL, Mono.never()))
+                .expectErrorSatisfies(e -> assertStatus(e, HttpStatus.GATEWAY_TIMEOUT))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("a body trickled just under the timeout per item still fails with 504 at the call deadline")
+    void timeout_coversWholeStream() {
+        // ARRANGE
+        var guard = guard(4, Duration.ofMillis(200));
+        var trickle = Flux.interval(Duration.ofMillis(40)).take(50);
+
+        // ACT / ASSERT
+        StepVerifier.create(guard.guard(Operation.GET_ALL, trickle))
+                .thenConsumeWhile(item -> true)
+                .expectErrorSatisfies(e -> assertStatus(e, HttpStatus.GATEWAY_TIMEOUT))
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("an expired inbound deadline fails the call without reaching the upstream")
+    void deadline_expired() {
+        // ARRANGE
+        var guard = guard(4, Duration.ofMinutes(1));
+        var subscribed = new AtomicBoolean();
+        var call = Mono.fromCallable(() -> subscribed.getAndSet(true));
+
+        // ACT / ASSERT
+        StepVerifier.create(guard.guard(Operation.GET_ALL, call)
+                        .contextWrite(ctx -> ctx.put(Deadline.CONTEXT_KEY, System.nanoTime() - 1)))
+                .expectErrorSatisfies(e -> assertStatus(e, HttpStatus.GATEWAY_TIMEOUT))
+                .verify();
+        assertThat(subscribed).isFalse();
+    }
+
+    @Test
+    @DisplayName("upstream failures open the circuit with Retry-After; 404s do not count")
+    void breaker_opensOnFailures() {
+        // ARRANGE
+        var guard = guard(4, Duration.ofMinutes(1));
+        var notFound = WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY, new byte[0], null);
+        var unavailable = WebClientResponseException.create(
+                503, "Service Unavailable", HttpHeaders.EMPTY, "down".getBytes(StandardCharsets.UTF_8), null);
+
+        // ACT
+        for (int i = 0; i < 3; i++) {
+            guard.guard(Operation.DELETE, Mono.error(notFound)).onErrorResume(e -> Mono.empty()).block();
+        }
+        // ASSERT
+        assertThat(guard.state(Operation.DELETE)).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // ACT
+        for (int i = 0; i < 2; i++) {
+            guard.guard(Operation.DELETE, Mono.error(unavailable)).onErrorResume(e -> Mono.empty()).block();
+        }
+
+        // ASSERT
+        assertThat(guard.state(Operation.DELETE)).isEqualTo(CircuitBreaker.State.OPEN);
+        StepVerifier.create(guard.guard(Operation.DELETE, Mono.just(true)))
+                .expectErrorSatisfies(e -> {
+                    assertStatus(e, HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(((ResponseStatusException) e).getHeaders().getFirst(HttpHeaders.RETRY_AFTER))
+                            .isEqualTo("30");
+                })
+                .verify();
+    }
+}
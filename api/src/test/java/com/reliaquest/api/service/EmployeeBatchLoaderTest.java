@@ -0,0 +1,161 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.dto.ApiListResponse;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.resilience.Deadline;
+import com.reliaquest.api.resilience.DeadlineFilter;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import com.reliaquest.api.trace.TraceContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBatchLoaderTest {
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    private static Employee emp(String id) {
+        return new Employee(id, "Name " + id, 100, 30, "Engineer", id + "@example.com");
+    }
+
+    @Test
+    @DisplayName("concurrent lookups within the window become one upstream batch")
+    void coalescesConcurrentLookups() throws Exception {
+        // ARRANGE
+        given(employeeClient.fetchByIds(anyCollection())).willAnswer(inv -> {
+            Collection<String> ids = inv.getArgument(0);
+            // every id but the first is known upstream
+            return Mono.just(
+                    new ApiListResponse<>(ids.stream().skip(1).map(EmployeeBatchLoaderTest::emp).toList(), "ok"));
+        });
+        var loader = new EmployeeBatchLoader(employeeClient, 200, 100);
+        var ids = new ArrayList<String>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        var pool = Executors.newFixedThreadPool(ids.size());
+        var start = new CountDownLatch(1);
+
+        // ACT
+        var results = new ArrayList<CompletableFuture<Employee>>();
+        for (String id : ids) {
+            results.add(CompletableFuture.supplyAsync(
+                    () -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return loader.load(id);
+                    },
+                    pool));
+        }
+        start.countDown();
+        List<Employee> loaded = results.stream().map(CompletableFuture::join).toList();
+        pool.shutdown();
+
+        // ASSERT
+        verify(employeeClient, times(1)).fetchByIds(anyCollection());
+        assertThat(loaded).filteredOn(e -> e == null).hasSize(1);
+        assertThat(loaded).filteredOn(e -> e != null).hasSize(ids.size() - 1);
+        loader.shutdown();
+    }
+
+    @Test
+    @DisplayName("a full batch is dispatched without waiting for the window")
+    void dispatchesFullBatchImmediately() {
+        // ARRANGE
+        var id = UUID.randomUUID().toString();
+        given(employeeClient.fetchByIds(anyCollection()))
+                .willReturn(Mono.just(new ApiListResponse<>(List.of(emp(id)), "ok")));
+        var loader = new EmployeeBatchLoader(employeeClient, 60_000, 1);
+
+        // ACT / ASSERT
+        assertThat(loader.load(id)).isEqualTo(emp(id));
+        loader.shutdown();
+    }
+
+    @Test
+    @DisplayName("the batched call carries the caller's correlation id and deadline")
+    void propagatesCallerContext() throws Exception {
+        // ARRANGE
+        var id = UUID.randomUUID().toString();
+        var seen = new AtomicReference<ContextView>();
+        given(employeeClient.fetchByIds(anyCollection())).willReturn(Mono.deferContextual(ctx -> {
+            seen.set(ctx);
+            return Mono.just(new ApiListResponse<>(List.of(emp(id)), "ok"));
+        }));
+        var loader = new EmployeeBatchLoader(employeeClient, 5, 100);
+        var loaded = new AtomicReference<Employee>();
+        MDC.put(TraceContext.MDC_KEY, "corr-1");
+
+        // ACT
+        try {
+            new DeadlineFilter(Duration.ofSeconds(5), Duration.ofSeconds(5))
+                    .doFilter(
+                            new MockHttpServletRequest("GET", "/api/v1/employees/" + id),
+                            new MockHttpServletResponse(),
+                            (request, response) -> loaded.set(loader.load(id)));
+        } finally {
+            MDC.remove(TraceContext.MDC_KEY);
+            loader.shutdown();
+        }
+
+        // ASSERT
+        assertThat(loaded.get()).isEqualTo(emp(id));
+        assertThat(seen.get().<String>getOrDefault(TraceContext.MDC_KEY, null)).isEqualTo("corr-1");
+        assertThat(Deadline.remaining(seen.get())).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("a caller stops waiting at its own deadline with 504 while the batch is still in flight")
+    void waitIsBoundedByDeadline() throws Exception {
+        // ARRANGE
+        given(employeeClient.fetchByIds(anyCollection())).willReturn(Mono.never());
+        var loader = new EmployeeBatchLoader(employeeClient, 5, 100);
+        var thrown = new AtomicReference<Throwable>();
+
+        // ACT
+        try {
+            new DeadlineFilter(Duration.ofMillis(100), Duration.ofSeconds(5))
+                    .doFilter(
+                            new MockHttpServletRequest("GET", "/api/v1/employees/1"),
+                            new MockHttpServletResponse(),
+                            (request, response) -> thrown.set(catchThrowable(() -> loader.load("1"))));
+        } finally {
+            loader.shutdown();
+        }
+
+        // ASSERT
+        assertThat(thrown.get()).isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(((ResponseStatusException) thrown.get()).getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+    }
+}
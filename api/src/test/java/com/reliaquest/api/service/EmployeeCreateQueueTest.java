@@ -0,0 +1,142 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.reliaquest.api.dto.CreateJobStatus.State;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCreateQueueTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeCreateQueue queue;
+
+    private EmployeeCreateQueue newQueue() {
+        queue = new EmployeeCreateQueue(
+                employeeService,
+                10,
+                Duration.ofMillis(10),
+                Duration.ofMillis(50),
+                Duration.ofMillis(200),
+                Duration.ofMinutes(1));
+        return queue;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("accepted job is created in the background and retried through 429s")
+    void retriesThrottledCreate() throws Exception {
+        // ARRANGE
+        var req = new EmployeeCreateRequest("Jane Doe", 120_000, 33, "Senior SWE");
+        var created = new Employee("id-1", "Jane Doe", 120_000, 33, "Senior SWE", "jane@company.com");
+        var tooMany = WebClientResponseException.create(429, "Too Many Requests", HttpHeaders.EMPTY, null, null);
+        given(employeeService.createEmployee(req)).willThrow(tooMany, tooMany).willReturn(created);
+
+        // ACT
+        var accepted = newQueue().submit(req);
+        var finished = queue.status(accepted.jobId(), 5_000).get();
+
+        // ASSERT
+        assertThat(accepted.state()).isEqualTo(State.PENDING);
+        assertThat(finished.state()).isEqualTo(State.DONE);
+        assertThat(finished.employee()).isEqualTo(created);
+        verify(employeeService, times(3)).createEmployee(req);
+    }
+
+    @Test
+    @DisplayName("a create still throttled with 429 after max-hold fails the job")
+    void failsThrottledCreateAfterMaxHold() throws Exception {
+        // ARRANGE
+        var req = new EmployeeCreateRequest("Jane Doe", 120_000, 33, "Senior SWE");
+        given(employeeService.createEmployee(req))
+                .willThrow(WebClientResponseException.create(429, "Too Many Requests", HttpHeaders.EMPTY, null, null));
+
+        // ACT
+        var finished = newQueue().status(queue.submit(req).jobId(), 5_000).get();
+
+        // ASSERT
+        assertThat(finished.state()).isEqualTo(State.FAILED);
+        assertThat(finished.error()).startsWith("429");
+        verify(employeeService, atLeast(2)).createEmployee(req);
+    }
+
+    @Test
+    @DisplayName("client errors other than 429 fail the job without retrying")
+    void failsOnClientError() throws Exception {
+        // ARRANGE
+        var req = new EmployeeCreateRequest("Jane Doe", 120_000, 33, "Senior SWE");
+        given(employeeService.createEmployee(req))
+                .willThrow(WebClientResponseException.create(400, "Bad Request", HttpHeaders.EMPTY, null, null));
+
+        // ACT
+        var finished = newQueue().status(queue.submit(req).jobId(), 5_000).get();
+
+        // ASSERT
+        assertThat(finished.state()).isEqualTo(State.FAILED);
+        verify(employeeService, times(1)).createEmployee(req);
+    }
+
+    @Test
+    @DisplayName("a 5xx or a timeout after sending is not retried and leaves the job UNKNOWN")
+    void doesNotResendAfterServerErrorOrTimeout() throws Exception {
+        // ARRANGE
+        var failing = new EmployeeCreateRequest("Jane Doe", 120_000, 33, "Senior SWE");
+        var timingOut = new EmployeeCreateRequest("John Doe", 90_000, 41, "SRE");
+        given(employeeService.createEmployee(failing))
+                .willThrow(WebClientResponseException.create(502, "Bad Gateway", HttpHeaders.EMPTY, null, null));
+        given(employeeService.createEmployee(timingOut))
+                .willThrow(new UpstreamUnavailableException(HttpStatus.GATEWAY_TIMEOUT, "Upstream create timed out"));
+
+        // ACT
+        newQueue();
+        var failed = queue.status(queue.submit(failing).jobId(), 5_000).get();
+        var timedOut = queue.status(queue.submit(timingOut).jobId(), 5_000).get();
+
+        // ASSERT
+        assertThat(failed.state()).isEqualTo(State.UNKNOWN);
+        assertThat(timedOut.state()).isEqualTo(State.UNKNOWN);
+        verify(employeeService, times(1)).createEmployee(failing);
+        verify(employeeService, times(1)).createEmployee(timingOut);
+    }
+
+    @Test
+    @DisplayName("refusals before sending are retried until max-hold, then fail the job")
+    void retriesRefusalsUpToMaxHold() throws Exception {
+        // ARRANGE
+        var req = new EmployeeCreateRequest("Jane Doe", 120_000, 33, "Senior SWE");
+        given(employeeService.createEmployee(req))
+                .willThrow(new UpstreamUnavailableException(
+                        HttpStatus.SERVICE_UNAVAILABLE, "Upstream circuit open for CREATE", Duration.ofMillis(1)));
+
+        // ACT
+        var finished = newQueue().status(queue.submit(req).jobId(), 5_000).get();
+
+        // ASSERT
+        assertThat(finished.state()).isEqualTo(State.FAILED);
+        verify(employeeService, atLeast(2)).createEmployee(req);
+    }
+}
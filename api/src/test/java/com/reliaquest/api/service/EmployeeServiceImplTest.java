@@ -2,24 +2,34 @@ package com.reliaquest.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
+import com.reliaquest.api.cache.EmployeeCache;
 import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.dto.ApiListResponse;
 import com.reliaquest.api.dto.ApiSingleResponse;
 import com.reliaquest.api.dto.Employee;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.resilience.UpstreamUnavailableException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceImplTest {
@@ -27,9 +37,22 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeClient employeeClient;
 
-    @InjectMocks
+    @Mock
+    private RosterReplica rosterReplica;
+
     private EmployeeServiceImpl employeeService;
 
+    @BeforeEach
+    void setUp() {
+        // batching window 0: lookups go straight to the client
+        employeeService = new EmployeeServiceImpl(
+                employeeClient,
+                new EmployeeBatchLoader(employeeClient, 0, 100),
+                new EmployeeCache(100, Duration.ofMinutes(1), Duration.ofSeconds(5), Duration.ofSeconds(30)),
+                Optional.empty(),
+                Duration.ofMinutes(1));
+    }
+
     // ------------ helpers ------------
 
     private static Employee emp(String name, int salary) {
@@ -46,6 +69,10 @@ class EmployeeServiceImplTest {
         return new ApiListResponse<>(data, "ok");
     }
 
+    private static EmployeeClient.RosterRead roster(List<Employee> employees) {
+        return new EmployeeClient.RosterRead(employees, true);
+    }
+
     private static ApiSingleResponse<Employee> oneResp(Employee e) {
         return new ApiSingleResponse<>(e, "ok");
     }
@@ -58,7 +85,7 @@ class EmployeeServiceImplTest {
         // ARRANGE
         var e1 = emp("Alice", 120_000);
         var e2 = emp("Bob", 90_000);
-        given(employeeClient.getAll()).willReturn(listResp(List.of(e1, e2)));
+        given(employeeClient.getAll()).willReturn(roster(List.of(e1, e2)));
 
         // ACT
         var result = employeeService.getAllEmployees();
@@ -88,7 +115,7 @@ class EmployeeServiceImplTest {
         // ARRANGE
         var a = emp("Rosario O'Kon", 130_000);
         var b = emp("Jane Doe", 110_000);
-        given(employeeClient.getAll()).willReturn(listResp(List.of(a, b)));
+        given(employeeClient.streamAll()).willReturn(Flux.just(a, b));
 
         // ACT
         var result = employeeService.getEmployeesByNameSearch("rosa");
@@ -103,7 +130,7 @@ class EmployeeServiceImplTest {
         // ARRANGE
         var a = emp("Alice", 1);
         var b = emp("Bob", 2);
-        given(employeeClient.getAll()).willReturn(listResp(List.of(a, b)));
+        given(employeeClient.getAll()).willReturn(roster(List.of(a, b)));
 
         // ASSERT
         assertThat(employeeService.getEmployeesByNameSearch(null)).containsExactly(a, b);
@@ -126,6 +153,54 @@ class EmployeeServiceImplTest {
         assertThat(out).isEqualTo(e);
     }
 
+    @Test
+    @DisplayName("getById serves repeated lookups from the cache")
+    void getById_cached() {
+        // ARRANGE
+        var e = emp("Jane Doe", 123_000);
+        given(employeeClient.getById(e.id())).willReturn(oneResp(e));
+
+        // ACT
+        employeeService.getEmployeeById(e.id());
+        var out = employeeService.getEmployeeById(e.id());
+
+        // ASSERT
+        assertThat(out).isEqualTo(e);
+        then(employeeClient).should(times(1)).getById(e.id());
+    }
+
+    @Test
+    @DisplayName("getById rejects ids absent from the last roster without calling upstream")
+    void getById_bloomRejects() {
+        // ARRANGE
+        given(employeeClient.getAll()).willReturn(roster(List.of(emp("Alice", 1), emp("Bob", 2))));
+        employeeService.getAllEmployees();
+        var id = UUID.randomUUID().toString();
+
+        // ACT / ASSERT
+        assertThatThrownBy(() -> employeeService.getEmployeeById(id))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        then(employeeClient).should(never()).getById(id);
+    }
+
+    @Test
+    @DisplayName("a roster read that skipped an ejected node does not make the Bloom filter reject its employees")
+    void getById_partialRosterKeepsLookups() {
+        // ARRANGE
+        var onEjectedNode = emp("Bob", 2);
+        given(employeeClient.getAll()).willReturn(new EmployeeClient.RosterRead(List.of(emp("Alice", 1)), false));
+        given(employeeClient.getById(onEjectedNode.id())).willReturn(oneResp(onEjectedNode));
+        employeeService.getAllEmployees();
+
+        // ACT
+        var out = employeeService.getEmployeeById(onEjectedNode.id());
+
+        // ASSERT
+        assertThat(out).isEqualTo(onEjectedNode);
+    }
+
     @Test
     @DisplayName("getById throws 404 when client returns null data")
     void getById_notFound_nullData() {
@@ -140,67 +215,148 @@ class EmployeeServiceImplTest {
                 .isEqualTo(HttpStatus.NOT_FOUND);
     }
 
-    // ------------ getHighestSalaryOfEmployees ------------
+    // ------------ getEmployeesByIds ------------
 
     @Test
-    @DisplayName("highestSalary returns max salary")
-    void highestSalary_ok() {
+    @DisplayName("getByIds returns found employees in request order, skipping unknown and duplicate ids")
+    void getByIds_ok() {
         // ARRANGE
-        given(employeeClient.getAll()).willReturn(listResp(List.of(emp("A", 50), emp("B", 70), emp("C", 60))));
+        var a = emp("Alice", 1);
+        var b = emp("Bob", 2);
+        var unknown = UUID.randomUUID().toString();
+        given(employeeClient.getByIds(List.of(b.id(), unknown, a.id()))).willReturn(listResp(List.of(a, b)));
 
         // ACT
-        int max = employeeService.getHighestSalaryOfEmployees();
+        var out = employeeService.getEmployeesByIds(List.of(b.id(), unknown, a.id(), b.id()));
 
         // ASSERT
-        assertThat(max).isEqualTo(70);
+        assertThat(out).containsExactly(b, a);
     }
 
     @Test
-    @DisplayName("highestSalary returns 0 when empty")
-    void highestSalary_empty() {
+    @DisplayName("getByIds rejects malformed ids with 400")
+    void getByIds_badId() {
+        assertThatThrownBy(() -> employeeService.getEmployeesByIds(List.of("not-a-uuid")))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    // ------------ roster snapshot ------------
+
+    @Test
+    @DisplayName("snapshot is reused within its max age and refetched after a write")
+    void snapshot_reusedUntilWrite() {
         // ARRANGE
-        given(employeeClient.getAll()).willReturn(listResp(List.of()));
+        var a = emp("Alice", 100);
+        given(employeeClient.getAll()).willReturn(roster(List.of(a)));
+        given(employeeClient.create(any())).willReturn(oneResp(emp("Bob", 50)));
 
-        // ACT / ASSERT
-        assertThat(employeeService.getHighestSalaryOfEmployees()).isZero();
+        // ACT
+        var first = employeeService.getRosterSnapshot();
+        var second = employeeService.getRosterSnapshot();
+        employeeService.createEmployee(new EmployeeCreateRequest("Bob", 50, 30, "QA"));
+        employeeService.getRosterSnapshot();
+
+        // ASSERT
+        assertThat(second).isSameAs(first);
+        then(employeeClient).should(times(2)).getAll();
     }
 
-    // ------------ getTop10HighestEarningEmployeeNames ------------
+    @Test
+    @DisplayName("while the upstream is unavailable the last roster is served; with none, the error surfaces")
+    void snapshot_fallbackWhenUnavailable() {
+        // ARRANGE
+        var a = emp("Alice", 100);
+        var unavailable = new UpstreamUnavailableException(HttpStatus.SERVICE_UNAVAILABLE, "circuit open");
+        given(employeeClient.getAll()).willThrow(unavailable).willReturn(roster(List.of(a))).willThrow(unavailable);
+        given(employeeClient.streamAll()).willReturn(Flux.error(unavailable));
+        given(employeeClient.create(any())).willReturn(oneResp(emp("Bob", 50)));
+
+        // ACT / ASSERT
+        assertThatThrownBy(() -> employeeService.getRosterSnapshot()).isSameAs(unavailable);
+        var fresh = employeeService.getRosterSnapshot();
+        employeeService.createEmployee(new EmployeeCreateRequest("Bob", 50, 30, "QA"));
+        assertThat(employeeService.getRosterSnapshot()).isSameAs(fresh);
+        assertThat(employeeService.getEmployeesByNameSearch("ali")).containsExactly(a);
+    }
 
     @Test
-    @DisplayName("top10 returns names of top 10 by salary, desc")
-    void top10_ok() {
+    @DisplayName("an unchanged replica sync keeps the Bloom filter trusted for another max age")
+    void snapshot_unchangedSyncRefreshesBloom() {
         // ARRANGE
-        var list = List.of(
-                emp("N1", 10),
-                emp("N2", 20),
-                emp("N3", 30),
-                emp("N4", 40),
-                emp("N5", 50),
-                emp("N6", 60),
-                emp("N7", 70),
-                emp("N8", 80),
-                emp("N9", 90),
-                emp("N10", 100),
-                emp("N11", 5),
-                emp("N12", 1));
-        given(employeeClient.getAll()).willReturn(listResp(list));
+        given(rosterReplica.sync()).willReturn(RosterSnapshot.of(List.of(emp("Alice", 1))));
+        var clock = new AtomicLong();
+        var service = new EmployeeServiceImpl(
+                employeeClient,
+                new EmployeeBatchLoader(employeeClient, 0, 100),
+                new EmployeeCache(
+                        100, Duration.ofMinutes(1), Duration.ofSeconds(5), Duration.ofMillis(500), clock::get),
+                Optional.of(rosterReplica),
+                Duration.ZERO);
+        var id = UUID.randomUUID().toString();
 
-        // ACT
-        var names = employeeService.getTop10HighestEarningEmployeeNames();
+        // ACT: built at 0, confirmed at 300ms, looked up at 600ms
+        service.getRosterSnapshot();
+        clock.addAndGet(Duration.ofMillis(300).toNanos());
+        service.getRosterSnapshot();
+        clock.addAndGet(Duration.ofMillis(300).toNanos());
 
         // ASSERT
-        assertThat(names).hasSize(10);
-        assertThat(names.get(0)).isEqualTo("N10");
-        assertThat(names.get(1)).isEqualTo("N9");
-        assertThat(names.get(2)).isEqualTo("N8");
-        assertThat(names.get(3)).isEqualTo("N7");
-        assertThat(names.get(4)).isEqualTo("N6");
-        assertThat(names.get(5)).isEqualTo("N5");
-        assertThat(names.get(6)).isEqualTo("N4");
-        assertThat(names.get(7)).isEqualTo("N3");
-        assertThat(names.get(8)).isEqualTo("N2");
-        assertThat(names.get(9)).isEqualTo("N1");
+        assertThatThrownBy(() -> service.getEmployeeById(id))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        then(employeeClient).should(never()).getById(id);
+        then(rosterReplica).should(times(2)).sync();
+    }
+
+    @Test
+    @DisplayName("snapshot version depends only on content")
+    void snapshot_versionIsContentHash() {
+        var a = emp("Alice", 100);
+        var b = emp("Bob", 200);
+
+        assertThat(RosterSnapshot.of(List.of(a, b)).version())
+                .isEqualTo(RosterSnapshot.of(List.of(a, b)).version())
+                .isNotEqualTo(RosterSnapshot.of(List.of(b, a)).version())
+                .isNotEqualTo(RosterSnapshot.of(List.of(a)).version());
+    }
+
+    @Test
+    @DisplayName("highest salary and top names computed from a snapshot")
+    void snapshot_derivedValues() {
+        var snapshot = RosterSnapshot.of(List.of(emp("A", 50), emp("B", 70), emp("C", 60)));
+
+        assertThat(employeeService.getHighestSalaryOfEmployees(snapshot)).isEqualTo(70);
+        assertThat(employeeService.getTop10HighestEarningEmployeeNames(snapshot))
+                .containsExactly("B", "C", "A");
+        assertThat(employeeService.getHighestSalaryOfEmployees(RosterSnapshot.of(List.of())))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("top names from a snapshot keep the 10 best paid, highest first, earlier employee on a tie")
+    void snapshot_topNamesBounded() {
+        var roster = new ArrayList<Employee>();
+        for (int i = 1; i <= 15; i++) {
+            roster.add(emp("E" + i, i * 10));
+        }
+        roster.add(emp("Tie", 150));
+
+        var names = employeeService.getTop10HighestEarningEmployeeNames(RosterSnapshot.of(roster));
+
+        assertThat(names).containsExactly("E15", "Tie", "E14", "E13", "E12", "E11", "E10", "E9", "E8", "E7");
+    }
+
+    @Test
+    @DisplayName("name matching ignores case without folding the name")
+    void containsIgnoreCase_matchesAnywhere() {
+        assertThat(EmployeeServiceImpl.containsIgnoreCase("Rosa PARKS", "park")).isTrue();
+        assertThat(EmployeeServiceImpl.containsIgnoreCase("Rosa", "rosa")).isTrue();
+        assertThat(EmployeeServiceImpl.containsIgnoreCase("Rosa", "")).isTrue();
+        assertThat(EmployeeServiceImpl.containsIgnoreCase("Ros", "rosa")).isFalse();
+        assertThat(EmployeeServiceImpl.containsIgnoreCase(null, "rosa")).isFalse();
     }
 
     // ------------ createEmployee ------------
@@ -242,14 +398,14 @@ class EmployeeServiceImplTest {
         // ARRANGE
         var e = emp("Jane Doe", 100);
         given(employeeClient.getById(e.id())).willReturn(oneResp(e));
-        given(employeeClient.deleteByName("Jane Doe")).willReturn(true);
+        given(employeeClient.deleteByName(e.id(), "Jane Doe")).willReturn(true);
 
         // ACT
         var out = employeeService.deleteEmployeeById(e.id());
 
         // ASSERT
         assertThat(out).isEqualTo("Jane Doe");
-        then(employeeClient).should().deleteByName("Jane Doe");
+        then(employeeClient).should().deleteByName(e.id(), "Jane Doe");
     }
 
     @Test
@@ -258,7 +414,7 @@ class EmployeeServiceImplTest {
         // ARRANGE
         var e = emp("Ghost Name", 10);
         given(employeeClient.getById(e.id())).willReturn(oneResp(e));
-        given(employeeClient.deleteByName("Ghost Name")).willReturn(false);
+        given(employeeClient.deleteByName(e.id(), "Ghost Name")).willReturn(false);
 
         // ACT / ASSERT
         assertThatThrownBy(() -> employeeService.deleteEmployeeById(e.id()))
@@ -0,0 +1,179 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.UpstreamCluster;
+import com.reliaquest.api.dto.Employee;
+import com.reliaquest.api.dto.EmployeeBucket;
+import com.reliaquest.api.dto.MerkleRoot;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+class RosterReplicaTest {
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    private final FakeTree upstream = new FakeTree();
+    private RosterReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        var cluster = new UpstreamCluster(List.of("http://a:8112/api/v1"), WebClient.builder(), 2, Duration.ZERO);
+        replica = new RosterReplica(employeeClient, cluster, 1024);
+        given(employeeClient.merkleRoot(any())).willAnswer(inv -> upstream.root());
+    }
+
+    private void answerWalk() {
+        given(employeeClient.merkleChildren(any(), anyInt(), any()))
+                .willAnswer(inv -> upstream.children(inv.getArgument(1), inv.getArgument(2)));
+        given(employeeClient.merkleBuckets(any(), any())).willAnswer(inv -> upstream.buckets(inv.getArgument(1)));
+    }
+
+    private static Employee emp(String name, int salary) {
+        return new Employee(UUID.randomUUID().toString(), name, salary, 30, "Engineer", name + "@example.com");
+    }
+
+    @Test
+    @DisplayName("the first sync fetches every bucket; an unchanged root costs a single call")
+    void firstSyncThenUnchanged() {
+        // ARRANGE
+        answerWalk();
+        var a = emp("Alice", 100);
+        var b = emp("Bob", 200);
+        upstream.put(0, a);
+        upstream.put(3, b);
+
+        // ACT
+        var first = replica.sync();
+        var second = replica.sync();
+
+        // ASSERT
+        assertThat(first.employees()).containsExactly(a, b);
+        assertThat(second).isSameAs(first);
+        then(employeeClient).should().merkleBuckets(any(), any());
+    }
+
+    @Test
+    @DisplayName("after a write only the bucket that changed is refetched")
+    void drift_onlyChangedBucket() {
+        // ARRANGE
+        answerWalk();
+        var a = emp("Alice", 100);
+        upstream.put(0, a);
+        upstream.put(3, emp("Bob", 200));
+        replica.sync();
+        var c = emp("Carol", 300);
+        upstream.put(2, c);
+
+        // ACT
+        var synced = replica.sync();
+
+        // ASSERT
+        assertThat(synced.employees()).hasSize(3).contains(a, c);
+        then(employeeClient).should().merkleBuckets(any(), eq(List.of(2)));
+        // at level 1 only node 1 (buckets 2 and 3) differs, so only its children are asked for
+        then(employeeClient).should().merkleChildren(any(), eq(2), eq(List.of(1)));
+    }
+
+    @Test
+    @DisplayName("a sync that fails midway adopts nothing and is retried in full")
+    void failedSyncRetried() {
+        // ARRANGE
+        var a = emp("Alice", 100);
+        upstream.put(1, a);
+        given(employeeClient.merkleChildren(any(), anyInt(), any()))
+                .willAnswer(inv -> upstream.children(inv.getArgument(1), inv.getArgument(2)));
+        given(employeeClient.merkleBuckets(any(), any()))
+                .willThrow(new IllegalStateException("boom"))
+                .willAnswer(inv -> upstream.buckets(inv.getArgument(1)));
+
+        // ACT / ASSERT
+        assertThatThrownBy(() -> replica.sync()).hasMessage("boom");
+        assertThat(replica.sync().employees()).containsExactly(a);
+    }
+
+    @Test
+    @DisplayName("a node answering 501 for its Merkle root is read whole from then on, without asking again")
+    void notImplemented_readsWholeRoster() {
+        // ARRANGE
+        var a = emp("Alice", 100);
+        var b = emp("Bob", 200);
+        given(employeeClient.merkleRoot(any()))
+                .willThrow(WebClientResponseException.create(501, "Not Implemented", HttpHeaders.EMPTY, null, null));
+        given(employeeClient.stream(any())).willReturn(Flux.just(a), Flux.just(a, b));
+
+        // ACT
+        var first = replica.sync();
+        var second = replica.sync();
+
+        // ASSERT
+        assertThat(first.employees()).containsExactly(a);
+        assertThat(second.employees()).containsExactly(a, b);
+        then(employeeClient).should(times(1)).merkleRoot(any());
+        then(employeeClient).should(never()).merkleBuckets(any(), any());
+    }
+
+    /** Fanout 2, depth 2: four buckets, hashed like the mock server does (leaf = sum, inner = ordered). */
+    private static final class FakeTree {
+
+        private final List<List<Employee>> buckets = List.of(
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+
+        void put(int bucket, Employee employee) {
+            buckets.get(bucket).add(employee);
+        }
+
+        MerkleRoot root() {
+            return new MerkleRoot(2, 2, hash(0, 0));
+        }
+
+        Map<Integer, List<String>> children(int level, Collection<Integer> parents) {
+            var result = new LinkedHashMap<Integer, List<String>>();
+            for (int parent : parents) {
+                result.put(parent, List.of(hash(level, parent * 2), hash(level, parent * 2 + 1)));
+            }
+            return result;
+        }
+
+        List<EmployeeBucket> buckets(Collection<Integer> ids) {
+            return ids.stream()
+                    .map(id -> new EmployeeBucket(id, hash(2, id), List.copyOf(buckets.get(id))))
+                    .toList();
+        }
+
+        private String hash(int level, int node) {
+            if (level == 2) {
+                return Long.toHexString(
+                        buckets.get(node).stream().mapToLong(Employee::hashCode).sum());
+            }
+            var children = hash(level + 1, node * 2) + "|" + hash(level + 1, node * 2 + 1);
+            return Integer.toHexString(children.hashCode());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpanRecorderTest {
+
+    @Test
+    @DisplayName("keeps only the newest spans once the ring wraps, newest first")
+    void wrapsAround() {
+        // ARRANGE
+        var recorder = new SpanRecorder(true, 4);
+
+        // ACT
+        for (int i = 0; i < 6; i++) {
+            recorder.record("t" + (i % 2), "hop" + i, System.nanoTime(), 200);
+        }
+
+        // ASSERT
+        assertThat(recorder.capacity()).isEqualTo(4);
+        assertThat(recorder.recent(null, 10)).extracting(Span::name).containsExactly("hop5", "hop4", "hop3", "hop2");
+        assertThat(recorder.recent("t1", 10)).extracting(Span::name).containsExactly("hop5", "hop3");
+        assertThat(recorder.recent(null, 1)).extracting(Span::name).containsExactly("hop5");
+    }
+
+    @Test
+    @DisplayName("records nothing when disabled")
+    void disabled() {
+        var recorder = new SpanRecorder(false, 8);
+
+        recorder.record("t", "hop", System.nanoTime(), 200);
+
+        assertThat(recorder.recent(null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjector;
+import com.reliaquest.server.service.MockEmployeeBulkService;
+import com.reliaquest.server.service.MockEmployeeResponseCache;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.reactive.CorrelationIdWebFilter;
+import com.reliaquest.server.web.reactive.FaultAdminHandler;
+import com.reliaquest.server.web.reactive.FaultInjectionWebFilter;
+import com.reliaquest.server.web.reactive.MockEmployeeHandler;
+import com.reliaquest.server.web.reactive.RandomRequestLimitWebFilter;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/*
+ * WebFlux/Reactor Netty runtime, selected with the "reactive" profile (spring.main.web-application-type=reactive).
+ * Serves the same routes as MockEmployeeController and FaultAdminController through functional handlers, with the
+ * servlet filters and interceptor ported to WebFilters sharing the same RequestLimiter and FaultInjector.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfiguration {
+
+    private static final String BASE_PATH = "/api/v1/employee";
+    private static final String FAULTS_PATH = "/admin/faults";
+
+    @Bean
+    public MockEmployeeHandler mockEmployeeHandler(
+            MockEmployeeService mockEmployeeService,
+            MockEmployeeBulkService mockEmployeeBulkService,
+            MockEmployeeResponseCache mockEmployeeResponseCache,
+            Validator validator) {
+        return new MockEmployeeHandler(
+                mockEmployeeService, mockEmployeeBulkService, mockEmployeeResponseCache, validator);
+    }
+
+    @Bean
+    public FaultAdminHandler faultAdminHandler(FaultInjector faultInjector, Validator validator) {
+        return new FaultAdminHandler(faultInjector, validator);
+    }
+
+    /*
+     * Routes are matched in declaration order, so literal paths come before /{id}.
+     */
+    @Bean
+    public RouterFunction<ServerResponse> mockEmployeeRoutes(
+            MockEmployeeHandler handler, FaultAdminHandler faultAdminHandler) {
+        return RouterFunctions.route()
+                .GET(BASE_PATH, handler::getEmployees)
+                .GET(BASE_PATH + "/page", handler::getEmployeePage)
+                .GET(BASE_PATH + "/salary", handler::getEmployeesBySalary)
+                .GET(BASE_PATH + "/age", handler::getEmployeesByAge)
+                .GET(BASE_PATH + "/export", handler::exportEmployees)
+                .GET(BASE_PATH + "/search", handler::searchEmployees)
+                .GET(BASE_PATH + "/merkle", handler::getMerkleRoot)
+                .GET(BASE_PATH + "/merkle/{level}", handler::getMerkleChildren)
+                .GET(BASE_PATH + "/{id}", handler::getEmployee)
+                .POST(BASE_PATH + "/batch", handler::findEmployees)
+                .POST(BASE_PATH + "/merkle/buckets", handler::getMerkleBuckets)
+                .POST(
+                        BASE_PATH + "/import",
+                        RequestPredicates.contentType(MockEmployeeHandler.NDJSON, MockEmployeeHandler.CSV),
+                        handler::importEmployees)
+                .POST(BASE_PATH, handler::createEmployee)
+                .DELETE(BASE_PATH, handler::deleteEmployee)
+                .GET(FAULTS_PATH, faultAdminHandler::getFaults)
+                .PUT(FAULTS_PATH, faultAdminHandler::putFaults)
+                .DELETE(FAULTS_PATH, faultAdminHandler::resetFaults)
+                .onError(UnsupportedOperationException.class, (ex, request) -> {
+                    log.debug("Not implemented: {}", ex.getMessage());
+                    return ServerResponse.status(HttpStatus.NOT_IMPLEMENTED).bodyValue(Response.error(ex.getMessage()));
+                })
+                .onError(Throwable.class, (ex, request) -> {
+                    log.error("Error handling web request.", ex);
+                    return ServerResponse.internalServerError().bodyValue(Response.error(ex.getMessage()));
+                })
+                .build();
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public CorrelationIdWebFilter correlationIdWebFilter() {
+        return new CorrelationIdWebFilter();
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public FaultInjectionWebFilter faultInjectionWebFilter(FaultInjector faultInjector) {
+        return new FaultInjectionWebFilter(faultInjector);
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    @ConditionalOnProperty(name = "mock.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public RandomRequestLimitWebFilter randomRequestLimitWebFilter() {
+        return new RandomRequestLimitWebFilter(RandomRequestLimitInterceptor.randomLimiter());
+    }
+}
@@ -1,8 +1,11 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultSettings;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.service.MockEmployeeRoster;
+import com.reliaquest.server.service.MockEmployeeVirtualDataset;
+import com.reliaquest.server.web.MockEmployeeJsonModule;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
@@ -14,14 +17,14 @@ import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
@@ -31,10 +34,17 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Seeded roster; CRUD operations publish new immutable versions rather than mutating a shared list.
+     * With a virtual dataset it starts empty and only holds the employees created on top of it.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MockEmployeeRoster mockEmployeeRoster(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.virtual.rows:0}") long virtualRows) {
+        if (virtualRows > 0) {
+            return new MockEmployeeRoster(List.of());
+        }
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -49,11 +59,36 @@ public class ServerConfiguration implements WebMvcConfigurer {
         return IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .collect(Collectors.collectingAndThen(Collectors.toList(), MockEmployeeRoster::new));
     }
 
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+    /*
+     * Scale-test roster of mock.virtual.rows employees generated per row on demand from mock.virtual.seed.
+     */
+    @Bean
+    @ConditionalOnExpression("${mock.virtual.rows:0} > 0")
+    public MockEmployeeVirtualDataset mockEmployeeVirtualDataset(
+            MockEmployeeRoster roster,
+            ObjectMapper objectMapper,
+            @Value("${mock.virtual.rows}") long rows,
+            @Value("${mock.virtual.seed:1}") long seed) {
+        return new MockEmployeeVirtualDataset(rows, seed, roster, objectMapper);
+    }
+
+    /*
+     * Startup fault injection settings (mock.faults); FaultInjector can replace them at runtime.
+     */
+    @Bean
+    @ConfigurationProperties("mock.faults")
+    public FaultSettings faultSettings() {
+        return new FaultSettings();
+    }
+
+    /*
+     * Streaming MockEmployee codec; Boot registers Module beans with the ObjectMapper behind MVC and the byte cache.
+     */
+    @Bean
+    public MockEmployeeJsonModule mockEmployeeJsonModule() {
+        return new MockEmployeeJsonModule();
     }
 }
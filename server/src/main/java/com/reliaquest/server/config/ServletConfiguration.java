@@ -0,0 +1,50 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.service.FaultInjector;
+import com.reliaquest.server.web.CorrelationIdFilter;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * Default Tomcat/MVC runtime: MockEmployeeController behind the correlation filter, fault injection and the random
+ * rate limit.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServletConfiguration implements WebMvcConfigurer {
+
+    private final boolean rateLimitEnabled;
+
+    public ServletConfiguration(@Value("${mock.rate-limit.enabled:true}") boolean rateLimitEnabled) {
+        this.rateLimitEnabled = rateLimitEnabled;
+    }
+
+    @Bean
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter() {
+        final var registration = new FilterRegistrationBean<>(new CorrelationIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(FaultInjector faultInjector) {
+        final var registration = new FilterRegistrationBean<>(new FaultInjectionFilter(faultInjector));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (rateLimitEnabled) {
+            registry.addInterceptor(new RandomRequestLimitInterceptor()).excludePathPatterns("/admin/**");
+        }
+    }
+}
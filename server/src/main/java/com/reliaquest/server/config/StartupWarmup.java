@@ -0,0 +1,68 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/*
+ * Optional warm-up (warmup.enabled) before readiness is published: loops roster serialization and id lookups
+ * so the JIT has compiled them before the first request. Read at runtime so the bean survives AOT processing.
+ */
+@Slf4j
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final int LOOKUPS_PER_ITERATION = 100;
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int iterations;
+
+    public StartupWarmup(
+            MockEmployeeService mockEmployeeService,
+            ObjectMapper objectMapper,
+            @Value("${warmup.enabled:false}") boolean enabled,
+            @Value("${warmup.iterations:2000}") int iterations) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!enabled) {
+            return;
+        }
+        final var start = System.nanoTime();
+        long firstMicros = 0;
+        long lastMicros = 0;
+        for (int i = 0; i < iterations; i++) {
+            final var iterationStart = System.nanoTime();
+            final var employees = mockEmployeeService.snapshot().employees();
+            objectMapper.writeValueAsBytes(Response.handledWith(employees));
+            for (MockEmployee employee : employees.subList(0, Math.min(employees.size(), LOOKUPS_PER_ITERATION))) {
+                mockEmployeeService.findById(employee.getId());
+            }
+            lastMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - iterationStart);
+            if (i == 0) {
+                firstMicros = lastMicros;
+            }
+        }
+        log.info(
+                "Warm-up done in {} ms: roster={}, iterations={}, first iteration {} us, last {} us",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                mockEmployeeService.snapshot().size(),
+                iterations,
+                firstMicros,
+                lastMicros);
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultSettings;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjector;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Runtime control of fault injection; not rate limited and never subject to injected faults itself.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public Response<FaultSettings> getFaults() {
+        return Response.handledWith(faultInjector.settings());
+    }
+
+    @PutMapping()
+    public Response<FaultSettings> putFaults(@Valid @RequestBody FaultSettings settings) {
+        faultInjector.update(settings);
+        return Response.handledWith(settings);
+    }
+
+    /*
+     * Restores the settings from configuration.
+     */
+    @DeleteMapping()
+    public Response<FaultSettings> resetFaults() {
+        faultInjector.restore();
+        return Response.handledWith(faultInjector.settings());
+    }
+}
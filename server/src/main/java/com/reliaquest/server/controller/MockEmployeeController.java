@@ -2,14 +2,35 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.FindMockEmployeeBucketsInput;
+import com.reliaquest.server.model.FindMockEmployeesInput;
+import com.reliaquest.server.model.ImportMockEmployeesResult;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeBucket;
+import com.reliaquest.server.model.MockEmployeeFields;
+import com.reliaquest.server.model.MockEmployeeMerkleRoot;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.model.MockEmployeeProjection;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeBulkService;
+import com.reliaquest.server.service.MockEmployeeResponseCache;
 import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,28 +38,188 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String TOMCAT_SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String TOMCAT_SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String TOMCAT_SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String TOMCAT_SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final MockEmployeeService mockEmployeeService;
+    private final MockEmployeeBulkService mockEmployeeBulkService;
+    private final MockEmployeeResponseCache mockEmployeeResponseCache;
 
+    /*
+     * Written straight from the per-version byte cache: repeated reads of an unchanged roster cost neither
+     * serialization nor compression. Tomcat leaves responses that already carry a Content-Encoding alone.
+     * ?fields=id,employee_name,... selects a sparse fieldset, cached per version like the full body; an unknown
+     * field name fails like a @Valid violation. A virtual dataset is too large to cache and is streamed row by row
+     * instead, compressed by Tomcat when the client accepts it.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public void getEmployees(
+            @RequestParam(value = "fields", required = false) String fields,
+            HttpServletRequest request,
+            HttpServletResponse response)
+            throws IOException {
+        final var selected = MockEmployeeFields.parse(fields);
+        final var virtual = mockEmployeeService.virtualDataset();
+        if (virtual.isPresent()) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            virtual.get().writeJson(response.getOutputStream(), selected);
+            return;
+        }
+        final var entry = mockEmployeeResponseCache.get(mockEmployeeService.snapshot(), selected);
+        final byte[] body;
+        if (MockEmployeeResponseCache.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, MockEmployeeResponseCache.GZIP);
+            body = entry.gzip();
+        } else {
+            body = entry.json();
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
+    public ResponseEntity<Response<MockEmployeeProjection>> getEmployee(
+            @PathVariable("id") UUID uuid, @RequestParam(value = "fields", required = false) String fields) {
+        final var selected = MockEmployeeFields.parse(fields);
         return mockEmployeeService
                 .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .map(employee -> ResponseEntity.ok(Response.handledWith(MockEmployeeProjection.of(employee, selected))))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /*
+     * The roster in its own order, paged via cursor; the one paged read that also covers a virtual dataset.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Response<MockEmployeePage>> getEmployeePage(
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        return orBadRequest(() -> mockEmployeeService.findPage(cursor, pageSize(limit)));
+    }
+
+    /*
+     * Range queries backed by sorted indexes; inclusive bounds, ordered by value then id, paged via cursor.
+     */
+    @GetMapping("/salary")
+    public ResponseEntity<Response<MockEmployeePage>> getEmployeesBySalary(
+            @RequestParam(value = "min", defaultValue = "0") int min,
+            @RequestParam(value = "max", defaultValue = "" + Integer.MAX_VALUE) int max,
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        return orBadRequest(() -> mockEmployeeService.findBySalaryRange(min, max, cursor, pageSize(limit)));
+    }
+
+    @GetMapping("/age")
+    public ResponseEntity<Response<MockEmployeePage>> getEmployeesByAge(
+            @RequestParam(value = "min", defaultValue = "0") int min,
+            @RequestParam(value = "max", defaultValue = "" + Integer.MAX_VALUE) int max,
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        return orBadRequest(() -> mockEmployeeService.findByAgeRange(min, max, cursor, pageSize(limit)));
+    }
+
+    /*
+     * Full-text search: ?q=terms, each a prefix of a name, title or email token (or a whole email domain), all of
+     * which must match. At most {@code limit} results.
+     */
+    @GetMapping("/search")
+    public Response<MockEmployeeProjection> searchEmployees(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(value = "fields", required = false) String fields) {
+        final var selected = MockEmployeeFields.parse(fields);
+        return Response.handledWith(
+                MockEmployeeProjection.of(mockEmployeeService.search(query, pageSize(limit)), selected));
+    }
+
+    /*
+     * Batch lookup by id. POST so large id sets are not limited by URL length; counts as one request.
+     */
+    @PostMapping("/batch")
+    public Response<MockEmployeeProjection> getEmployees(
+            @Valid @RequestBody FindMockEmployeesInput input,
+            @RequestParam(value = "fields", required = false) String fields) {
+        final var selected = MockEmployeeFields.parse(fields);
+        return Response.handledWith(MockEmployeeProjection.of(mockEmployeeService.findByIds(input.getIds()), selected));
+    }
+
+    /*
+     * Merkle-tree anti-entropy: a replica compares the root, then asks for the child hashes of the nodes that
+     * differ (?parents= at level - 1), and finally fetches only the mismatched leaf buckets.
+     */
+    @GetMapping("/merkle")
+    public Response<MockEmployeeMerkleRoot> getMerkleRoot() {
+        return Response.handledWith(mockEmployeeService.merkleRoot());
+    }
+
+    @GetMapping("/merkle/{level}")
+    public ResponseEntity<Response<Map<Integer, List<String>>>> getMerkleChildren(
+            @PathVariable("level") int level, @RequestParam("parents") List<Integer> parents) {
+        return orBadRequest(() -> mockEmployeeService.merkleChildren(level, parents));
+    }
+
+    @PostMapping("/merkle/buckets")
+    public ResponseEntity<Response<List<MockEmployeeBucket>>> getMerkleBuckets(
+            @Valid @RequestBody FindMockEmployeeBucketsInput input) {
+        return orBadRequest(() -> mockEmployeeService.merkleBuckets(input.getBuckets()));
+    }
+
+    /*
+     * Streaming bulk import: one JSON CreateMockEmployeeInput per line, or CSV with a name,salary,age,title header.
+     */
+    @PostMapping(value = "/import", consumes = {NDJSON_VALUE, CSV_VALUE})
+    public Response<ImportMockEmployeesResult> importEmployees(HttpServletRequest request) throws IOException {
+        final var format = request.getContentType().startsWith(CSV_VALUE)
+                ? MockEmployeeBulkService.Format.CSV
+                : MockEmployeeBulkService.Format.NDJSON;
+        return Response.handledWith(mockEmployeeBulkService.importRows(request.getInputStream(), format));
+    }
+
+    /*
+     * NDJSON export of the current roster version, served from a file: Tomcat sendfile when available,
+     * otherwise FileChannel.transferTo into the response stream.
+     */
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public void exportEmployees(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        final var file = mockEmployeeBulkService.exportFile(mockEmployeeService.exportSnapshot());
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            response.setContentType(NDJSON_VALUE);
+            response.setContentLengthLong(size);
+            response.setHeader(
+                    HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"");
+            if (Boolean.TRUE.equals(request.getAttribute(TOMCAT_SENDFILE_SUPPORT))) {
+                request.setAttribute(TOMCAT_SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(TOMCAT_SENDFILE_START, 0L);
+                request.setAttribute(TOMCAT_SENDFILE_END, size);
+                return;
+            }
+            final var out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
@@ -48,4 +229,16 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static <T> ResponseEntity<Response<T>> orBadRequest(Supplier<T> query) {
+        try {
+            return ResponseEntity.ok(Response.handledWith(query.get()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
 }
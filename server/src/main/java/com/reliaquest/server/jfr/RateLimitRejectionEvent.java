@@ -0,0 +1,50 @@
+package com.reliaquest.server.jfr;
+
+import java.time.Duration;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/*
+ * A request refused with 429 by the mock's random rate limit.
+ */
+@Name("com.reliaquest.server.RateLimitRejection")
+@Label("Rate Limit Rejection")
+@Category({"ReliaQuest", "Mock Server"})
+@Description("Request refused by the random request limiter")
+@StackTrace(false)
+public final class RateLimitRejectionEvent extends Event {
+
+    @Label("Correlation Id")
+    String correlationId;
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Limit")
+    @Description("Requests admitted before the lockout")
+    int limit;
+
+    @Label("Lockout Remaining")
+    @Timespan(Timespan.MILLISECONDS)
+    long lockoutMillis;
+
+    public static void emit(String correlationId, String method, String path, int limit, Duration lockout) {
+        final var event = new RateLimitRejectionEvent();
+        if (event.shouldCommit()) {
+            event.correlationId = correlationId;
+            event.method = method;
+            event.path = path;
+            event.limit = limit;
+            event.lockoutMillis = lockout.toMillis();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.jfr;
+
+import com.reliaquest.server.web.CorrelationIdFilter;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.slf4j.MDC;
+
+/*
+ * One read or write against the mock roster. Fields are only filled in while a recording has the event enabled,
+ * so an idle instance costs a field check.
+ *
+ * The correlation id comes from the MDC, which the servlet stack holds for the whole request; on the reactive
+ * stack it is usually empty because handlers run on the event loop.
+ */
+@Name("com.reliaquest.server.StoreOperation")
+@Label("Store Operation")
+@Category({"ReliaQuest", "Mock Server"})
+@Description("Lookup or write against the mock employee roster")
+@StackTrace(false)
+public final class StoreOperationEvent extends Event {
+
+    @Label("Correlation Id")
+    String correlationId;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Employees")
+    @Description("Employees returned by a lookup or written by a mutation")
+    int employees;
+
+    @Label("Version")
+    @Description("Roster version after a write, -1 for lookups")
+    long version;
+
+    public static StoreOperationEvent begin(String operation) {
+        final var event = new StoreOperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.correlationId = MDC.get(CorrelationIdFilter.MDC_KEY);
+            event.begin();
+        }
+        return event;
+    }
+
+    public void end(int employees) {
+        end(employees, -1);
+    }
+
+    public void end(int employees, long version) {
+        if (isEnabled()) {
+            this.employees = employees;
+            this.version = version;
+            commit();
+        }
+    }
+}
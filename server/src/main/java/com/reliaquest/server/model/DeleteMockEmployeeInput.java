@@ -1,6 +1,7 @@
 package com.reliaquest.server.model;
 
 import jakarta.validation.constraints.NotBlank;
+import java.util.UUID;
 import lombok.Data;
 
 @Data
@@ -8,4 +9,9 @@ public class DeleteMockEmployeeInput {
 
     @NotBlank
     private String name;
+
+    /*
+     * Optional: when given, only the employee with this id (and name) is deleted.
+     */
+    private UUID id;
 }
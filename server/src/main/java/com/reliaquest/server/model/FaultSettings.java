@@ -0,0 +1,105 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Fault injection settings: bound from {@code mock.faults} at startup and replaced at runtime through
+ * {@code PUT /admin/faults}. The first rule whose method and path match a request applies to it.
+ */
+@Data
+public class FaultSettings {
+
+    private boolean enabled;
+
+    @Valid
+    @NotNull private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        /** HTTP method to match, any when null. */
+        private String method;
+
+        /** Ant-style path pattern, e.g. {@code /api/v1/employee/**}. */
+        @NotBlank
+        private String path;
+
+        @Valid
+        private Latency latency;
+
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private double errorRate;
+
+        @Min(400)
+        @Max(599)
+        private int errorStatus = 503;
+
+        /** Share of requests whose connection is dropped instead of answered. */
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private double resetRate;
+
+        @Valid
+        private Trickle trickle;
+    }
+
+    /**
+     * Added before the request is handled. FIXED waits fixedMillis; NORMAL samples mean/stddev (clamped at 0);
+     * PARETO samples scale / U^(1/shape), a long tail whose weight grows as shape falls towards 1. Every sample
+     * is capped at maxMillis.
+     */
+    @Data
+    public static class Latency {
+
+        @NotNull private Distribution distribution = Distribution.FIXED;
+
+        @PositiveOrZero
+        private long fixedMillis;
+
+        @PositiveOrZero
+        private long meanMillis;
+
+        @PositiveOrZero
+        private long stddevMillis;
+
+        @PositiveOrZero
+        private long scaleMillis;
+
+        @Positive
+        private double shape = 1.5;
+
+        @Positive
+        private long maxMillis = 30_000;
+    }
+
+    public enum Distribution {
+        FIXED,
+        NORMAL,
+        PARETO
+    }
+
+    /**
+     * Slow body: the response is sent chunkBytes at a time with intervalMillis between chunks.
+     */
+    @Data
+    public static class Trickle {
+
+        @Positive
+        private int chunkBytes = 256;
+
+        @PositiveOrZero
+        private long intervalMillis = 50;
+    }
+}
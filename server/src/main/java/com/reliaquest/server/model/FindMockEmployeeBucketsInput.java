@@ -0,0 +1,14 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class FindMockEmployeeBucketsInput {
+
+    @NotEmpty
+    @Size(max = 4096)
+    private List<Integer> buckets;
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+
+@Data
+public class FindMockEmployeesInput {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<UUID> ids;
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: counts plus the first few rejected rows, by 1-based line number.
+ */
+public record ImportMockEmployeesResult(long imported, long rejected, List<String> errors) {}
@@ -0,0 +1,8 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * One leaf of the roster's Merkle tree: its members and the hash they produce, read together.
+ */
+public record MockEmployeeBucket(int bucket, String hash, List<MockEmployee> employees) {}
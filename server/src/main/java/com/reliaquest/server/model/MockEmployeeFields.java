@@ -0,0 +1,64 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Sparse fieldset from {@code ?fields=id,employee_name,...}: one bit per MockEmployee JSON field. A missing or blank
+ * parameter selects every field; unknown names are rejected with IllegalArgumentException.
+ */
+public record MockEmployeeFields(int bits) {
+
+    public static final int ID = 0;
+    public static final int NAME = 1;
+    public static final int SALARY = 2;
+    public static final int AGE = 3;
+    public static final int TITLE = 4;
+    public static final int EMAIL = 5;
+
+    private static final List<String> NAMES =
+            List.of("id", "employee_name", "employee_salary", "employee_age", "employee_title", "employee_email");
+
+    public static final MockEmployeeFields ALL = new MockEmployeeFields((1 << NAMES.size()) - 1);
+
+    public static MockEmployeeFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        int bits = 0;
+        for (final var field : fields.split(",")) {
+            final var name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            final int index = NAMES.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            bits |= 1 << index;
+        }
+        return bits == 0 || bits == ALL.bits ? ALL : new MockEmployeeFields(bits);
+    }
+
+    public boolean includes(int field) {
+        return (bits & (1 << field)) != 0;
+    }
+
+    public boolean isAll() {
+        return bits == ALL.bits;
+    }
+
+    /*
+     * Canonical form: selected names in output order.
+     */
+    @Override
+    public String toString() {
+        final var joiner = new StringJoiner(",");
+        for (int i = 0; i < NAMES.size(); i++) {
+            if (includes(i)) {
+                joiner.add(NAMES.get(i));
+            }
+        }
+        return joiner.toString();
+    }
+}
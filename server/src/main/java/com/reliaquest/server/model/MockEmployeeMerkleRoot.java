@@ -0,0 +1,6 @@
+package com.reliaquest.server.model;
+
+/**
+ * Shape and root hash of the roster's Merkle tree. A replica that holds a different fanout or depth starts over.
+ */
+public record MockEmployeeMerkleRoot(int fanout, int depth, String hash) {}
@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * One page of a range query or of the roster in order; pass nextCursor back as the cursor parameter to continue,
+ * null on the last page.
+ */
+public record MockEmployeePage(List<MockEmployee> employees, String nextCursor) {}
@@ -0,0 +1,19 @@
+package com.reliaquest.server.model;
+
+import java.util.Collection;
+import lombok.NonNull;
+
+/**
+ * One employee, or a collection of them, to be written with only the selected fields. MockEmployeeJsonModule
+ * streams it straight from the MockEmployee instances; nothing is copied per employee.
+ */
+public record MockEmployeeProjection(@NonNull Object value, @NonNull MockEmployeeFields fields) {
+
+    public static MockEmployeeProjection of(MockEmployee employee, MockEmployeeFields fields) {
+        return new MockEmployeeProjection(employee, fields);
+    }
+
+    public static MockEmployeeProjection of(Collection<MockEmployee> employees, MockEmployeeFields fields) {
+        return new MockEmployeeProjection(employees, fields);
+    }
+}
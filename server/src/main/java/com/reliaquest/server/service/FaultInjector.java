@@ -0,0 +1,111 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultSettings;
+import com.reliaquest.server.model.Response;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+
+/*
+ * Decides, per request, which configured faults to inject. Stack-neutral: the servlet filter and the reactive
+ * WebFilter both ask decide() and apply the answer their own way.
+ *
+ * Settings are swapped as a whole (volatile), so a request always sees one consistent rule set.
+ */
+@Slf4j
+@Service
+public class FaultInjector {
+
+    private static final String ERROR_MESSAGE = "Injected fault";
+    private static final String ADMIN_PATH = "/admin/";
+
+    private final FaultSettings configured;
+    private final byte[] errorBody;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private volatile FaultSettings settings;
+
+    public FaultInjector(@NonNull FaultSettings faultSettings, @NonNull ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        this.configured = faultSettings;
+        this.settings = faultSettings;
+        this.errorBody = objectMapper.writeValueAsBytes(Response.error(ERROR_MESSAGE));
+        if (faultSettings.isEnabled()) {
+            log.warn("Fault injection enabled with {} rule(s)", faultSettings.getRules().size());
+        }
+    }
+
+    public FaultSettings settings() {
+        return settings;
+    }
+
+    public void update(@NonNull FaultSettings settings) {
+        this.settings = settings;
+        log.warn(
+                "Fault injection {} with {} rule(s)",
+                settings.isEnabled() ? "enabled" : "disabled",
+                settings.getRules().size());
+    }
+
+    /*
+     * Back to the settings bound from configuration at startup.
+     */
+    public void restore() {
+        update(configured);
+    }
+
+    /*
+     * Response body for injected errors, in the same envelope as real errors.
+     */
+    public byte[] errorBody() {
+        return errorBody;
+    }
+
+    /*
+     * The faults for this request, or null when none apply.
+     */
+    public Fault decide(@NonNull String method, @NonNull String path) {
+        final var current = settings;
+        if (!current.isEnabled() || path.startsWith(ADMIN_PATH)) {
+            return null;
+        }
+        for (final var rule : current.getRules()) {
+            if ((rule.getMethod() == null || rule.getMethod().equalsIgnoreCase(method))
+                    && pathMatcher.match(rule.getPath(), path)) {
+                return roll(rule);
+            }
+        }
+        return null;
+    }
+
+    private static Fault roll(FaultSettings.Rule rule) {
+        final var random = ThreadLocalRandom.current();
+        final var delay = rule.getLatency() == null ? Duration.ZERO : sample(rule.getLatency(), random);
+        final boolean reset = random.nextDouble() < rule.getResetRate();
+        final int errorStatus = !reset && random.nextDouble() < rule.getErrorRate() ? rule.getErrorStatus() : 0;
+        return new Fault(delay, reset, errorStatus, rule.getTrickle());
+    }
+
+    static Duration sample(FaultSettings.Latency latency, ThreadLocalRandom random) {
+        final double millis =
+                switch (latency.getDistribution()) {
+                    case FIXED -> latency.getFixedMillis();
+                    case NORMAL -> latency.getMeanMillis() + random.nextGaussian() * latency.getStddevMillis();
+                    // inverse CDF; 1 - U keeps the base in (0, 1]
+                    case PARETO -> latency.getScaleMillis()
+                            / Math.pow(1.0 - random.nextDouble(), 1.0 / latency.getShape());
+                };
+        return Duration.ofNanos((long) (Math.max(0, Math.min(millis, latency.getMaxMillis())) * 1_000_000));
+    }
+
+    /*
+     * delay before anything else; then either drop the connection, answer errorStatus (when > 0), or pass the
+     * request on and send its body through trickle (when set).
+     */
+    public record Fault(Duration delay, boolean reset, int errorStatus, FaultSettings.Trickle trickle) {}
+}
@@ -0,0 +1,253 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.ImportMockEmployeesResult;
+import com.reliaquest.server.model.MockEmployee;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/*
+ * Bulk seeding and export of the roster.
+ *
+ * Import reads the body line by line, so only one batch of rows is in memory at a time. Each batch is parsed
+ * and validated in parallel and appended to the roster as a single new version. Export writes one snapshot
+ * version to a file once; later exports of the same version reuse that file. The newest file and the one before it
+ * are kept; older ones are deleted.
+ */
+@Slf4j
+@Service
+public class MockEmployeeBulkService {
+
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final Pattern NON_HANDLE_CHARS = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern EXPORT_FILE = Pattern.compile("mock-employees-v(\\d+)\\.ndjson");
+
+    private final MockEmployeeRoster roster;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Path exportDir;
+
+    public MockEmployeeBulkService(
+            MockEmployeeRoster roster,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${mock.import.batch-size:10000}") int batchSize,
+            @Value("${mock.export.dir:${java.io.tmpdir}}") Path exportDir) {
+        this.roster = roster;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.exportDir = exportDir;
+    }
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    public ImportMockEmployeesResult importRows(@NonNull InputStream body, @NonNull Format format) throws IOException {
+        final var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 1 << 16);
+        final List<String> errors = new ArrayList<>();
+        final var lines = new ArrayList<String>(batchSize);
+        long imported = 0;
+        long rejected = 0;
+        long lineNumber = 0;
+        long batchStartLine = 1;
+        String[] csvHeader = null;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (format == Format.CSV && csvHeader == null) {
+                csvHeader = splitCsv(line.toLowerCase(Locale.ROOT));
+                batchStartLine = lineNumber + 1;
+                continue;
+            }
+            lines.add(line);
+            if (lines.size() == batchSize) {
+                final var result = importBatch(lines, batchStartLine, format, csvHeader, errors);
+                imported += result[0];
+                rejected += result[1];
+                batchStartLine = lineNumber + 1;
+                lines.clear();
+            }
+        }
+        if (!lines.isEmpty()) {
+            final var result = importBatch(lines, batchStartLine, format, csvHeader, errors);
+            imported += result[0];
+            rejected += result[1];
+        }
+        log.info("Imported {} employees ({} rejected) from {}", imported, rejected, format);
+        return new ImportMockEmployeesResult(imported, rejected, errors);
+    }
+
+    private long[] importBatch(
+            List<String> lines, long firstLine, Format format, String[] csvHeader, List<String> errors) {
+        final var parsed = new Object[lines.size()];
+        IntStream.range(0, lines.size())
+                .parallel()
+                .forEach(i -> parsed[i] = parseRow(lines.get(i), format, csvHeader));
+
+        final List<MockEmployee> valid = new ArrayList<>(lines.size());
+        long rejected = 0;
+        for (int i = 0; i < parsed.length; i++) {
+            if (parsed[i] instanceof MockEmployee employee) {
+                valid.add(employee);
+            } else if (parsed[i] instanceof String error) {
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add("line " + (firstLine + i) + ": " + error);
+                }
+            }
+        }
+        roster.addAll(valid);
+        return new long[] {valid.size(), rejected};
+    }
+
+    /*
+     * Returns the employee, an error message, or null for blank lines.
+     */
+    private Object parseRow(String line, Format format, String[] csvHeader) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            final var input = format == Format.NDJSON
+                    ? objectMapper.readValue(line, CreateMockEmployeeInput.class)
+                    : fromCsv(splitCsv(line), csvHeader);
+            final var violations = validator.validate(input);
+            if (!violations.isEmpty()) {
+                final var first = violations.iterator().next();
+                return first.getPropertyPath() + " " + first.getMessage();
+            }
+            final var handle = NON_HANDLE_CHARS
+                    .matcher(input.getName().toLowerCase(Locale.ROOT))
+                    .replaceAll(".");
+            return MockEmployee.from(ServerConfiguration.EMAIL_TEMPLATE.formatted(handle), input);
+        } catch (IOException | RuntimeException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    private static CreateMockEmployeeInput fromCsv(String[] values, String[] header) {
+        final Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.length && i < values.length; i++) {
+            row.put(header[i].trim(), values[i].trim());
+        }
+        final var input = new CreateMockEmployeeInput();
+        input.setName(row.get("name"));
+        input.setTitle(row.get("title"));
+        input.setSalary(row.get("salary") == null ? null : Integer.valueOf(row.get("salary")));
+        input.setAge(row.get("age") == null ? null : Integer.valueOf(row.get("age")));
+        return input;
+    }
+
+    /*
+     * RFC 4180 field splitting for a single line (quoted fields, "" escapes; no embedded newlines).
+     */
+    static String[] splitCsv(String line) {
+        final List<String> fields = new ArrayList<>();
+        final var field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(String[]::new);
+    }
+
+    /*
+     * NDJSON file of the given snapshot, written on first request for that version.
+     */
+    public Path exportFile(@NonNull MockEmployeeRoster.Snapshot snapshot) throws IOException {
+        final var target = exportDir.resolve("mock-employees-v" + snapshot.version() + ".ndjson");
+        if (Files.exists(target)) {
+            return target;
+        }
+        Files.createDirectories(exportDir);
+        final var temp = Files.createTempFile(exportDir, "mock-employees-", ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            final var employeeWriter = objectMapper.writerFor(MockEmployee.class);
+            for (final var employee : snapshot.employees()) {
+                writer.write(employeeWriter.writeValueAsString(employee));
+                writer.write('\n');
+            }
+        } catch (IOException | UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        deleteOlderExports(target);
+        return target;
+    }
+
+    /*
+     * Deletes export files older than the previous generation. The previous one stays until the next swap: an /export
+     * response may have resolved its path just before this swap and not yet opened it.
+     */
+    private void deleteOlderExports(Path keep) {
+        final List<Path> older;
+        try (var files = Files.list(exportDir)) {
+            older = files.filter(path -> !path.equals(keep))
+                    .filter(path -> EXPORT_FILE.matcher(path.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingLong(MockEmployeeBulkService::exportVersion).reversed())
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Could not list export directory {}", exportDir, e);
+            return;
+        }
+        for (final var path : older.subList(Math.min(1, older.size()), older.size())) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Could not delete old export {}", path, e);
+            }
+        }
+    }
+
+    private static long exportVersion(Path path) {
+        final var matcher = EXPORT_FILE.matcher(path.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+}
@@ -0,0 +1,209 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeBucket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * Merkle tree over the roster for anti-entropy sync: a replica compares hashes top-down and refetches only the
+ * buckets whose hashes differ, so reconciliation traffic follows the drift, not the roster size.
+ *
+ * Employees are spread over FANOUT^DEPTH leaf buckets by the top bits of a hash of their id. A leaf's hash is the
+ * sum of its employees' content hashes, so it does not depend on insertion order and a write adjusts it by one
+ * addition or subtraction. An inner node hashes its FANOUT children in order. A write therefore rehashes DEPTH
+ * nodes; a bulk write rehashes the inner levels once.
+ *
+ * Maintained by MockEmployeeRoster under its write lock, like the other indexes, and guarded by a read/write lock
+ * of its own so a reader never sees a leaf whose members and hash disagree. Hashes are only meaningful for
+ * comparison with earlier answers of the same server process.
+ */
+public class MockEmployeeMerkleTree {
+
+    private static final int FANOUT_BITS = 4;
+    public static final int FANOUT = 1 << FANOUT_BITS;
+    public static final int DEPTH = 3;
+    public static final int BUCKETS = 1 << (FANOUT_BITS * DEPTH);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // levels[0] holds the root, levels[DEPTH] the leaves; node i of level d has children i*FANOUT.. of level d+1
+    private final long[][] levels = new long[DEPTH + 1][];
+    private final List<List<MockEmployee>> buckets = new ArrayList<>(BUCKETS);
+
+    public MockEmployeeMerkleTree() {
+        for (int d = 0, width = 1; d <= DEPTH; d++, width *= FANOUT) {
+            levels[d] = new long[width];
+        }
+        for (int b = 0; b < BUCKETS; b++) {
+            buckets.add(new ArrayList<>());
+        }
+        rehashInner();
+    }
+
+    void add(MockEmployee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            final int bucket = bucketOf(employee.getId());
+            buckets.get(bucket).add(employee);
+            levels[DEPTH][bucket] += hashOf(employee);
+            rehashPath(bucket);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void addAll(Collection<MockEmployee> employees) {
+        lock.writeLock().lock();
+        try {
+            for (final var employee : employees) {
+                if (employee.getId() != null) {
+                    final int bucket = bucketOf(employee.getId());
+                    buckets.get(bucket).add(employee);
+                    levels[DEPTH][bucket] += hashOf(employee);
+                }
+            }
+            rehashInner();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(MockEmployee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            final int bucket = bucketOf(employee.getId());
+            if (buckets.get(bucket).removeIf(member -> member == employee)) {
+                levels[DEPTH][bucket] -= hashOf(employee);
+                rehashPath(bucket);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public String root() {
+        lock.readLock().lock();
+        try {
+            return hex(levels[0][0]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Hashes of the children (at {@code level}) of each given parent (at {@code level - 1}), keyed by parent.
+     * Throws IllegalArgumentException for a level outside 1..DEPTH or a parent outside the parent level.
+     */
+    public Map<Integer, List<String>> children(int level, Collection<Integer> parents) {
+        if (level < 1 || level > DEPTH) {
+            throw new IllegalArgumentException("level must be between 1 and " + DEPTH + ": " + level);
+        }
+        final int width = levels[level - 1].length;
+        for (final int parent : parents) {
+            if (parent < 0 || parent >= width) {
+                throw new IllegalArgumentException("No node " + parent + " at level " + (level - 1));
+            }
+        }
+        lock.readLock().lock();
+        try {
+            final var result = new LinkedHashMap<Integer, List<String>>();
+            for (final int parent : parents) {
+                final var hashes = new ArrayList<String>(FANOUT);
+                for (int k = 0; k < FANOUT; k++) {
+                    hashes.add(hex(levels[level][parent * FANOUT + k]));
+                }
+                result.put(parent, hashes);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Members of each given leaf bucket together with that leaf's hash, read atomically per bucket.
+     */
+    public List<MockEmployeeBucket> buckets(Collection<Integer> bucketIds) {
+        for (final int bucket : bucketIds) {
+            if (bucket < 0 || bucket >= BUCKETS) {
+                throw new IllegalArgumentException("No bucket " + bucket);
+            }
+        }
+        lock.readLock().lock();
+        try {
+            final var result = new ArrayList<MockEmployeeBucket>(bucketIds.size());
+            for (final int bucket : bucketIds) {
+                result.add(new MockEmployeeBucket(
+                        bucket, hex(levels[DEPTH][bucket]), List.copyOf(buckets.get(bucket))));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rehashPath(int bucket) {
+        int node = bucket;
+        for (int d = DEPTH - 1; d >= 0; d--) {
+            node /= FANOUT;
+            levels[d][node] = hashChildren(levels[d + 1], node);
+        }
+    }
+
+    private void rehashInner() {
+        for (int d = DEPTH - 1; d >= 0; d--) {
+            for (int node = 0; node < levels[d].length; node++) {
+                levels[d][node] = hashChildren(levels[d + 1], node);
+            }
+        }
+    }
+
+    private static long hashChildren(long[] level, int parent) {
+        long h = FANOUT;
+        for (int k = 0; k < FANOUT; k++) {
+            h = mix(h ^ level[parent * FANOUT + k]);
+        }
+        return h;
+    }
+
+    static int bucketOf(UUID id) {
+        final long h = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+        return (int) (h >>> (64 - FANOUT_BITS * DEPTH));
+    }
+
+    static long hashOf(MockEmployee employee) {
+        long h = mix(employee.getId().getMostSignificantBits());
+        h = mix(h ^ employee.getId().getLeastSignificantBits());
+        h = mix(h ^ Objects.hashCode(employee.getName()));
+        h = mix(h ^ Objects.hashCode(employee.getSalary()));
+        h = mix(h ^ Objects.hashCode(employee.getAge()));
+        h = mix(h ^ Objects.hashCode(employee.getTitle()));
+        return mix(h ^ Objects.hashCode(employee.getEmail()));
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static String hex(long hash) {
+        return Long.toHexString(hash);
+    }
+}
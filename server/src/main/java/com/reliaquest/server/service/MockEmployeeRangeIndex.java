@@ -0,0 +1,127 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/*
+ * Sorted secondary index over one integer attribute (salary, age), keyed by (value, id) so equal values stay
+ * distinct and pages have a total order to resume from. Backed by a ConcurrentSkipListMap: readers never block,
+ * and a range page costs O(log n) to seek plus O(k) to walk.
+ *
+ * Writes are applied by MockEmployeeRoster under its write lock, right after the new version is published.
+ * Employees with a null value or id are not indexed.
+ */
+public class MockEmployeeRangeIndex {
+
+    private final Function<MockEmployee, Integer> attribute;
+    private final ConcurrentSkipListMap<Key, MockEmployee> entries = new ConcurrentSkipListMap<>();
+
+    MockEmployeeRangeIndex(@NonNull Function<MockEmployee, Integer> attribute) {
+        this.attribute = attribute;
+    }
+
+    void add(MockEmployee employee) {
+        keyOf(employee).ifPresent(key -> entries.put(key, employee));
+    }
+
+    void addAll(Collection<MockEmployee> employees) {
+        employees.forEach(this::add);
+    }
+
+    void remove(MockEmployee employee) {
+        keyOf(employee).ifPresent(entries::remove);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /*
+     * Employees with min <= value <= max in (value, id) order, starting strictly after {@code after} when given.
+     */
+    public Page range(int min, int max, Cursor after, int limit) {
+        final var lower = new Key(min, null);
+        // exclusive: (max + 1, null) sorts before every key of value max + 1 and after every key of value max,
+        // whatever the ids; no upper bound is needed when max is the largest int
+        final var upper = max == Integer.MAX_VALUE ? null : new Key(max + 1, null);
+        final boolean resume = after != null && after.key().compareTo(lower) >= 0;
+        final var from = resume ? after.key() : lower;
+        if (limit <= 0 || (upper != null && from.compareTo(upper) >= 0)) {
+            return new Page(List.of(), null);
+        }
+        final var window = upper == null ? entries.tailMap(from, !resume) : entries.subMap(from, !resume, upper, false);
+        final var page = new ArrayList<MockEmployee>(Math.min(limit, 256));
+        Key last = null;
+        for (final var entry : window.entrySet()) {
+            if (page.size() == limit) {
+                return new Page(page, new Cursor(last));
+            }
+            page.add(entry.getValue());
+            last = entry.getKey();
+        }
+        return new Page(page, null);
+    }
+
+    private Optional<Key> keyOf(MockEmployee employee) {
+        final var value = attribute.apply(employee);
+        if (value == null || employee.getId() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Key(value, employee.getId()));
+    }
+
+    /*
+     * A null id sorts before every real id, so (value, null) is the lowest key of a value.
+     */
+    record Key(int value, UUID id) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            final int byValue = Integer.compare(value, other.value);
+            if (byValue != 0) {
+                return byValue;
+            }
+            if (id == null || other.id == null) {
+                return id == other.id ? 0 : id == null ? -1 : 1;
+            }
+            return id.compareTo(other.id);
+        }
+    }
+
+    /*
+     * Opaque resume position: the (value, id) of the last employee on the previous page, as "value_id".
+     */
+    public record Cursor(Key key) {
+
+        public static Optional<Cursor> parse(String token) {
+            if (token == null || token.isBlank()) {
+                return Optional.empty();
+            }
+            final int separator = token.indexOf('_');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            try {
+                return Optional.of(new Cursor(new Key(
+                        Integer.parseInt(token.substring(0, separator)),
+                        UUID.fromString(token.substring(separator + 1)))));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + token, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return key.value() + "_" + key.id();
+        }
+    }
+
+    public record Page(List<MockEmployee> employees, Cursor next) {}
+}
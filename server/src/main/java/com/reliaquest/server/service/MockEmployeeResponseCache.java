@@ -0,0 +1,154 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployeeFields;
+import com.reliaquest.server.model.MockEmployeeProjection;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/*
+ * Serialized GET /employee bodies, identity and gzip, for the latest roster version; one per requested fieldset.
+ *
+ * Snapshots are immutable, so the bytes for a version never go stale; a create or delete publishes a new
+ * version and the next read rebuilds the entry once. Concurrent readers of an outdated entry wait for that
+ * single rebuild instead of each serializing the roster themselves. A rebuild serializes and gzips the whole roster,
+ * so callers that must not block (the Netty event loop) check getIfBuilt first and call get elsewhere on a miss.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MockEmployeeResponseCache {
+
+    public static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Entry current;
+
+    // at most one entry per distinct fieldset (63), each for the version it was last built for
+    private final ConcurrentHashMap<MockEmployeeFields, Entry> projections = new ConcurrentHashMap<>();
+
+    public Entry get(@NonNull MockEmployeeRoster.Snapshot snapshot) {
+        final var entry = current;
+        if (entry != null && entry.version() == snapshot.version()) {
+            return entry;
+        }
+        synchronized (this) {
+            final var latest = current;
+            if (latest != null && latest.version() >= snapshot.version()) {
+                // never hand out bytes of a newer version than the caller's snapshot
+                return latest.version() == snapshot.version() ? latest : build(snapshot);
+            }
+            final var built = build(snapshot);
+            current = built;
+            return built;
+        }
+    }
+
+    /*
+     * The same for a sparse fieldset. A fieldset's entry is rebuilt once per version, under its map bin.
+     */
+    public Entry get(@NonNull MockEmployeeRoster.Snapshot snapshot, @NonNull MockEmployeeFields fields) {
+        if (fields.isAll()) {
+            return get(snapshot);
+        }
+        final var entry = projections.get(fields);
+        if (entry != null && entry.version() == snapshot.version()) {
+            return entry;
+        }
+        final var latest = projections.compute(
+                fields,
+                (key, cached) -> cached != null && cached.version() >= snapshot.version()
+                        ? cached
+                        : build(snapshot, fields));
+        return latest.version() == snapshot.version() ? latest : build(snapshot, fields);
+    }
+
+    /*
+     * The entry for this snapshot's version and fieldset if it is already built, else null. Never blocks.
+     */
+    public Entry getIfBuilt(@NonNull MockEmployeeRoster.Snapshot snapshot, @NonNull MockEmployeeFields fields) {
+        final var entry = fields.isAll() ? current : projections.get(fields);
+        return entry != null && entry.version() == snapshot.version() ? entry : null;
+    }
+
+    /*
+     * Whether an Accept-Encoding header allows the gzip body: "gzip", or "*" when gzip is not listed, with a
+     * non-zero q. An explicit "gzip" wins over "*" wherever each appears ("*;q=0, gzip" accepts it).
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (final var coding : acceptEncoding.split(",")) {
+            final var parts = coding.split(";");
+            final var name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP)) {
+                return !refused(parts);
+            }
+            if (name.equals("*") && wildcard == null) {
+                wildcard = !refused(parts);
+            }
+        }
+        return wildcard != null && wildcard;
+    }
+
+    // "q=0", "q=0.0" ... explicitly refuse the coding
+    private static boolean refused(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].replace(" ", "").toLowerCase(Locale.ROOT).matches("q=0(\\.0*)?")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Entry build(MockEmployeeRoster.Snapshot snapshot) {
+        return build(snapshot, MockEmployeeFields.ALL);
+    }
+
+    private Entry build(MockEmployeeRoster.Snapshot snapshot, MockEmployeeFields fields) {
+        try {
+            final Object data = fields.isAll()
+                    ? snapshot.employees()
+                    : MockEmployeeProjection.of(snapshot.employees(), fields);
+            final var json = objectMapper.writeValueAsBytes(Response.handledWith(data));
+            final var gzip = gzip(json);
+            log.debug(
+                    "Cached GET /employee body for version {} (fields {}): {} bytes, {} gzipped",
+                    snapshot.version(),
+                    fields,
+                    json.length,
+                    gzip.length);
+            return new Entry(snapshot.version(), json, gzip);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        final var out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        // built once per version, so spend the CPU on the best ratio
+        try (final var gzip = new GZIPOutputStream(out, 1 << 16) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    public record Entry(long version, byte[] json, byte[] gzip) {}
+}
@@ -0,0 +1,353 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.jfr.StoreOperationEvent;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import lombok.NonNull;
+
+/**
+ * Versioned, immutable snapshots of the mock roster.
+ *
+ * <p>Readers call {@link #snapshot()} and work against a consistent version without taking any lock.
+ * Writers are serialized among themselves and publish a new version with structural sharing: the roster is
+ * stored as chunks of at most {@value #CHUNK_SIZE} employees, and a write copies only the chunk it touches
+ * plus the (small) outer chunk array, so every other chunk is shared with the previous version. A removal that
+ * leaves a chunk small enough to fit into a neighbour merges the two, so any two adjacent chunks together hold more
+ * than {@value #CHUNK_SIZE} employees and there are at most about {@code 2 * size / CHUNK_SIZE} chunks.
+ */
+public class MockEmployeeRoster {
+
+    static final int CHUNK_SIZE = 64;
+
+    private final AtomicReference<Snapshot> current;
+    private final Object writeLock = new Object();
+    private final MockEmployeeRangeIndex salaryIndex = new MockEmployeeRangeIndex(MockEmployee::getSalary);
+    private final MockEmployeeRangeIndex ageIndex = new MockEmployeeRangeIndex(MockEmployee::getAge);
+    private final MockEmployeeSearchIndex searchIndex = new MockEmployeeSearchIndex();
+    private final MockEmployeeMerkleTree merkleTree = new MockEmployeeMerkleTree();
+
+    public MockEmployeeRoster(@NonNull Collection<MockEmployee> initial) {
+        final var employees = initial.toArray(MockEmployee[]::new);
+        final var chunks = new MockEmployee[(employees.length + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = Arrays.copyOfRange(
+                    employees, i * CHUNK_SIZE, Math.min(employees.length, (i + 1) * CHUNK_SIZE));
+        }
+        this.current = new AtomicReference<>(new Snapshot(0, chunks, employees.length));
+        indexAll(Arrays.asList(employees));
+    }
+
+    /**
+     * The latest published version. Never changes after it is returned.
+     */
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    /*
+     * Secondary indexes, kept in step with every write. They track the latest version (they are not
+     * versioned), so a range read can observe a write that a previously taken snapshot does not.
+     */
+    public MockEmployeeRangeIndex salaryIndex() {
+        return salaryIndex;
+    }
+
+    public MockEmployeeRangeIndex ageIndex() {
+        return ageIndex;
+    }
+
+    public MockEmployeeSearchIndex searchIndex() {
+        return searchIndex;
+    }
+
+    public MockEmployeeMerkleTree merkleTree() {
+        return merkleTree;
+    }
+
+    public Snapshot add(@NonNull MockEmployee employee) {
+        final var event = StoreOperationEvent.begin("add");
+        synchronized (writeLock) {
+            final var base = current.get();
+            final var chunks = base.chunks;
+            final MockEmployee[][] next;
+            final var last = chunks.length == 0 ? null : chunks[chunks.length - 1];
+            if (last != null && last.length < CHUNK_SIZE) {
+                next = chunks.clone();
+                final var grown = Arrays.copyOf(last, last.length + 1);
+                grown[last.length] = employee;
+                next[next.length - 1] = grown;
+            } else {
+                next = Arrays.copyOf(chunks, chunks.length + 1);
+                next[chunks.length] = new MockEmployee[] {employee};
+            }
+            final var published = publish(new Snapshot(base.version + 1, next, base.size + 1));
+            salaryIndex.add(employee);
+            ageIndex.add(employee);
+            searchIndex.add(employee);
+            merkleTree.add(employee);
+            event.end(1, published.version());
+            return published;
+        }
+    }
+
+    /**
+     * Appends many employees as a single new version: the partial last chunk is topped up once and the rest
+     * is laid out in fresh chunks.
+     */
+    public Snapshot addAll(@NonNull List<MockEmployee> employees) {
+        if (employees.isEmpty()) {
+            return snapshot();
+        }
+        final var event = StoreOperationEvent.begin("addAll");
+        synchronized (writeLock) {
+            final var base = current.get();
+            final var chunks = base.chunks;
+            final var last = chunks.length == 0 ? null : chunks[chunks.length - 1];
+            final int topUp = last == null ? 0 : Math.min(CHUNK_SIZE - last.length, employees.size());
+            final int rest = employees.size() - topUp;
+            final var next = Arrays.copyOf(chunks, chunks.length + (rest + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            int index = 0;
+            if (topUp > 0) {
+                final var grown = Arrays.copyOf(last, last.length + topUp);
+                for (int i = last.length; i < grown.length; i++) {
+                    grown[i] = employees.get(index++);
+                }
+                next[chunks.length - 1] = grown;
+            }
+            for (int c = chunks.length; c < next.length; c++) {
+                final var chunk = new MockEmployee[Math.min(CHUNK_SIZE, employees.size() - index)];
+                for (int i = 0; i < chunk.length; i++) {
+                    chunk[i] = employees.get(index++);
+                }
+                next[c] = chunk;
+            }
+            final var published = publish(new Snapshot(base.version + 1, next, base.size + employees.size()));
+            indexAll(employees);
+            event.end(employees.size(), published.version());
+            return published;
+        }
+    }
+
+    /**
+     * Removes the first employee matching the predicate, if any, and publishes the new version.
+     */
+    public Optional<MockEmployee> removeFirst(@NonNull Predicate<MockEmployee> predicate) {
+        final var event = StoreOperationEvent.begin("removeFirst");
+        synchronized (writeLock) {
+            final var base = current.get();
+            final var chunks = base.chunks;
+            for (int c = 0; c < chunks.length; c++) {
+                final var chunk = chunks[c];
+                for (int i = 0; i < chunk.length; i++) {
+                    if (!predicate.test(chunk[i])) {
+                        continue;
+                    }
+                    final var next = withoutElement(chunks, c, i);
+                    final var published = publish(new Snapshot(base.version + 1, next, base.size - 1));
+                    salaryIndex.remove(chunk[i]);
+                    ageIndex.remove(chunk[i]);
+                    searchIndex.remove(chunk[i]);
+                    merkleTree.remove(chunk[i]);
+                    event.end(1, published.version());
+                    return Optional.of(chunk[i]);
+                }
+            }
+            event.end(0, base.version);
+            return Optional.empty();
+        }
+    }
+
+    /*
+     * The chunks after removing chunks[c][i]. An emptied chunk is dropped; a shrunk one that fits into its left
+     * (else right) neighbour is merged with it.
+     */
+    private static MockEmployee[][] withoutElement(MockEmployee[][] chunks, int c, int i) {
+        final var chunk = chunks[c];
+        final var shrunk = new MockEmployee[chunk.length - 1];
+        System.arraycopy(chunk, 0, shrunk, 0, i);
+        System.arraycopy(chunk, i + 1, shrunk, i, chunk.length - i - 1);
+        if (shrunk.length == 0) {
+            final var next = new MockEmployee[chunks.length - 1][];
+            System.arraycopy(chunks, 0, next, 0, c);
+            System.arraycopy(chunks, c + 1, next, c, chunks.length - c - 1);
+            return next;
+        }
+        final int first;
+        if (c > 0 && chunks[c - 1].length + shrunk.length <= CHUNK_SIZE) {
+            first = c - 1;
+        } else if (c + 1 < chunks.length && chunks[c + 1].length + shrunk.length <= CHUNK_SIZE) {
+            first = c;
+        } else {
+            final var next = chunks.clone();
+            next[c] = shrunk;
+            return next;
+        }
+        final var left = first == c ? shrunk : chunks[first];
+        final var right = first == c ? chunks[c + 1] : shrunk;
+        final var merged = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        final var next = new MockEmployee[chunks.length - 1][];
+        System.arraycopy(chunks, 0, next, 0, first);
+        next[first] = merged;
+        System.arraycopy(chunks, first + 2, next, first + 1, chunks.length - first - 2);
+        return next;
+    }
+
+    private void indexAll(List<MockEmployee> employees) {
+        salaryIndex.addAll(employees);
+        ageIndex.addAll(employees);
+        searchIndex.addAll(employees);
+        merkleTree.addAll(employees);
+    }
+
+    private Snapshot publish(Snapshot snapshot) {
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * One immutable version of the roster.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final MockEmployee[][] chunks;
+        private final int size;
+        private final List<MockEmployee> employees;
+
+        private Snapshot(long version, MockEmployee[][] chunks, int size) {
+            this.version = version;
+            this.chunks = chunks;
+            this.size = size;
+            this.employees = new ChunkedList(chunks, ChunkedList.starts(chunks), 0, size);
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Unmodifiable view of this version's employees, in insertion order.
+         */
+        public List<MockEmployee> employees() {
+            return employees;
+        }
+
+        int chunkCount() {
+            return chunks.length;
+        }
+    }
+
+    /*
+     * List view over chunks[...] from global index {@code from}, {@code size} employees long. starts[c] is the
+     * global index of chunks[c][0] (starts[chunks.length] is the total), so get() finds its chunk by binary
+     * search, and subList() and toArray() work chunk by chunk instead of element by element.
+     */
+    private static final class ChunkedList extends AbstractList<MockEmployee> implements RandomAccess {
+
+        private final MockEmployee[][] chunks;
+        private final int[] starts;
+        private final int from;
+        private final int size;
+
+        private ChunkedList(MockEmployee[][] chunks, int[] starts, int from, int size) {
+            this.chunks = chunks;
+            this.starts = starts;
+            this.from = from;
+            this.size = size;
+        }
+
+        private static int[] starts(MockEmployee[][] chunks) {
+            final var starts = new int[chunks.length + 1];
+            for (int c = 0; c < chunks.length; c++) {
+                starts[c + 1] = starts[c] + chunks[c].length;
+            }
+            return starts;
+        }
+
+        // chunks are never empty, so starts is strictly increasing up to chunks.length
+        private int chunkOf(int globalIndex) {
+            final int found = Arrays.binarySearch(starts, 0, chunks.length, globalIndex);
+            return found >= 0 ? found : -found - 2;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            Objects.checkIndex(index, size);
+            final int global = from + index;
+            final int c = chunkOf(global);
+            return chunks[c][global - starts[c]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public List<MockEmployee> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            return new ChunkedList(chunks, starts, from + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public Object[] toArray() {
+            final var out = new Object[size];
+            if (size == 0) {
+                return out;
+            }
+            int c = chunkOf(from);
+            int offset = from - starts[c];
+            int copied = 0;
+            while (copied < size) {
+                final int n = Math.min(chunks[c].length - offset, size - copied);
+                System.arraycopy(chunks[c], offset, out, copied, n);
+                copied += n;
+                c++;
+                offset = 0;
+            }
+            return out;
+        }
+
+        @Override
+        public Iterator<MockEmployee> iterator() {
+            return new Iterator<>() {
+                private int chunk = size == 0 ? chunks.length : chunkOf(from);
+                private int offset = size == 0 ? 0 : from - starts[chunk];
+                private int remaining = size;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public MockEmployee next() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    if (offset == chunks[chunk].length) {
+                        chunk++;
+                        offset = 0;
+                    }
+                    remaining--;
+                    return chunks[chunk][offset++];
+                }
+            };
+        }
+    }
+}
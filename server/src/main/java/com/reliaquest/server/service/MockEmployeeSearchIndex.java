@@ -0,0 +1,284 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * In-memory inverted index over name, title and email tokens, for GET /employee/search?q=.
+ *
+ * Text is lowercased and split on anything that is not a letter or digit; an email also contributes its whole
+ * domain ("company.com"), so a domain can be searched as one term. Every query term is a prefix, and a match
+ * must satisfy all of them (boolean AND).
+ *
+ * Tokens live in a sorted map, so a prefix is one sub-map walk. Postings are int arrays of internal doc ids.
+ * A query sizes each term's postings, walks only the smallest one and checks the other terms against that doc's
+ * own token list, stopping at the limit. The cost follows the most selective term, not the roster size.
+ *
+ * Writes are applied by MockEmployeeRoster under its write lock, like the range indexes. Unlike those, this
+ * index takes a read/write lock of its own: postings are mutated in place, and copying a posting as large as
+ * "com" on every create would cost far more than the lock. A removal only tombstones its doc. Postings are
+ * compacted once tombstones outnumber live docs.
+ */
+public class MockEmployeeSearchIndex {
+
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final HashMap<UUID, Integer> docIds = new HashMap<>();
+    private MockEmployee[] docs = new MockEmployee[1024];
+    private String[][] docTokens = new String[1024][];
+    private int nextDoc;
+    private int tombstones;
+
+    void add(MockEmployee employee) {
+        lock.writeLock().lock();
+        try {
+            index(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void addAll(Collection<MockEmployee> employees) {
+        lock.writeLock().lock();
+        try {
+            employees.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(MockEmployee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            final var doc = docIds.remove(employee.getId());
+            if (doc == null) {
+                return;
+            }
+            docs[doc] = null;
+            docTokens[doc] = null;
+            if (++tombstones > Math.max(MIN_TOMBSTONES_TO_COMPACT, docIds.size())) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Employees matching every term of the query as a prefix, at most {@code limit}, in no particular ranking.
+     */
+    public List<MockEmployee> search(String query, int limit) {
+        final var terms = queryTerms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int driver = 0;
+            long smallest = Long.MAX_VALUE;
+            for (int t = 0; t < terms.size(); t++) {
+                final long size = postingsSize(terms.get(t), smallest);
+                if (size == 0) {
+                    return List.of();
+                }
+                if (size < smallest) {
+                    smallest = size;
+                    driver = t;
+                }
+            }
+            final var matching = prefixRange(terms.get(driver));
+            // a doc can sit in several postings of one prefix ("nixon" and "nixons" under "nix")
+            final Set<Integer> seen = matching.firstKey().equals(matching.lastKey()) ? null : new HashSet<>();
+            final var result = new ArrayList<MockEmployee>(Math.min(limit, 64));
+            for (final var posting : matching.values()) {
+                for (int i = 0; i < posting.size; i++) {
+                    final int doc = posting.docs[i];
+                    final var employee = docs[doc];
+                    if (employee == null
+                            || !matchesAll(docTokens[doc], terms, driver)
+                            || (seen != null && !seen.add(doc))) {
+                        continue;
+                    }
+                    result.add(employee);
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(MockEmployee employee) {
+        if (employee.getId() == null || docIds.containsKey(employee.getId())) {
+            return;
+        }
+        final int doc = nextDoc++;
+        if (doc == docs.length) {
+            docs = Arrays.copyOf(docs, doc * 2);
+            docTokens = Arrays.copyOf(docTokens, doc * 2);
+        }
+        final var tokens = tokensOf(employee);
+        final var shared = new String[tokens.size()];
+        int i = 0;
+        for (final var token : tokens) {
+            final var posting = postings.computeIfAbsent(token, Postings::new);
+            posting.add(doc);
+            // keep the map's copy of the string so equal tokens of different docs share one instance
+            shared[i++] = posting.token;
+        }
+        docs[doc] = employee;
+        docTokens[doc] = shared;
+        docIds.put(employee.getId(), doc);
+    }
+
+    private void compact() {
+        final var live = new ArrayList<MockEmployee>(docIds.size());
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (docs[doc] != null) {
+                live.add(docs[doc]);
+            }
+        }
+        postings.clear();
+        docIds.clear();
+        docs = new MockEmployee[Math.max(1024, live.size() * 2)];
+        docTokens = new String[docs.length][];
+        nextDoc = 0;
+        tombstones = 0;
+        live.forEach(this::index);
+    }
+
+    /*
+     * Total postings length for a prefix, or anything above {@code cap} once it is exceeded.
+     */
+    private long postingsSize(String prefix, long cap) {
+        long size = 0;
+        for (final var posting : prefixRange(prefix).values()) {
+            size += posting.size;
+            if (size > cap) {
+                return size;
+            }
+        }
+        return size;
+    }
+
+    private SortedMap<String, Postings> prefixRange(String prefix) {
+        return postings.subMap(prefix, prefix + Character.MAX_VALUE);
+    }
+
+    private static boolean matchesAll(String[] tokens, List<String> terms, int driver) {
+        for (int t = 0; t < terms.size(); t++) {
+            if (t != driver && !hasPrefix(tokens, terms.get(t))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasPrefix(String[] tokens, String prefix) {
+        for (final var token : tokens) {
+            if (token.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Set<String> tokensOf(MockEmployee employee) {
+        final var tokens = new LinkedHashSet<String>();
+        split(employee.getName(), tokens);
+        split(employee.getTitle(), tokens);
+        final var email = employee.getEmail();
+        if (email != null) {
+            split(email, tokens);
+            final int at = email.lastIndexOf('@');
+            if (at >= 0 && at < email.length() - 1) {
+                tokens.add(email.substring(at + 1).toLowerCase(Locale.ROOT));
+            }
+        }
+        return tokens;
+    }
+
+    /*
+     * Whitespace-separated terms. A term with a dot ("company.com", "@company.co") is kept whole as a domain
+     * prefix; any other term is split like indexed text.
+     */
+    static List<String> queryTerms(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        final var terms = new LinkedHashSet<String>();
+        for (final var raw : query.trim().split("\\s+")) {
+            final var term = raw.toLowerCase(Locale.ROOT);
+            final var domain = term.startsWith("@") ? term.substring(1) : term;
+            if (domain.indexOf('.') > 0) {
+                terms.add(domain);
+            } else {
+                split(term, terms);
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    private static void split(String text, Set<String> into) {
+        if (text == null) {
+            return;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            final boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                into.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+    }
+
+    private static final class Postings {
+
+        private final String token;
+        private int[] docs = new int[4];
+        private int size;
+
+        private Postings(String token) {
+            this.token = token;
+        }
+
+        private void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.jfr.StoreOperationEvent;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeBucket;
+import com.reliaquest.server.model.MockEmployeeMerkleRoot;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +28,154 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeRoster roster;
+
+    /*
+     * Present when mock.virtual.rows > 0. The roster then only holds the employees created on top of the virtual
+     * rows, and the reads below go to the dataset; the index-backed reads (ranges, search, Merkle tree, export)
+     * cannot cover rows that do not exist in memory and fail with UnsupportedOperationException.
+     */
+    private final Optional<MockEmployeeVirtualDataset> virtualDataset;
+
+    /*
+     * Consistent, immutable view of the roster as of the latest published version.
+     */
+    public MockEmployeeRoster.Snapshot snapshot() {
+        return roster.snapshot();
+    }
+
+    public Optional<MockEmployeeVirtualDataset> virtualDataset() {
+        return virtualDataset;
+    }
+
+    /*
+     * The snapshot behind an export; the virtual roster is too large to write to a file.
+     */
+    public MockEmployeeRoster.Snapshot exportSnapshot() {
+        requireMaterialized("export");
+        return roster.snapshot();
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        return roster.snapshot().employees();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        final var event = StoreOperationEvent.begin("findById");
+        final var found = virtualDataset.isPresent()
+                ? virtualDataset.get().findById(uuid)
+                : getMockEmployees().stream()
+                        .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
+                                && mockEmployee.getId().equals(uuid))
+                        .findFirst();
+        event.end(found.isPresent() ? 1 : 0);
+        return found;
+    }
+
+    /*
+     * Single scan for the whole batch; unknown ids are simply absent from the result.
+     */
+    public List<MockEmployee> findByIds(@NonNull Collection<UUID> uuids) {
+        final var event = StoreOperationEvent.begin("findByIds");
+        if (virtualDataset.isPresent()) {
+            final var found = virtualDataset.get().findByIds(uuids);
+            event.end(found.size());
+            return found;
+        }
+        final var wanted = new HashSet<>(uuids);
+        final var found = getMockEmployees().stream()
+                .filter(mockEmployee ->
+                        Objects.nonNull(mockEmployee.getId()) && wanted.contains(mockEmployee.getId()))
+                .toList();
+        event.end(found.size());
+        return found;
+    }
+
+    /*
+     * Roster order, paged by position: the cursor is the position after the last employee returned. Throws
+     * IllegalArgumentException for a malformed cursor.
+     */
+    public MockEmployeePage findPage(String cursor, int limit) {
+        final long position;
+        try {
+            position = cursor == null ? 0 : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        if (position < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        final var event = StoreOperationEvent.begin("findPage");
+        final MockEmployeePage page;
+        if (virtualDataset.isPresent()) {
+            page = virtualDataset.get().page(position, limit);
+        } else {
+            final var employees = getMockEmployees();
+            final int from = (int) Math.min(position, employees.size());
+            final int to = Math.min(employees.size(), from + limit);
+            page = new MockEmployeePage(
+                    List.copyOf(employees.subList(from, to)), to < employees.size() ? Integer.toString(to) : null);
+        }
+        event.end(page.employees().size());
+        return page;
+    }
+
+    /*
+     * Range queries over the salary/age indexes: O(log n) seek plus O(k) for the page, no roster scan.
+     * Throws IllegalArgumentException for a malformed cursor.
+     */
+    public MockEmployeePage findBySalaryRange(int min, int max, String cursor, int limit) {
+        requireMaterialized("findBySalaryRange");
+        return page("findBySalaryRange", roster.salaryIndex(), min, max, cursor, limit);
+    }
+
+    public MockEmployeePage findByAgeRange(int min, int max, String cursor, int limit) {
+        requireMaterialized("findByAgeRange");
+        return page("findByAgeRange", roster.ageIndex(), min, max, cursor, limit);
+    }
+
+    /*
+     * Full-text search over name, title and email tokens: every whitespace-separated term must match as a prefix.
+     */
+    public List<MockEmployee> search(String query, int limit) {
+        requireMaterialized("search");
+        final var event = StoreOperationEvent.begin("search");
+        final var found = roster.searchIndex().search(query, limit);
+        event.end(found.size());
+        return found;
+    }
+
+    /*
+     * Anti-entropy reads over the roster's Merkle tree: the root, the child hashes of mismatched nodes, and
+     * finally the members of mismatched leaf buckets. Invalid levels, nodes or buckets throw
+     * IllegalArgumentException.
+     */
+    public MockEmployeeMerkleRoot merkleRoot() {
+        requireMaterialized("merkleRoot");
+        return new MockEmployeeMerkleRoot(
+                MockEmployeeMerkleTree.FANOUT, MockEmployeeMerkleTree.DEPTH, roster.merkleTree().root());
+    }
+
+    public Map<Integer, List<String>> merkleChildren(int level, @NonNull Collection<Integer> parents) {
+        requireMaterialized("merkleChildren");
+        return roster.merkleTree().children(level, parents);
+    }
+
+    public List<MockEmployeeBucket> merkleBuckets(@NonNull Collection<Integer> buckets) {
+        requireMaterialized("merkleBuckets");
+        final var event = StoreOperationEvent.begin("merkleBuckets");
+        final var found = roster.merkleTree().buckets(buckets);
+        event.end(found.stream().mapToInt(bucket -> bucket.employees().size()).sum());
+        return found;
+    }
+
+    private static MockEmployeePage page(
+            String operation, MockEmployeeRangeIndex index, int min, int max, String cursor, int limit) {
+        final var after = MockEmployeeRangeIndex.Cursor.parse(cursor).orElse(null);
+        final var event = StoreOperationEvent.begin(operation);
+        final var page = index.range(min, max, after, limit);
+        event.end(page.employees().size());
+        return new MockEmployeePage(page.employees(), page.next() == null ? null : page.next().toString());
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +183,38 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        roster.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /*
+     * Deletes the first employee with the input's name, or with an id as well, exactly that employee. The virtual
+     * dataset repeats generated names, so there a delete must carry the id.
+     */
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var id = input.getId();
+        if (virtualDataset.isPresent() && id == null) {
+            throw new UnsupportedOperationException(
+                    "delete by name alone is not available on the virtual dataset (mock.virtual.rows > 0); pass id");
+        }
+        final var mockEmployee = virtualDataset.isPresent()
+                ? virtualDataset.get().remove(id, input.getName())
+                : roster.removeFirst(employee -> (id == null || id.equals(employee.getId()))
+                        && Objects.nonNull(employee.getName())
+                        && employee.getName().equalsIgnoreCase(input.getName()));
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    private void requireMaterialized(String operation) {
+        if (virtualDataset.isPresent()) {
+            throw new UnsupportedOperationException(
+                    operation + " is not available on the virtual dataset (mock.virtual.rows > 0)");
+        }
+    }
 }
@@ -0,0 +1,296 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeFields;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.model.MockEmployeeProjection;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/*
+ * Roster of mock.virtual.rows employees that are never materialized: row i is derived on demand from a seeded hash
+ * of i, so 100M rows cost no more memory than the name tables. The same row count and seed always give the same
+ * roster.
+ *
+ * Writes go to a small overlay. Creates land in the (otherwise empty) MockEmployeeRoster and follow the virtual rows
+ * in roster order; deleting a virtual row records a tombstone in a sorted, copy-on-write array. Readers take both
+ * without a lock.
+ *
+ * A virtual id carries its row: the low 62 bits hold the row index masked with the seed, the high 64 bits a hash of
+ * the row. findById and remove are O(1), and an id the dataset never produced fails the hash check.
+ */
+@Slf4j
+public class MockEmployeeVirtualDataset {
+
+    private static final int NAME_TABLE_BITS = 9;
+    private static final int TITLE_TABLE_BITS = 7;
+    private static final int MIN_SALARY = 30_000;
+    private static final int SALARY_SPAN = 470_000;
+    private static final int MIN_AGE = 16;
+    private static final int AGE_SPAN = 54;
+    private static final long ROW_BITS = (1L << 62) - 1;
+    private static final long VARIANT_MASK = 0xC000000000000000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final Pattern NON_HANDLE_CHARS = Pattern.compile("[^a-z0-9]+");
+
+    private final long rows;
+    private final long seed;
+    private final long idMask;
+    private final MockEmployeeRoster overlay;
+    private final ObjectWriter employeeWriter;
+    private final ObjectMapper objectMapper;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] handles;
+    private final String[] titles;
+    private final Object writeLock = new Object();
+
+    private volatile long[] deleted = new long[0];
+
+    public MockEmployeeVirtualDataset(
+            long rows, long seed, @NonNull MockEmployeeRoster overlay, @NonNull ObjectMapper objectMapper) {
+        if (rows < 0 || rows > ROW_BITS) {
+            throw new IllegalArgumentException("mock.virtual.rows out of range: " + rows);
+        }
+        this.rows = rows;
+        this.seed = seed;
+        this.idMask = mix(seed ^ 0x9E3779B97F4A7C15L) & ROW_BITS;
+        this.overlay = overlay;
+        this.objectMapper = objectMapper;
+        this.employeeWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        // drawn once from a Faker seeded with the dataset seed, so the tables are as reproducible as the rows
+        final var faker = new Faker(Locale.ENGLISH, new Random(seed));
+        this.firstNames = new String[1 << NAME_TABLE_BITS];
+        this.lastNames = new String[1 << NAME_TABLE_BITS];
+        this.handles = new String[1 << NAME_TABLE_BITS];
+        this.titles = new String[1 << TITLE_TABLE_BITS];
+        for (int i = 0; i < firstNames.length; i++) {
+            firstNames[i] = faker.name().firstName();
+            lastNames[i] = faker.name().lastName();
+            handles[i] = NON_HANDLE_CHARS
+                    .matcher(lastNames[i].toLowerCase(Locale.ROOT))
+                    .replaceAll("");
+        }
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = faker.job().title();
+        }
+        log.info("Virtual dataset: {} rows, seed {}", rows, seed);
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /*
+     * Live employees: virtual rows not deleted plus the overlay's creates.
+     */
+    public long size() {
+        return rows - deleted.length + overlay.snapshot().size();
+    }
+
+    /*
+     * Row i as it was generated, whether or not it has since been deleted.
+     */
+    public MockEmployee row(long index) {
+        Objects.checkIndex(index, rows);
+        final long h = hash(index);
+        final long h2 = mix(h);
+        final int first = (int) (h & ((1 << NAME_TABLE_BITS) - 1));
+        final int last = (int) ((h >>> 16) & ((1 << NAME_TABLE_BITS) - 1));
+        return new MockEmployee(
+                id(index, h),
+                firstNames[first] + " " + lastNames[last],
+                MIN_SALARY + (int) Long.remainderUnsigned(h2, SALARY_SPAN),
+                MIN_AGE + (int) Long.remainderUnsigned(h2 >>> 32, AGE_SPAN),
+                titles[(int) ((h >>> 32) & ((1 << TITLE_TABLE_BITS) - 1))],
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        Character.toLowerCase(firstNames[first].charAt(0)) + handles[last] + index));
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        final long index = indexOf(uuid);
+        if (index >= 0) {
+            return isDeleted(deleted, index) ? Optional.empty() : Optional.of(row(index));
+        }
+        return overlay.snapshot().employees().stream()
+                .filter(employee -> uuid.equals(employee.getId()))
+                .findFirst();
+    }
+
+    public List<MockEmployee> findByIds(@NonNull Collection<UUID> uuids) {
+        final var tombstones = deleted;
+        final var found = new ArrayList<MockEmployee>(uuids.size());
+        final var inOverlay = new ArrayList<UUID>();
+        // duplicates collapse, as with the materialized roster's single scan
+        for (final var uuid : new LinkedHashSet<>(uuids)) {
+            final long index = indexOf(uuid);
+            if (index < 0) {
+                inOverlay.add(uuid);
+            } else if (!isDeleted(tombstones, index)) {
+                found.add(row(index));
+            }
+        }
+        if (!inOverlay.isEmpty()) {
+            final var wanted = new HashSet<>(inOverlay);
+            overlay.snapshot().employees().stream()
+                    .filter(employee -> wanted.contains(employee.getId()))
+                    .forEach(found::add);
+        }
+        return found;
+    }
+
+    /*
+     * Roster-order page. The cursor is a position: [0, rows) are virtual rows, rows + k is the overlay's k-th
+     * employee. Deleted rows are skipped; the next cursor is null once the overlay is exhausted.
+     */
+    public MockEmployeePage page(long cursor, int limit) {
+        if (cursor < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        final var tombstones = deleted;
+        final var page = new ArrayList<MockEmployee>(limit);
+        long position = cursor;
+        while (position < rows && page.size() < limit) {
+            if (!isDeleted(tombstones, position)) {
+                page.add(row(position));
+            }
+            position++;
+        }
+        final var created = overlay.snapshot().employees();
+        if (position >= rows && page.size() < limit) {
+            final long offset = position - rows;
+            final int from = (int) Math.min(offset, created.size());
+            final int to = Math.min(created.size(), from + limit - page.size());
+            page.addAll(created.subList(from, to));
+            position = rows + to;
+        }
+        final boolean more = position < rows + created.size();
+        return new MockEmployeePage(page, more ? Long.toString(position) : null);
+    }
+
+    /*
+     * Writes the whole roster as the GET /employee envelope, one employee at a time: the body is never held in
+     * memory. Deletes are taken as of the start of the write, creates as of the end of the virtual rows.
+     */
+    public void writeJson(@NonNull OutputStream out, @NonNull MockEmployeeFields fields) throws IOException {
+        final var tombstones = deleted;
+        try (final var gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.writeStartObject();
+            gen.writeFieldName("data");
+            gen.writeStartArray();
+            for (long index = 0; index < rows; index++) {
+                if (!isDeleted(tombstones, index)) {
+                    write(gen, row(index), fields);
+                }
+            }
+            for (final var employee : overlay.snapshot().employees()) {
+                write(gen, employee, fields);
+            }
+            gen.writeEndArray();
+            gen.writeStringField("status", Response.Status.HANDLED.getValue());
+            gen.writeEndObject();
+        }
+    }
+
+    /*
+     * Deletes the employee with this id if it is still live and named {@code name} (ignoring case). A virtual row is
+     * tombstoned by the index its id carries, so the cost depends on the tombstones, not the row count; other ids are
+     * looked up in the overlay. Generated names repeat, so rows are never deleted by name alone.
+     */
+    public Optional<MockEmployee> remove(@NonNull UUID uuid, @NonNull String name) {
+        final long index = indexOf(uuid);
+        if (index < 0) {
+            return overlay.removeFirst(employee -> uuid.equals(employee.getId())
+                    && Objects.nonNull(employee.getName())
+                    && employee.getName().equalsIgnoreCase(name));
+        }
+        final var employee = row(index);
+        if (!employee.getName().equalsIgnoreCase(name)) {
+            return Optional.empty();
+        }
+        synchronized (writeLock) {
+            final var tombstones = deleted;
+            if (isDeleted(tombstones, index)) {
+                return Optional.empty();
+            }
+            deleted = insert(tombstones, index);
+        }
+        return Optional.of(employee);
+    }
+
+    /*
+     * Row index of a virtual id, or -1 when the id was not produced by this dataset.
+     */
+    private long indexOf(UUID uuid) {
+        final long lsb = uuid.getLeastSignificantBits();
+        if ((lsb & VARIANT_MASK) != VARIANT) {
+            return -1;
+        }
+        final long index = (lsb ^ idMask) & ROW_BITS;
+        if (index >= rows || uuid.getMostSignificantBits() != idHigh(hash(index))) {
+            return -1;
+        }
+        return index;
+    }
+
+    private UUID id(long index, long h) {
+        return new UUID(idHigh(h), VARIANT | ((index ^ idMask) & ROW_BITS));
+    }
+
+    // version 4 like a random UUID, so virtual ids look like the ones create hands out
+    private static long idHigh(long h) {
+        return (h & ~0xF000L) | 0x4000L;
+    }
+
+    private long hash(long index) {
+        return mix(seed + index * 0x9E3779B97F4A7C15L);
+    }
+
+    // SplitMix64 finalizer: a bijection on longs that spreads consecutive inputs over all bits
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void write(JsonGenerator gen, MockEmployee employee, MockEmployeeFields fields)
+            throws IOException {
+        employeeWriter.writeValue(gen, fields.isAll() ? employee : MockEmployeeProjection.of(employee, fields));
+    }
+
+    private static boolean isDeleted(long[] tombstones, long index) {
+        return tombstones.length > 0 && Arrays.binarySearch(tombstones, index) >= 0;
+    }
+
+    private static long[] insert(long[] sorted, long value) {
+        final int at = -Arrays.binarySearch(sorted, value) - 1;
+        final var grown = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, grown, 0, at);
+        grown[at] = value;
+        System.arraycopy(sorted, at, grown, at + 1, sorted.length - at);
+        return grown;
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Adopts the caller's correlation id into the MDC so server logs line up with the api's spans, and logs
+ * each request with its status and server-side duration.
+ */
+@Slf4j
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var id = request.getHeader(HEADER);
+        if (id == null || id.isBlank()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final var start = System.nanoTime();
+        MDC.put(MDC_KEY, id);
+        response.setHeader(HEADER, id);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            log.info(
+                    "{} {} -> {} in {}us",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    response.getStatus(),
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
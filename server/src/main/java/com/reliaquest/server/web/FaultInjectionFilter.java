@@ -0,0 +1,90 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultSettings;
+import com.reliaquest.server.service.FaultInjector;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/*
+ * Applies FaultInjector decisions on the servlet stack. Latency and trickle intervals block the Tomcat thread,
+ * as a slow upstream would.
+ *
+ * Tomcat gives no handle on the socket, so a reset is a truncated response: a Content-Length that is never met,
+ * then Connection: close. Clients see the connection end mid-body.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final String TOMCAT_SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+
+    private final FaultInjector faultInjector;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var fault = faultInjector.decide(request.getMethod(), request.getRequestURI());
+        if (fault == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        sleep(fault.delay().toMillis());
+        if (fault.reset()) {
+            final var body = faultInjector.errorBody();
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(body.length * 2);
+            response.getOutputStream().write(body, 0, body.length / 2);
+            response.flushBuffer();
+            return;
+        }
+        if (fault.errorStatus() > 0) {
+            response.setStatus(fault.errorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(faultInjector.errorBody());
+            return;
+        }
+        if (fault.trickle() == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        // the body has to pass through the wrapper, so no sendfile for /export
+        request.removeAttribute(TOMCAT_SENDFILE_SUPPORT);
+        final var wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        trickle(wrapper.getContentAsByteArray(), response, fault.trickle());
+    }
+
+    private static void trickle(byte[] body, HttpServletResponse response, FaultSettings.Trickle trickle)
+            throws IOException {
+        response.setContentLength(body.length);
+        final var out = response.getOutputStream();
+        for (int offset = 0; offset < body.length; offset += trickle.getChunkBytes()) {
+            if (offset > 0) {
+                sleep(trickle.getIntervalMillis());
+            }
+            out.write(body, offset, Math.min(trickle.getChunkBytes(), body.length - offset));
+            out.flush();
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting latency");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeFields;
+import com.reliaquest.server.model.MockEmployeeProjection;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.UUID;
+
+/*
+ * Hand-written streaming codec for MockEmployee, replacing reflective bean binding through the
+ * PrefixNamingStrategy. Produces the same field names and order ("id", then "employee_" + property).
+ * MockEmployeeProjection is written by the same code, skipping the fields that were not selected.
+ */
+public class MockEmployeeJsonModule extends SimpleModule {
+
+    private static final String ID = "id";
+    private static final String NAME = "employee_name";
+    private static final String SALARY = "employee_salary";
+    private static final String AGE = "employee_age";
+    private static final String TITLE = "employee_title";
+    private static final String EMAIL = "employee_email";
+
+    private static final SerializedString ID_NAME = new SerializedString(ID);
+    private static final SerializedString NAME_NAME = new SerializedString(NAME);
+    private static final SerializedString SALARY_NAME = new SerializedString(SALARY);
+    private static final SerializedString AGE_NAME = new SerializedString(AGE);
+    private static final SerializedString TITLE_NAME = new SerializedString(TITLE);
+    private static final SerializedString EMAIL_NAME = new SerializedString(EMAIL);
+
+    public MockEmployeeJsonModule() {
+        super("MockEmployeeJsonModule");
+        addSerializer(MockEmployee.class, new Serializer());
+        addSerializer(MockEmployeeProjection.class, new ProjectionSerializer());
+        addDeserializer(MockEmployee.class, new Deserializer());
+    }
+
+    static final class Serializer extends StdSerializer<MockEmployee> {
+
+        Serializer() {
+            super(MockEmployee.class);
+        }
+
+        @Override
+        public void serialize(MockEmployee value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            write(gen, value, MockEmployeeFields.ALL);
+        }
+
+        static void write(JsonGenerator gen, MockEmployee value, MockEmployeeFields fields) throws IOException {
+            gen.writeStartObject();
+            if (fields.includes(MockEmployeeFields.ID)) {
+                gen.writeFieldName(ID_NAME);
+                if (value.getId() == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(value.getId().toString());
+                }
+            }
+            if (fields.includes(MockEmployeeFields.NAME)) {
+                gen.writeFieldName(NAME_NAME);
+                gen.writeString(value.getName());
+            }
+            if (fields.includes(MockEmployeeFields.SALARY)) {
+                writeNumber(gen, SALARY_NAME, value.getSalary());
+            }
+            if (fields.includes(MockEmployeeFields.AGE)) {
+                writeNumber(gen, AGE_NAME, value.getAge());
+            }
+            if (fields.includes(MockEmployeeFields.TITLE)) {
+                gen.writeFieldName(TITLE_NAME);
+                gen.writeString(value.getTitle());
+            }
+            if (fields.includes(MockEmployeeFields.EMAIL)) {
+                gen.writeFieldName(EMAIL_NAME);
+                gen.writeString(value.getEmail());
+            }
+            gen.writeEndObject();
+        }
+
+        private static void writeNumber(JsonGenerator gen, SerializedString name, Integer value) throws IOException {
+            gen.writeFieldName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+    }
+
+    /*
+     * Writes the projected employee (or array of employees) directly; field checks are a bit test each.
+     */
+    static final class ProjectionSerializer extends StdSerializer<MockEmployeeProjection> {
+
+        ProjectionSerializer() {
+            super(MockEmployeeProjection.class);
+        }
+
+        @Override
+        public void serialize(MockEmployeeProjection value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (value.value() instanceof MockEmployee employee) {
+                Serializer.write(gen, employee, value.fields());
+                return;
+            }
+            gen.writeStartArray();
+            for (final var employee : (Collection<?>) value.value()) {
+                Serializer.write(gen, (MockEmployee) employee, value.fields());
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class Deserializer extends StdDeserializer<MockEmployee> {
+
+        Deserializer() {
+            super(MockEmployee.class);
+        }
+
+        @Override
+        public MockEmployee deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartObjectToken()) {
+                return (MockEmployee) ctxt.handleUnexpectedToken(MockEmployee.class, p);
+            }
+            final var builder = MockEmployee.builder();
+            String field;
+            while ((field = p.nextFieldName()) != null) {
+                final var value = p.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case ID -> builder.id(parseId(p));
+                    case NAME -> builder.name(text(p, value));
+                    case SALARY -> builder.salary(number(p, value));
+                    case AGE -> builder.age(number(p, value));
+                    case TITLE -> builder.title(text(p, value));
+                    case EMAIL -> builder.email(text(p, value));
+                    default -> p.skipChildren();
+                }
+            }
+            return builder.build();
+        }
+
+        private static UUID parseId(JsonParser p) throws IOException {
+            try {
+                return UUID.fromString(p.getText());
+            } catch (IllegalArgumentException e) {
+                throw new JsonParseException(p, "Invalid id: " + p.getText(), e);
+            }
+        }
+
+        private static String text(JsonParser p, JsonToken value) throws IOException {
+            if (value.isStructStart()) {
+                throw new JsonParseException(p, "Expected a scalar for '" + p.currentName() + "' but found " + value);
+            }
+            return p.getText();
+        }
+
+        private static Integer number(JsonParser p, JsonToken value) throws IOException {
+            if (value.isNumeric()) {
+                return p.getValueAsInt();
+            }
+            if (value == JsonToken.VALUE_STRING) {
+                try {
+                    return Integer.valueOf(p.getText().trim());
+                } catch (NumberFormatException e) {
+                    throw new JsonParseException(p, "Not an int for '" + p.currentName() + "': " + p.getText(), e);
+                }
+            }
+            throw new JsonParseException(p, "Expected an int for '" + p.currentName() + "' but found " + value);
+        }
+    }
+}
@@ -3,10 +3,8 @@ package com.reliaquest.server.web;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
-import lombok.Getter;
+import lombok.NonNull;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -16,33 +14,30 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
     private static final Duration REQUEST_BACKOFF_DURATION =
             Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final RequestLimiter limiter;
 
-    @Override
-    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                return false;
-            }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
-            }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
-        }
+    public RandomRequestLimitInterceptor() {
+        this(REQUEST_LIMIT, REQUEST_BACKOFF_DURATION);
+    }
 
-        return true;
+    RandomRequestLimitInterceptor(int limit, @NonNull Duration backoff) {
+        this.limiter = new RequestLimiter(limit, backoff);
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-        public static RequestLimit init() {
-            return new RequestLimit(0, Instant.now());
+    /*
+     * Same random limit and backoff as this interceptor, for the reactive WebFilter.
+     */
+    public static RequestLimiter randomLimiter() {
+        return new RequestLimiter(REQUEST_LIMIT, REQUEST_BACKOFF_DURATION);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (limiter.tryAcquire(
+                request.getMethod(), request.getRequestURI(), request.getHeader(CorrelationIdFilter.HEADER))) {
+            return true;
         }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        return false;
     }
 }
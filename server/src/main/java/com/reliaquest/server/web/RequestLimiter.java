@@ -0,0 +1,73 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.jfr.RateLimitRejectionEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Getter;
+import lombok.NonNull;
+
+/*
+ * The mock's random rate limit, independent of the web stack: after {@code limit} admitted requests, callers are
+ * refused until {@code backoff} has passed since the last admitted one. Shared by the servlet interceptor and the
+ * reactive WebFilter.
+ *
+ * Admission is decided and recorded in one compare-and-set, so concurrent requests cannot both take the last slot
+ * or both reset an expired window.
+ */
+public class RequestLimiter {
+
+    private final int limit;
+    private final Duration backoff;
+    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+
+    public RequestLimiter(int limit, @NonNull Duration backoff) {
+        this.limit = limit;
+        this.backoff = backoff;
+    }
+
+    public boolean tryAcquire() {
+        return acquire() == null;
+    }
+
+    /*
+     * tryAcquire that records a RateLimitRejectionEvent for the refused request.
+     */
+    public boolean tryAcquire(String method, String path, String correlationId) {
+        final var lockout = acquire();
+        if (lockout == null) {
+            return true;
+        }
+        RateLimitRejectionEvent.emit(correlationId, method, path, limit, lockout);
+        return false;
+    }
+
+    /*
+     * Null when admitted, otherwise the time left until the window resets.
+     */
+    private Duration acquire() {
+        while (true) {
+            final var current = requestLimit.get();
+            final var now = Instant.now();
+            if (current.count() < limit) {
+                if (requestLimit.compareAndSet(current, new RequestLimit(current.count() + 1, now))) {
+                    return null;
+                }
+                continue;
+            }
+            final var resetAt = current.lastRequested().plus(backoff);
+            if (now.isBefore(resetAt)) {
+                return Duration.between(now, resetAt);
+            }
+            if (requestLimit.compareAndSet(current, RequestLimit.init())) {
+                return null;
+            }
+        }
+    }
+
+    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
+        public static RequestLimit init() {
+            return new RequestLimit(0, Instant.now());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.server.web.reactive;
+
+import com.reliaquest.server.web.CorrelationIdFilter;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link CorrelationIdFilter}. A request hops threads, so the id is put into the MDC only
+ * around the completion log line rather than for the whole exchange.
+ */
+@Slf4j
+public class CorrelationIdWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        final var id = request.getHeaders().getFirst(CorrelationIdFilter.HEADER);
+        if (id == null || id.isBlank()) {
+            return chain.filter(exchange);
+        }
+        final var start = System.nanoTime();
+        exchange.getResponse().getHeaders().set(CorrelationIdFilter.HEADER, id);
+        return chain.filter(exchange).doFinally(signal -> {
+            MDC.put(CorrelationIdFilter.MDC_KEY, id);
+            try {
+                log.info(
+                        "{} {} -> {} in {}us",
+                        request.getMethod(),
+                        request.getPath(),
+                        exchange.getResponse().getStatusCode(),
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            } finally {
+                MDC.remove(CorrelationIdFilter.MDC_KEY);
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.server.web.reactive;
+
+import com.reliaquest.server.model.FaultSettings;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjector;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/*
+ * Functional port of FaultAdminController.
+ */
+@RequiredArgsConstructor
+public class FaultAdminHandler {
+
+    private final FaultInjector faultInjector;
+    private final Validator validator;
+
+    public Mono<ServerResponse> getFaults(ServerRequest request) {
+        return ServerResponse.ok().bodyValue(Response.handledWith(faultInjector.settings()));
+    }
+
+    public Mono<ServerResponse> putFaults(ServerRequest request) {
+        return request.bodyToMono(FaultSettings.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Required request body is missing")))
+                .flatMap(settings -> {
+                    final var violations = validator.validate(settings);
+                    if (!violations.isEmpty()) {
+                        final var first = violations.iterator().next();
+                        return Mono.error(new IllegalArgumentException(
+                                "Validation failed for " + first.getPropertyPath() + ": " + first.getMessage()));
+                    }
+                    faultInjector.update(settings);
+                    return ServerResponse.ok().bodyValue(Response.handledWith(settings));
+                });
+    }
+
+    public Mono<ServerResponse> resetFaults(ServerRequest request) {
+        faultInjector.restore();
+        return ServerResponse.ok().bodyValue(Response.handledWith(faultInjector.settings()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.server.web.reactive;
+
+import com.reliaquest.server.model.FaultSettings;
+import com.reliaquest.server.service.FaultInjector;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+/*
+ * Applies FaultInjector decisions on the reactive stack. Latency and trickle intervals are timers, not sleeping
+ * threads. A reset closes the Netty channel with SO_LINGER=0, so the client gets a TCP RST.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionWebFilter implements WebFilter {
+
+    private final FaultInjector faultInjector;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        final var fault = faultInjector.decide(request.getMethod().name(), request.getPath().value());
+        if (fault == null) {
+            return chain.filter(exchange);
+        }
+        final var apply = Mono.defer(() -> apply(fault, exchange, chain));
+        return fault.delay().isZero() ? apply : Mono.delay(fault.delay()).then(apply);
+    }
+
+    private Mono<Void> apply(FaultInjector.Fault fault, ServerWebExchange exchange, WebFilterChain chain) {
+        final var response = exchange.getResponse();
+        final Object nativeRequest = ServerHttpRequestDecorator.getNativeRequest(exchange.getRequest());
+        if (fault.reset() && nativeRequest instanceof Connection connection) {
+            connection.channel().config().setOption(ChannelOption.SO_LINGER, 0);
+            connection.channel().close();
+            return Mono.empty();
+        }
+        // a reset that cannot reach the channel degrades to an error
+        if (fault.reset() || fault.errorStatus() > 0) {
+            response.setRawStatusCode(fault.reset() ? HttpStatus.SERVICE_UNAVAILABLE.value() : fault.errorStatus());
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(
+                    Mono.fromSupplier(() -> response.bufferFactory().wrap(faultInjector.errorBody())));
+        }
+        if (fault.trickle() == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate()
+                .response(new TrickleResponse(response, fault.trickle()))
+                .build());
+    }
+
+    /*
+     * Collects the body, then writes and flushes it chunk by chunk with the configured interval between chunks.
+     */
+    private static final class TrickleResponse extends ServerHttpResponseDecorator {
+
+        private final FaultSettings.Trickle trickle;
+
+        TrickleResponse(ServerHttpResponse delegate, FaultSettings.Trickle trickle) {
+            super(delegate);
+            this.trickle = trickle;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                final var bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+                getHeaders().setContentLength(bytes.length);
+                final var chunks = new ArrayList<byte[]>();
+                for (int offset = 0; offset < bytes.length; offset += trickle.getChunkBytes()) {
+                    chunks.add(Arrays.copyOfRange(
+                            bytes, offset, Math.min(offset + trickle.getChunkBytes(), bytes.length)));
+                }
+                final var interval = Duration.ofMillis(trickle.getIntervalMillis());
+                return super.writeAndFlushWith(Flux.fromIterable(chunks)
+                        .index()
+                        .concatMap(chunk -> Mono.just(bufferFactory().wrap(chunk.getT2()))
+                                .delayElement(chunk.getT1() == 0 ? Duration.ZERO : interval))
+                        .map(Mono::just));
+            });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).concatMap(Flux::from));
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.reliaquest.server.web.reactive;
+
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.FindMockEmployeeBucketsInput;
+import com.reliaquest.server.model.FindMockEmployeesInput;
+import com.reliaquest.server.model.MockEmployeeFields;
+import com.reliaquest.server.model.MockEmployeeProjection;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeBulkService;
+import com.reliaquest.server.service.MockEmployeeResponseCache;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeVirtualDataset;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/*
+ * Functional WebFlux port of MockEmployeeController, same routes and response shapes. Reads are answered on the
+ * Netty event loop when they only touch immutable snapshots, the indexes or already built bytes. Rebuilding the
+ * GET /employee body after a write (serializing and gzipping the whole roster) and the blocking import and export
+ * file work are moved to boundedElastic.
+ *
+ * Validation mirrors @Valid: violations surface as errors, which the router maps to 500 like
+ * MockEmployeeControllerAdvice does.
+ */
+@RequiredArgsConstructor
+public class MockEmployeeHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int IMPORT_BUFFER_DEMAND = 16;
+    public static final MediaType CSV = MediaType.parseMediaType(MockEmployeeController.CSV_VALUE);
+    public static final MediaType NDJSON = MediaType.parseMediaType(MockEmployeeController.NDJSON_VALUE);
+
+    private final MockEmployeeService mockEmployeeService;
+    private final MockEmployeeBulkService mockEmployeeBulkService;
+    private final MockEmployeeResponseCache mockEmployeeResponseCache;
+    private final Validator validator;
+
+    public Mono<ServerResponse> getEmployees(ServerRequest request) {
+        return Mono.fromSupplier(() -> fields(request)).flatMap(fields -> {
+            final var virtual = mockEmployeeService.virtualDataset();
+            if (virtual.isPresent()) {
+                return streamEmployees(request, virtual.get(), fields);
+            }
+            final var snapshot = mockEmployeeService.snapshot();
+            final var gzip =
+                    MockEmployeeResponseCache.acceptsGzip(request.headers().firstHeader(HttpHeaders.ACCEPT_ENCODING));
+            final var built = mockEmployeeResponseCache.getIfBuilt(snapshot, fields);
+            if (built != null) {
+                return cachedBody(built, gzip);
+            }
+            return Mono.fromSupplier(() -> mockEmployeeResponseCache.get(snapshot, fields))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(entry -> cachedBody(entry, gzip));
+        });
+    }
+
+    private static Mono<ServerResponse> cachedBody(MockEmployeeResponseCache.Entry entry, boolean gzip) {
+        final var response = ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, MockEmployeeResponseCache.GZIP)
+                    .contentLength(entry.gzip().length)
+                    .bodyValue(entry.gzip());
+        }
+        return response.contentLength(entry.json().length).bodyValue(entry.json());
+    }
+
+    /*
+     * A virtual dataset is written row by row on boundedElastic into buffers that Netty drains as it sends, so
+     * memory stays bounded by the buffers in flight.
+     */
+    private static Mono<ServerResponse> streamEmployees(
+            ServerRequest request, MockEmployeeVirtualDataset dataset, MockEmployeeFields fields) {
+        final var body = DataBufferUtils.outputStreamPublisher(
+                out -> {
+                    try {
+                        dataset.writeJson(out, fields);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                request.exchange().getResponse().bufferFactory(),
+                task -> Schedulers.boundedElastic().schedule(task));
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromDataBuffers(body));
+    }
+
+    public Mono<ServerResponse> getEmployee(ServerRequest request) {
+        return Mono.fromCallable(() -> UUID.fromString(request.pathVariable("id")))
+                .flatMap(uuid -> mockEmployeeService
+                        .findById(uuid)
+                        .map(employee -> ServerResponse.ok()
+                                .bodyValue(Response.handledWith(MockEmployeeProjection.of(employee, fields(request)))))
+                        .orElseGet(() -> ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(Response.handled())));
+    }
+
+    public Mono<ServerResponse> getEmployeePage(ServerRequest request) {
+        return orBadRequest(() -> mockEmployeeService.findPage(
+                request.queryParam("cursor").orElse(null),
+                pageSize(intParam(request, "limit", DEFAULT_PAGE_SIZE))));
+    }
+
+    public Mono<ServerResponse> getEmployeesBySalary(ServerRequest request) {
+        return orBadRequest(() -> mockEmployeeService.findBySalaryRange(
+                intParam(request, "min", 0),
+                intParam(request, "max", Integer.MAX_VALUE),
+                request.queryParam("cursor").orElse(null),
+                pageSize(intParam(request, "limit", DEFAULT_PAGE_SIZE))));
+    }
+
+    public Mono<ServerResponse> getEmployeesByAge(ServerRequest request) {
+        return orBadRequest(() -> mockEmployeeService.findByAgeRange(
+                intParam(request, "min", 0),
+                intParam(request, "max", Integer.MAX_VALUE),
+                request.queryParam("cursor").orElse(null),
+                pageSize(intParam(request, "limit", DEFAULT_PAGE_SIZE))));
+    }
+
+    public Mono<ServerResponse> searchEmployees(ServerRequest request) {
+        return Mono.fromCallable(() -> {
+                    final var query = request.queryParam("q")
+                            .orElseThrow(() -> new IllegalArgumentException("Required parameter 'q' is missing"));
+                    final var found = mockEmployeeService.search(
+                            query, pageSize(intParam(request, "limit", DEFAULT_PAGE_SIZE)));
+                    return Response.handledWith(MockEmployeeProjection.of(found, fields(request)));
+                })
+                .flatMap(body -> ServerResponse.ok().bodyValue(body));
+    }
+
+    public Mono<ServerResponse> findEmployees(ServerRequest request) {
+        return body(request, FindMockEmployeesInput.class)
+                .flatMap(input -> ServerResponse.ok()
+                        .bodyValue(Response.handledWith(MockEmployeeProjection.of(
+                                mockEmployeeService.findByIds(input.getIds()), fields(request)))));
+    }
+
+    public Mono<ServerResponse> getMerkleRoot(ServerRequest request) {
+        return Mono.fromCallable(mockEmployeeService::merkleRoot)
+                .flatMap(root -> ServerResponse.ok().bodyValue(Response.handledWith(root)));
+    }
+
+    public Mono<ServerResponse> getMerkleChildren(ServerRequest request) {
+        return Mono.fromCallable(() -> Integer.parseInt(request.pathVariable("level")))
+                .zipWith(Mono.fromCallable(() -> intListParam(request, "parents")))
+                .flatMap(args -> orBadRequest(() -> mockEmployeeService.merkleChildren(args.getT1(), args.getT2())));
+    }
+
+    public Mono<ServerResponse> getMerkleBuckets(ServerRequest request) {
+        return body(request, FindMockEmployeeBucketsInput.class)
+                .flatMap(input -> orBadRequest(() -> mockEmployeeService.merkleBuckets(input.getBuckets())));
+    }
+
+    /*
+     * The request body is bridged to an InputStream so the bulk service keeps its line-by-line batching.
+     */
+    public Mono<ServerResponse> importEmployees(ServerRequest request) {
+        final var format = request.headers().contentType().filter(CSV::isCompatibleWith).isPresent()
+                ? MockEmployeeBulkService.Format.CSV
+                : MockEmployeeBulkService.Format.NDJSON;
+        final var buffers = request.body(BodyExtractors.toDataBuffers());
+        return Mono.fromCallable(() -> {
+                    try (final var body = DataBufferUtils.subscriberInputStream(buffers, IMPORT_BUFFER_DEMAND)) {
+                        return mockEmployeeBulkService.importRows(body, format);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(result -> ServerResponse.ok().bodyValue(Response.handledWith(result)));
+    }
+
+    /*
+     * Reactor Netty writes a FileSystemResource with zero-copy file transfer when no compression applies.
+     */
+    public Mono<ServerResponse> exportEmployees(ServerRequest request) {
+        return Mono.fromCallable(() -> mockEmployeeBulkService.exportFile(mockEmployeeService.exportSnapshot()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(file -> ServerResponse.ok()
+                        .contentType(NDJSON)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                        .body(BodyInserters.fromResource(new FileSystemResource(file))));
+    }
+
+    public Mono<ServerResponse> createEmployee(ServerRequest request) {
+        return body(request, CreateMockEmployeeInput.class)
+                .flatMap(input ->
+                        ServerResponse.ok().bodyValue(Response.handledWith(mockEmployeeService.create(input))));
+    }
+
+    public Mono<ServerResponse> deleteEmployee(ServerRequest request) {
+        return body(request, DeleteMockEmployeeInput.class)
+                .flatMap(input ->
+                        ServerResponse.ok().bodyValue(Response.handledWith(mockEmployeeService.delete(input))));
+    }
+
+    private <T> Mono<T> body(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Required request body is missing")))
+                .doOnNext(this::validate);
+    }
+
+    private void validate(Object input) {
+        final var violations = validator.validate(input);
+        if (!violations.isEmpty()) {
+            final var first = violations.iterator().next();
+            throw new IllegalArgumentException(
+                    "Validation failed for " + first.getPropertyPath() + ": " + first.getMessage());
+        }
+    }
+
+    /*
+     * Deferred so that any other exception reaches the router's onError handlers as an error signal.
+     */
+    private static <T> Mono<ServerResponse> orBadRequest(Supplier<T> query) {
+        return Mono.defer(() -> {
+            final T result;
+            try {
+                result = query.get();
+            } catch (IllegalArgumentException e) {
+                return ServerResponse.badRequest().bodyValue(Response.error(e.getMessage()));
+            }
+            return ServerResponse.ok().bodyValue(Response.handledWith(result));
+        });
+    }
+
+    private static MockEmployeeFields fields(ServerRequest request) {
+        return MockEmployeeFields.parse(request.queryParam("fields").orElse(null));
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        return request.queryParam(name).map(Integer::parseInt).orElse(defaultValue);
+    }
+
+    /*
+     * Comma-separated (or repeated) integer parameter, required like a servlet @RequestParam List<Integer>.
+     */
+    private static List<Integer> intListParam(ServerRequest request, String name) {
+        final var values = request.queryParams().get(name);
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("Required parameter '" + name + "' is missing");
+        }
+        return values.stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(value -> Integer.parseInt(value.trim()))
+                .toList();
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+}
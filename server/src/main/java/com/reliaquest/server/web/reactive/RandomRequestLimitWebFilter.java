@@ -0,0 +1,36 @@
+package com.reliaquest.server.web.reactive;
+
+import com.reliaquest.server.web.CorrelationIdFilter;
+import com.reliaquest.server.web.RequestLimiter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/*
+ * RandomRequestLimitInterceptor for the reactive stack: refused requests get 429 and never reach a handler.
+ */
+@RequiredArgsConstructor
+public class RandomRequestLimitWebFilter implements WebFilter {
+
+    private static final String API_PATH = "/api/";
+
+    @NonNull
+    private final RequestLimiter limiter;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        final var path = request.getPath().value();
+        if (!path.startsWith(API_PATH)
+                || limiter.tryAcquire(
+                        request.getMethod().name(), path, request.getHeaders().getFirst(CorrelationIdFilter.HEADER))) {
+            return chain.filter(exchange);
+        }
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        return exchange.getResponse().setComplete();
+    }
+}
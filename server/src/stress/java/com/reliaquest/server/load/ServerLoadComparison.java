@@ -0,0 +1,176 @@
+package com.reliaquest.server.load;
+
+import com.reliaquest.server.ServerApplication;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/*
+ * Throughput of GET /api/v1/employee on the servlet (Tomcat) and reactive (Netty) runtimes at high connection
+ * counts. Boots each variant in-process on a random port with the rate limit off, then holds N keep-alive
+ * connections busy with back-to-back requests for a fixed time and reports req/s and latency percentiles.
+ *
+ *   ./gradlew :server:loadComparison [-Pload.connections=64,256,1024] [-Pload.duration=10s] [-Pload.employees=1000]
+ *
+ * Client and server share the machine, so compare the two variants against each other, not against absolutes.
+ */
+public final class ServerLoadComparison {
+
+    private static final String PATH = "/api/v1/employee";
+    private static final int BUCKET_MICROS = 100;
+    private static final int BUCKETS = 100_000;
+
+    private ServerLoadComparison() {}
+
+    public static void main(String[] args) {
+        final var connections = Arrays.stream(System.getProperty("load.connections", "64,256,1024").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        final var duration = DurationStyle.detectAndParse(System.getProperty("load.duration", "10s"));
+        final var employees = System.getProperty("load.employees", "1000");
+
+        final var results = new ArrayList<Result>();
+        for (final var variant : List.of("servlet", "reactive")) {
+            try (final var context = start(variant, employees)) {
+                final int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+                // let both JITs settle before measuring
+                drive(variant, port, connections.get(0), Duration.ofSeconds(3));
+                for (final int count : connections) {
+                    results.add(drive(variant, port, count, duration));
+                }
+            }
+        }
+
+        System.out.printf(
+                "%n%-9s %12s %12s %10s %10s %10s %8s%n",
+                "runtime", "connections", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        results.forEach(result -> System.out.printf(
+                "%-9s %12d %12.0f %10.2f %10.2f %10.2f %8d%n",
+                result.variant(),
+                result.connections(),
+                result.requestsPerSecond(),
+                result.p50Millis(),
+                result.p99Millis(),
+                result.maxMillis(),
+                result.errors()));
+    }
+
+    private static ConfigurableApplicationContext start(String variant, String employees) {
+        final var builder = new SpringApplicationBuilder(ServerApplication.class).properties(
+                "server.port=0",
+                "mock.rate-limit.enabled=false",
+                "mock.employees.max=" + employees,
+                "logging.level.com.reliaquest=WARN");
+        if (variant.equals("reactive")) {
+            builder.profiles("reactive");
+        }
+        return builder.run();
+    }
+
+    private static Result drive(String variant, int port, int connections, Duration duration) {
+        final var provider = ConnectionProvider.builder("load-" + connections)
+                .maxConnections(connections)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        final var loops = LoopResources.create("load-client", Runtime.getRuntime().availableProcessors(), true);
+        final var client = HttpClient.create(provider).runOn(loops).baseUrl("http://localhost:" + port);
+        final var histogram = new AtomicLongArray(BUCKETS);
+        final var errors = new LongAdder();
+        final var requests = new LongAdder();
+        try {
+            final long start = System.nanoTime();
+            final long deadline = start + duration.toNanos();
+            Flux.range(0, connections)
+                    .flatMap(
+                            ignored -> Mono.defer(() -> request(client, histogram, requests, errors))
+                                    .repeat(() -> System.nanoTime() < deadline),
+                            connections)
+                    .blockLast();
+            return Result.of(variant, connections, requests.sum(), errors.sum(), System.nanoTime() - start, histogram);
+        } finally {
+            provider.disposeLater().block();
+            loops.disposeLater().block();
+        }
+    }
+
+    private static Mono<Integer> request(
+            HttpClient client, AtomicLongArray histogram, LongAdder requests, LongAdder errors) {
+        final long start = System.nanoTime();
+        return client.get()
+                .uri(PATH)
+                .responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+                .doOnNext(status -> {
+                    final long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                    histogram.incrementAndGet((int) Math.min(micros / BUCKET_MICROS, BUCKETS - 1));
+                    requests.increment();
+                    if (status != 200) {
+                        errors.increment();
+                    }
+                })
+                .onErrorResume(e -> {
+                    errors.increment();
+                    return Mono.empty();
+                });
+    }
+
+    record Result(
+            String variant,
+            int connections,
+            long requests,
+            long errors,
+            long elapsedNanos,
+            double p50Millis,
+            double p99Millis,
+            double maxMillis) {
+
+        static Result of(
+                String variant,
+                int connections,
+                long requests,
+                long errors,
+                long elapsedNanos,
+                AtomicLongArray histogram) {
+            return new Result(
+                    variant,
+                    connections,
+                    requests,
+                    errors,
+                    elapsedNanos,
+                    percentile(histogram, requests, 0.50),
+                    percentile(histogram, requests, 0.99),
+                    percentile(histogram, requests, 1.0));
+        }
+
+        double requestsPerSecond() {
+            return requests * 1e9 / elapsedNanos;
+        }
+
+        /*
+         * Upper edge of the bucket holding the given fraction of requests, in milliseconds.
+         */
+        private static double percentile(AtomicLongArray histogram, long total, double fraction) {
+            final long target = Math.max(1, (long) Math.ceil(total * fraction));
+            long seen = 0;
+            for (int i = 0; i < histogram.length(); i++) {
+                seen += histogram.get(i);
+                if (seen >= target) {
+                    return (i + 1) * BUCKET_MICROS / 1000.0;
+                }
+            }
+            return histogram.length() * BUCKET_MICROS / 1000.0;
+        }
+    }
+}
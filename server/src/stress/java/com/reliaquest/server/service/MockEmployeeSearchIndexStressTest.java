@@ -0,0 +1,85 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.stress.StressHarness;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeSearchIndexStressTest {
+
+    private static final String[] TITLES = {"Staff Engineer", "QA Analyst", "Product Manager", "Sales Director"};
+    private static final String[] DOMAINS = {"company.com", "example.org", "corp.net"};
+
+    /*
+     * Searches run against a roster of -Dstress.searchEmployees (default 1,000,000) while thread 0 keeps creating
+     * and deleting a searchable employee. Every search hit must satisfy the query; per-thread-count throughput
+     * gives the mean search latency (1 / ops/s/thread).
+     */
+    @Test
+    @DisplayName("AND-of-prefix searches stay correct and fast with a concurrent writer")
+    void searchWithWriter() throws Exception {
+        final int size = Integer.getInteger("stress.searchEmployees", 1_000_000);
+        final var service =
+                new MockEmployeeService(new Faker(Locale.ROOT), new MockEmployeeRoster(seed(size)), Optional.empty());
+        final var queries = List.of("seed-12", "engineer company.com", "qa @example", "direct corp.n seed-9", "sta");
+        final var results = new ArrayList<StressHarness.Result>();
+        for (final int threads : StressHarness.threadCounts()) {
+            results.add(StressHarness.run(threads, StressHarness.duration(), (thread, iteration) -> {
+                if (thread == 0 && threads > 1) {
+                    final var name = "writer %d".formatted(iteration);
+                    service.create(input(name, "Search Writer"));
+                    assertThat(service.search(name, 10)).extracting(MockEmployee::getName).contains(name);
+                    assertThat(service.delete(delete(name))).isTrue();
+                    return;
+                }
+                final var query = queries.get((int) (iteration % queries.size()));
+                for (final var hit : service.search(query, 100)) {
+                    assertMatches(hit, query);
+                }
+            }));
+        }
+        assertThat(service.search("writer", 10)).isEmpty();
+        assertThat(service.search("seed-12", 1000)).hasSizeGreaterThan(1);
+        StressHarness.report("MockEmployeeSearchIndex search over %,d employees".formatted(size), results);
+    }
+
+    private static void assertMatches(MockEmployee employee, String query) {
+        final var tokens = MockEmployeeSearchIndex.tokensOf(employee);
+        for (final var term : MockEmployeeSearchIndex.queryTerms(query)) {
+            assertThat(tokens).as("%s for '%s'", employee, query).anyMatch(token -> token.startsWith(term));
+        }
+    }
+
+    private static List<MockEmployee> seed(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> MockEmployee.from(
+                        "seed%d@%s".formatted(i, DOMAINS[i % DOMAINS.length]),
+                        input("seed-%d".formatted(i), TITLES[i % TITLES.length])))
+                .toList();
+    }
+
+    private static CreateMockEmployeeInput input(String name, String title) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle(title);
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput delete(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.stress.StressHarness;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceStressTest {
+
+    private static final int SEED_SIZE = 500;
+
+    /*
+     * Each thread cycles create / find / scan / delete-own. Invariants checked while running: every snapshot is
+     * internally consistent (size() == iteration count, no duplicate ids) and versions never go backwards for a
+     * reader. After the run: final size == seed + creates - deletes, and exactly the surviving creations remain.
+     */
+    @Test
+    @DisplayName("concurrent create, delete, find and scan keep the roster consistent")
+    void mixedWorkload() throws Exception {
+        final var results = new ArrayList<StressHarness.Result>();
+        for (final int threads : StressHarness.threadCounts()) {
+            final var service =
+                    new MockEmployeeService(new Faker(Locale.ROOT), new MockEmployeeRoster(seed()), Optional.empty());
+            final var surviving = ConcurrentHashMap.<String>newKeySet();
+            final var creates = new LongAdder();
+            final var deletes = new LongAdder();
+            final var lastVersion = new long[threads];
+
+            results.add(StressHarness.run(threads, StressHarness.duration(), (thread, iteration) -> {
+                switch ((int) (iteration % 4)) {
+                    case 0 -> {
+                        final var created = service.create(input("stress-%d-%d".formatted(thread, iteration)));
+                        creates.increment();
+                        surviving.add(created.getName());
+                        assertThat(service.findById(created.getId())).contains(created);
+                    }
+                    case 1 -> assertThat(service.findById(UUID.randomUUID())).isEmpty();
+                    case 2 -> {
+                        final var snapshot = service.snapshot();
+                        assertThat(snapshot.version()).isGreaterThanOrEqualTo(lastVersion[thread]);
+                        lastVersion[thread] = snapshot.version();
+                        assertConsistent(snapshot);
+                    }
+                    default -> {
+                        // delete the employee this thread created three iterations ago
+                        final var name = "stress-%d-%d".formatted(thread, iteration - 3);
+                        assertThat(service.delete(delete(name))).isTrue();
+                        deletes.increment();
+                        surviving.remove(name);
+                        assertThat(service.delete(delete(name))).isFalse();
+                    }
+                }
+            }));
+
+            final var snapshot = service.snapshot();
+            assertConsistent(snapshot);
+            assertThat(snapshot.size()).isEqualTo(SEED_SIZE + creates.sum() - deletes.sum());
+            assertThat(snapshot.employees().stream()
+                            .map(MockEmployee::getName)
+                            .filter(name -> name.startsWith("stress-")))
+                    .containsExactlyInAnyOrderElementsOf(surviving);
+        }
+        StressHarness.report("MockEmployeeService create/find/scan/delete", results);
+    }
+
+    @Test
+    @DisplayName("readers scale while a single writer keeps publishing versions")
+    void readersWithWriter() throws Exception {
+        final var results = new ArrayList<StressHarness.Result>();
+        for (final int threads : StressHarness.threadCounts()) {
+            final var service =
+                    new MockEmployeeService(new Faker(Locale.ROOT), new MockEmployeeRoster(seed()), Optional.empty());
+            final var ids = service.getMockEmployees().stream().map(MockEmployee::getId).toList();
+
+            results.add(StressHarness.run(threads, StressHarness.duration(), (thread, iteration) -> {
+                if (thread == 0 && threads > 1) {
+                    final var name = "writer-%d".formatted(iteration);
+                    service.create(input(name));
+                    service.delete(delete(name));
+                    return;
+                }
+                // seeded employees are never deleted, so every lookup must hit
+                final var id = ids.get((int) (iteration % ids.size()));
+                assertThat(service.findById(id)).isPresent();
+            }));
+
+            assertThat(service.snapshot().size()).isEqualTo(SEED_SIZE);
+        }
+        StressHarness.report("MockEmployeeService findById with concurrent writer", results);
+    }
+
+    private static void assertConsistent(MockEmployeeRoster.Snapshot snapshot) {
+        final var seen = new HashSet<UUID>(snapshot.size() * 2);
+        int count = 0;
+        for (final var employee : snapshot.employees()) {
+            assertThat(seen.add(employee.getId())).as("duplicate id %s", employee.getId()).isTrue();
+            count++;
+        }
+        assertThat(count).isEqualTo(snapshot.size());
+    }
+
+    private static List<MockEmployee> seed() {
+        return IntStream.range(0, SEED_SIZE)
+                .mapToObj(i -> MockEmployee.from("seed%d@company.com".formatted(i), input("seed-%d".formatted(i))))
+                .toList();
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Stress Tester");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput delete(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
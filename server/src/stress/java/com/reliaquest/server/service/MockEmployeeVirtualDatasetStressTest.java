@@ -0,0 +1,91 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.stress.StressHarness;
+import com.reliaquest.server.web.MockEmployeeJsonModule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeVirtualDatasetStressTest {
+
+    /*
+     * Lookups and pages over a virtual roster of -Dstress.virtualRows (default 100,000,000) while thread 0 keeps
+     * deleting virtual rows and creating and deleting overlay employees. Every row must be reproducible from its
+     * index, found by its id until deleted, and pages must follow on from their cursors.
+     */
+    @Test
+    @DisplayName("virtual rows stay deterministic and addressable with a concurrent writer")
+    void lookupsWithWriter() throws Exception {
+        final long rows = Long.getLong("stress.virtualRows", 100_000_000L);
+        final var overlay = new MockEmployeeRoster(List.of());
+        final var objectMapper = new ObjectMapper().registerModule(new MockEmployeeJsonModule());
+        final var dataset = new MockEmployeeVirtualDataset(rows, 7, overlay, objectMapper);
+        final var service = new MockEmployeeService(new Faker(Locale.ROOT), overlay, Optional.of(dataset));
+        assertThat(new MockEmployeeVirtualDataset(rows, 7, overlay, objectMapper).row(rows - 1))
+                .isEqualTo(dataset.row(rows - 1));
+
+        final var results = new ArrayList<StressHarness.Result>();
+        for (final int threads : StressHarness.threadCounts()) {
+            results.add(StressHarness.run(threads, StressHarness.duration(), (thread, iteration) -> {
+                final var random = ThreadLocalRandom.current();
+                if (thread == 0 && threads > 1) {
+                    final var row = dataset.row(random.nextLong(rows));
+                    dataset.remove(row.getId(), row.getName())
+                            .ifPresent(removed -> assertThat(removed).isEqualTo(row));
+                    assertThat(service.findById(row.getId())).isEmpty();
+                    final var created = service.create(input("overlay %d".formatted(iteration)));
+                    assertThat(service.findById(created.getId())).contains(created);
+                    assertThat(service.delete(delete(created))).isTrue();
+                    return;
+                }
+                final long index = random.nextLong(rows);
+                final var employee = dataset.row(index);
+                service.findById(employee.getId()).ifPresent(found -> assertThat(found).isEqualTo(employee));
+                assertThat(service.findById(UUID.randomUUID())).isEmpty();
+                if (iteration % 64 == 0) {
+                    assertPageFollowsOn(service, Math.max(0, index - 50));
+                }
+            }));
+        }
+        StressHarness.report("MockEmployeeVirtualDataset over %,d rows".formatted(rows), results);
+    }
+
+    private static void assertPageFollowsOn(MockEmployeeService service, long cursor) {
+        final var first = service.findPage(Long.toString(cursor), 100);
+        assertThat(first.employees()).hasSizeLessThanOrEqualTo(100);
+        if (first.nextCursor() == null) {
+            return;
+        }
+        final var second = service.findPage(first.nextCursor(), 100);
+        final var seen = first.employees().stream().map(MockEmployee::getId).toList();
+        assertThat(second.employees()).extracting(MockEmployee::getId).doesNotContainAnyElementsOf(seen);
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Overlay");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput delete(MockEmployee employee) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(employee.getName());
+        input.setId(employee.getId());
+        return input;
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.server.stress;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.boot.convert.DurationStyle;
+
+/*
+ * Minimal multi-thread driver: starts N threads behind a barrier, runs one operation in a tight loop on each
+ * until the deadline, then reports per-thread-count throughput. The first failure in any thread stops the run
+ * and is rethrown to the test.
+ */
+public final class StressHarness {
+
+    private StressHarness() {}
+
+    @FunctionalInterface
+    public interface Operation {
+        void apply(int thread, long iteration) throws Exception;
+    }
+
+    public record Result(int threads, long operations, long elapsedNanos) {
+
+        public double opsPerSecond() {
+            return operations * 1e9 / elapsedNanos;
+        }
+    }
+
+    /*
+     * Thread counts from -Dstress.threads (comma separated), default 1,2,4,8.
+     */
+    public static List<Integer> threadCounts() {
+        return Arrays.stream(System.getProperty("stress.threads", "1,2,4,8").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    /*
+     * Run length per thread count from -Dstress.duration (e.g. 500ms, 2s), default 1s.
+     */
+    public static Duration duration() {
+        return DurationStyle.detectAndParse(System.getProperty("stress.duration", "1s"));
+    }
+
+    public static Result run(int threads, Duration duration, Operation operation) throws Exception {
+        final var barrier = new CyclicBarrier(threads + 1);
+        final var failure = new AtomicReference<Throwable>();
+        final var counts = new long[threads];
+        final var workers = new ArrayList<Thread>(threads);
+        final long[] deadline = new long[1];
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            final var worker = new Thread(
+                    () -> {
+                        try {
+                            barrier.await();
+                            long iteration = 0;
+                            while (failure.get() == null && System.nanoTime() - deadline[0] < 0) {
+                                operation.apply(thread, iteration++);
+                            }
+                            counts[thread] = iteration;
+                        } catch (Throwable e) {
+                            failure.compareAndSet(null, e);
+                        }
+                    },
+                    "stress-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        final long start = System.nanoTime();
+        // published to the workers by the barrier
+        deadline[0] = start + duration.toNanos();
+        barrier.await(10, TimeUnit.SECONDS);
+        for (final var worker : workers) {
+            worker.join();
+        }
+        final long elapsed = System.nanoTime() - start;
+        final var error = failure.get();
+        if (error instanceof Exception e) {
+            throw e;
+        }
+        if (error != null) {
+            throw new AssertionError("Stress worker failed", error);
+        }
+        return new Result(threads, Arrays.stream(counts).sum(), elapsed);
+    }
+
+    public static void report(String name, List<Result> results) {
+        final var out = new StringBuilder("%n%s%n%8s %14s %14s %14s%n"
+                .formatted(name, "threads", "ops", "ops/s", "ops/s/thread"));
+        for (final var result : results) {
+            out.append("%8d %14d %14.0f %14.0f%n"
+                    .formatted(
+                            result.threads(),
+                            result.operations(),
+                            result.opsPerSecond(),
+                            result.opsPerSecond() / result.threads()));
+        }
+        System.out.print(out);
+    }
+}
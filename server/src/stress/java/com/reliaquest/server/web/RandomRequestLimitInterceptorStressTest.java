@@ -0,0 +1,63 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.stress.StressHarness;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorStressTest {
+
+    private static final int LIMIT = 7;
+
+    @Test
+    @DisplayName("within one backoff window exactly LIMIT requests are admitted, however many threads race")
+    void admitsExactlyLimit() throws Exception {
+        final var results = new ArrayList<StressHarness.Result>();
+        for (final int threads : StressHarness.threadCounts()) {
+            final var interceptor = new RandomRequestLimitInterceptor(LIMIT, Duration.ofHours(1));
+            final var admitted = new LongAdder();
+            final var rejected = new LongAdder();
+
+            final var result = StressHarness.run(threads, StressHarness.duration(), (thread, iteration) -> {
+                final var response = new MockHttpServletResponse();
+                if (interceptor.preHandle(new MockHttpServletRequest(), response, null)) {
+                    admitted.increment();
+                } else {
+                    assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+                    rejected.increment();
+                }
+            });
+
+            assertThat(admitted.sum()).as("admitted with %d threads", threads).isEqualTo(LIMIT);
+            assertThat(admitted.sum() + rejected.sum()).isEqualTo(result.operations());
+            results.add(result);
+        }
+        StressHarness.report("RandomRequestLimitInterceptor.preHandle (window exhausted)", results);
+    }
+
+    @Test
+    @DisplayName("with the window always expired every exhausted window is reset and nothing is rejected")
+    void resetsUnderContention() throws Exception {
+        final var results = new ArrayList<StressHarness.Result>();
+        for (final int threads : StressHarness.threadCounts()) {
+            final var interceptor = new RandomRequestLimitInterceptor(LIMIT, Duration.ofMinutes(-1));
+            final var rejected = new LongAdder();
+
+            results.add(StressHarness.run(threads, StressHarness.duration(), (thread, iteration) -> {
+                if (!interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null)) {
+                    rejected.increment();
+                }
+            }));
+
+            assertThat(rejected.sum()).as("rejected with %d threads", threads).isZero();
+        }
+        StressHarness.report("RandomRequestLimitInterceptor.preHandle (count + reset)", results);
+    }
+}
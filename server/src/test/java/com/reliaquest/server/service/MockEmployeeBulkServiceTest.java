@@ -0,0 +1,170 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.web.MockEmployeeJsonModule;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeBulkServiceTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new MockEmployeeJsonModule());
+    private final MockEmployeeRoster roster = new MockEmployeeRoster(List.of());
+
+    @TempDir
+    Path exportDir;
+
+    @BeforeAll
+    static void createValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("CSV fields may be quoted, contain commas and escape quotes as \"\"")
+    void splitCsv_quoting() {
+        assertThat(MockEmployeeBulkService.splitCsv("a,b,,c")).containsExactly("a", "b", "", "c");
+        assertThat(MockEmployeeBulkService.splitCsv("\"Smith, Jane\",\"say \"\"hi\"\"\",3"))
+                .containsExactly("Smith, Jane", "say \"hi\"", "3");
+        assertThat(MockEmployeeBulkService.splitCsv("\"\",x,")).containsExactly("", "x", "");
+        assertThat(MockEmployeeBulkService.splitCsv("")).containsExactly("");
+    }
+
+    @Test
+    @DisplayName("NDJSON rows are imported across batches; bad rows are rejected by line number, blanks skipped")
+    void importNdjson_partialFailure() throws IOException {
+        final var service = service(2);
+        final var body = String.join(
+                "\n",
+                row("Ann Lee", 50_000, 30),
+                "{not json",
+                "",
+                row("Bo Chan", 60_000, 80),
+                row("Cy Diaz", 70_000, 40),
+                "{\"name\":\"\",\"salary\":1,\"age\":20,\"title\":\"Clerk\"}",
+                row("Di Eng", 80_000, 50));
+
+        final var result = service.importRows(stream(body), MockEmployeeBulkService.Format.NDJSON);
+
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.errors()).hasSize(3);
+        assertThat(result.errors().get(0)).startsWith("line 2: ");
+        assertThat(result.errors().get(1)).startsWith("line 4: age ");
+        assertThat(result.errors().get(2)).startsWith("line 6: name ");
+        assertThat(roster.snapshot().employees())
+                .extracting(MockEmployee::getName)
+                .containsExactly("Ann Lee", "Cy Diaz", "Di Eng");
+        assertThat(roster.snapshot().employees().get(0).getEmail()).contains("ann.lee");
+        assertThat(roster.searchIndex().search("diaz", 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("CSV import maps columns by header, in any order and case, and counts lines from the header")
+    void importCsv_byHeader() throws IOException {
+        final var service = service(10);
+        final var body = String.join(
+                "\n",
+                "Title,AGE,name,salary",
+                "\"Engineer, Senior\",35,\"O\"\"Brien, Pat\",90000",
+                "Clerk,abc,Sam Roe,40000",
+                "Clerk,25,Sam Roe",
+                "Clerk,25,Ali Ray,45000");
+
+        final var result = service.importRows(stream(body), MockEmployeeBulkService.Format.CSV);
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors().get(0)).startsWith("line 3: NumberFormatException");
+        assertThat(result.errors().get(1)).startsWith("line 4: salary ");
+        final var first = roster.snapshot().employees().get(0);
+        assertThat(first.getName()).isEqualTo("O'Brien, Pat");
+        assertThat(first.getTitle()).isEqualTo("Engineer, Senior");
+        assertThat(first.getSalary()).isEqualTo(90_000);
+        assertThat(first.getAge()).isEqualTo(35);
+    }
+
+    @Test
+    @DisplayName("only the first 20 rejected rows are reported, but every one is counted")
+    void importErrorsCapped() throws IOException {
+        final var body = String.join("\n", Collections.nCopies(25, "oops"));
+
+        final var result = service(7).importRows(stream(body), MockEmployeeBulkService.Format.NDJSON);
+
+        assertThat(result.rejected()).isEqualTo(25);
+        assertThat(result.errors()).hasSize(20);
+        assertThat(result.errors().get(19)).startsWith("line 20: ");
+        assertThat(roster.snapshot().version()).isZero();
+    }
+
+    @Test
+    @DisplayName("an export is written once per version, and the previous version survives one more swap")
+    void exportFile_reuseAndRetention() throws IOException {
+        final var service = service(10);
+        roster.add(employee("first"));
+        final var v1 = service.exportFile(roster.snapshot());
+        final var modified = Files.getLastModifiedTime(v1);
+
+        assertThat(service.exportFile(roster.snapshot())).isEqualTo(v1);
+        assertThat(Files.getLastModifiedTime(v1)).isEqualTo(modified);
+        final var lines = Files.readAllLines(v1);
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readValue(lines.get(0), MockEmployee.class))
+                .isEqualTo(roster.snapshot().employees().get(0));
+
+        roster.add(employee("second"));
+        final var v2 = service.exportFile(roster.snapshot());
+        assertThat(v2.getFileName()).hasToString("mock-employees-v2.ndjson");
+        assertThat(v1).exists();
+        assertThat(Files.readAllLines(v2)).hasSize(2);
+
+        roster.add(employee("third"));
+        final var v3 = service.exportFile(roster.snapshot());
+        assertThat(v1).doesNotExist();
+        assertThat(v2).exists();
+        assertThat(v3).exists();
+        try (var files = Files.list(exportDir)) {
+            assertThat(files).hasSize(2);
+        }
+    }
+
+    private MockEmployeeBulkService service(int batchSize) {
+        return new MockEmployeeBulkService(roster, validator, objectMapper, batchSize, exportDir);
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", name + "@company.com");
+    }
+
+    private static String row(String name, int salary, int age) {
+        return "{\"name\":\"%s\",\"salary\":%d,\"age\":%d,\"title\":\"Engineer\"}".formatted(name, salary, age);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
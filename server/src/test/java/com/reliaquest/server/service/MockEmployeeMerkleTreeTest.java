@@ -0,0 +1,125 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeMerkleTreeTest {
+
+    private final MockEmployeeMerkleTree tree = new MockEmployeeMerkleTree();
+
+    @Test
+    @DisplayName("an add changes the root and deleting it again restores the previous root")
+    void rootFollowsAddAndDelete() {
+        tree.addAll(employees(100));
+        final var before = tree.root();
+        final var added = employee("added");
+
+        tree.add(added);
+        final var after = tree.root();
+        tree.remove(added);
+
+        assertThat(after).isNotEqualTo(before);
+        assertThat(tree.root()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("the root depends on content, not on insertion order or on add vs addAll")
+    void rootIndependentOfOrder() {
+        final var employees = employees(200);
+        final var reversed = new ArrayList<>(employees);
+        Collections.reverse(reversed);
+        final var oneByOne = new MockEmployeeMerkleTree();
+
+        tree.addAll(employees);
+        reversed.forEach(oneByOne::add);
+
+        assertThat(oneByOne.root()).isEqualTo(tree.root());
+    }
+
+    @Test
+    @DisplayName("changing any field of an employee changes the root")
+    void rootCoversContent() {
+        final var original = employee("original");
+        final var renamed = original.toBuilder().name("renamed").build();
+        final var other = new MockEmployeeMerkleTree();
+
+        tree.add(original);
+        other.add(renamed);
+
+        assertThat(other.root()).isNotEqualTo(tree.root());
+    }
+
+    @Test
+    @DisplayName("a write changes exactly the nodes on its bucket's path, and the bucket lists its members")
+    void writeTouchesOnePath() {
+        tree.addAll(employees(50));
+        final var added = employee("added");
+        final int bucket = MockEmployeeMerkleTree.bucketOf(added.getId());
+        final int fanout = MockEmployeeMerkleTree.FANOUT;
+        final int parent = bucket / fanout;
+        final var leavesBefore = tree.children(MockEmployeeMerkleTree.DEPTH, List.of(parent)).get(parent);
+
+        tree.add(added);
+        final var leavesAfter = tree.children(MockEmployeeMerkleTree.DEPTH, List.of(parent)).get(parent);
+
+        for (int k = 0; k < fanout; k++) {
+            if (parent * fanout + k == bucket) {
+                assertThat(leavesAfter.get(k)).isNotEqualTo(leavesBefore.get(k));
+            } else {
+                assertThat(leavesAfter.get(k)).isEqualTo(leavesBefore.get(k));
+            }
+        }
+        final var read = tree.buckets(List.of(bucket)).get(0);
+        assertThat(read.bucket()).isEqualTo(bucket);
+        assertThat(read.hash()).isEqualTo(leavesAfter.get(bucket % fanout));
+        assertThat(read.employees()).contains(added);
+    }
+
+    @Test
+    @DisplayName("the top level's children are the root's inputs, and an empty tree has empty buckets")
+    void childrenAndBuckets() {
+        final var root = tree.root();
+        final var top = tree.children(1, List.of(0));
+
+        assertThat(top).containsOnlyKeys(0);
+        assertThat(top.get(0)).hasSize(MockEmployeeMerkleTree.FANOUT);
+        assertThat(tree.buckets(List.of(0, MockEmployeeMerkleTree.BUCKETS - 1)))
+                .allSatisfy(bucket -> assertThat(bucket.employees()).isEmpty());
+
+        tree.add(employee("added"));
+        assertThat(tree.children(1, List.of(0)).get(0)).isNotEqualTo(top.get(0));
+        assertThat(tree.root()).isNotEqualTo(root);
+    }
+
+    @Test
+    @DisplayName("levels, parents and buckets outside the tree are rejected")
+    void outOfRange() {
+        assertThatThrownBy(() -> tree.children(0, List.of(0))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.children(MockEmployeeMerkleTree.DEPTH + 1, List.of(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.children(1, List.of(1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.buckets(List.of(MockEmployeeMerkleTree.BUCKETS)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tree.buckets(List.of(-1))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", name + "@company.com");
+    }
+
+    private static List<MockEmployee> employees(int count) {
+        final var employees = new ArrayList<MockEmployee>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee("employee-" + i));
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,154 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeRangeIndexTest {
+
+    private final MockEmployeeRangeIndex index = new MockEmployeeRangeIndex(MockEmployee::getSalary);
+
+    @Test
+    @DisplayName("pages walk the range in (value, id) order, bounds inclusive, and the last page has no cursor")
+    void pagesCoverRangeOnce() {
+        final var employees = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 30; i++) {
+            // ten distinct salaries, three employees each
+            employees.add(employee(40_000 + (i % 10) * 1_000));
+        }
+        index.addAll(employees);
+
+        final var seen = new ArrayList<MockEmployee>();
+        MockEmployeeRangeIndex.Cursor cursor = null;
+        int pages = 0;
+        do {
+            final var page = index.range(42_000, 45_000, cursor, 5);
+            seen.addAll(page.employees());
+            cursor = page.next();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(12).doesNotHaveDuplicates();
+        assertThat(seen).extracting(MockEmployee::getSalary).isSorted().allMatch(s -> s >= 42_000 && s <= 45_000);
+        for (int i = 1; i < seen.size(); i++) {
+            final var previous = seen.get(i - 1);
+            final var current = seen.get(i);
+            if (previous.getSalary().equals(current.getSalary())) {
+                assertThat(previous.getId()).isLessThan(current.getId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("a page that ends exactly at the range end has no cursor; a full page with more to come has one")
+    void exactFinalPage() {
+        index.addAll(List.of(employee(1), employee(2), employee(3)));
+
+        assertThat(index.range(1, 2, null, 2).next()).isNull();
+        final var first = index.range(1, 3, null, 2);
+        assertThat(first.next()).isNotNull();
+        final var second = index.range(1, 3, first.next(), 2);
+        assertThat(second.employees()).extracting(MockEmployee::getSalary).containsExactly(3);
+        assertThat(second.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("a cursor whose row was deleted resumes right after where that row was")
+    void cursorOnDeletedRow() {
+        final var a = employee(100);
+        final var b = employee(100);
+        final var c = employee(100);
+        final var d = employee(200);
+        index.addAll(List.of(a, b, c, d));
+
+        final var first = index.range(0, 1_000, null, 2);
+        final var last = first.employees().get(1);
+        index.remove(last);
+        final var rest = index.range(0, 1_000, first.next(), 10).employees();
+
+        assertThat(rest).hasSize(2).doesNotContainAnyElementsOf(first.employees()).endsWith(d);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("a cursor below the range starts at its lower bound; one past it returns an empty page")
+    void cursorOutsideRange() {
+        final var low = employee(10);
+        final var mid = employee(50);
+        final var high = employee(90);
+        index.addAll(List.of(low, mid, high));
+        final var belowRange = index.range(0, 100, null, 1).next();
+        final var pastRange = index.range(0, 100, null, 2).next();
+
+        assertThat(index.range(40, 60, belowRange, 10).employees()).containsExactly(mid);
+        assertThat(index.range(0, 40, pastRange, 10).employees()).isEmpty();
+        assertThat(index.range(60, 40, null, 10).employees()).isEmpty();
+        assertThat(index.range(0, 100, null, 0).employees()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("the upper bound holds whatever the ids at max, including the largest int value")
+    void upperBoundIndependentOfIds() {
+        final var highIds = List.of(
+                employee(50, new UUID(-1L, -1L)),
+                employee(50, new UUID(Long.MAX_VALUE, Long.MAX_VALUE)),
+                employee(50, new UUID(Long.MIN_VALUE, 0L)));
+        final var above = employee(51, new UUID(Long.MIN_VALUE, Long.MIN_VALUE));
+        final var top = employee(Integer.MAX_VALUE, new UUID(-1L, -1L));
+        index.addAll(highIds);
+        index.addAll(List.of(above, top));
+
+        assertThat(index.range(0, 50, null, 10).employees()).containsExactlyInAnyOrderElementsOf(highIds);
+        assertThat(index.range(50, 50, null, 10).employees()).containsExactlyInAnyOrderElementsOf(highIds);
+        assertThat(index.range(51, Integer.MAX_VALUE, null, 10).employees()).containsExactly(above, top);
+        assertThat(index.range(Integer.MAX_VALUE, Integer.MAX_VALUE, null, 10).employees())
+                .containsExactly(top);
+
+        final var first = index.range(0, Integer.MAX_VALUE, null, 4);
+        assertThat(index.range(0, Integer.MAX_VALUE, first.next(), 10).employees()).containsExactly(top);
+        assertThat(index.range(0, 50, first.next(), 10).employees()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("employees without a value or an id are not indexed")
+    void nullsNotIndexed() {
+        index.add(new MockEmployee(UUID.randomUUID(), "No Salary", null, 30, "Engineer", "a@company.com"));
+        index.add(new MockEmployee(null, "No Id", 50_000, 30, "Engineer", "b@company.com"));
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("cursors round-trip through their token; malformed tokens are rejected")
+    void cursorParse() {
+        index.addAll(List.of(employee(-5), employee(-5)));
+        final var next = index.range(-10, 10, null, 1).next();
+
+        assertThat(MockEmployeeRangeIndex.Cursor.parse(next.toString())).contains(next);
+        assertThat(MockEmployeeRangeIndex.Cursor.parse(null)).isEmpty();
+        assertThat(MockEmployeeRangeIndex.Cursor.parse(" ")).isEmpty();
+        assertThatThrownBy(() -> MockEmployeeRangeIndex.Cursor.parse("42"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MockEmployeeRangeIndex.Cursor.parse("_" + UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MockEmployeeRangeIndex.Cursor.parse("x_" + UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MockEmployeeRangeIndex.Cursor.parse("42_not-a-uuid"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockEmployee employee(int salary) {
+        return employee(salary, UUID.randomUUID());
+    }
+
+    private static MockEmployee employee(int salary, UUID id) {
+        return new MockEmployee(id, "Employee " + salary, salary, 30, "Engineer", "e@company.com");
+    }
+}
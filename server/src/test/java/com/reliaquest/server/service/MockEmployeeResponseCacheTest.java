@@ -0,0 +1,133 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeFields;
+import com.reliaquest.server.web.MockEmployeeJsonModule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeResponseCacheTest {
+
+    private final MockEmployeeRoster roster = new MockEmployeeRoster(List.of(employee("Ann Lee")));
+    private final MockEmployeeResponseCache cache =
+            new MockEmployeeResponseCache(new ObjectMapper().registerModule(new MockEmployeeJsonModule()));
+
+    @Test
+    @DisplayName("an entry is reused for its version and rebuilt once the roster publishes a new one")
+    void invalidatedPerVersion() throws IOException {
+        final var first = cache.get(roster.snapshot());
+
+        assertThat(cache.get(roster.snapshot())).isSameAs(first);
+        assertThat(json(first)).contains("Ann Lee").doesNotContain("Bo Chan");
+        assertThat(gunzip(first.gzip())).isEqualTo(first.json());
+
+        roster.add(employee("Bo Chan"));
+        final var second = cache.get(roster.snapshot());
+
+        assertThat(second.version()).isEqualTo(first.version() + 1);
+        assertThat(json(second)).contains("Ann Lee", "Bo Chan");
+        assertThat(gunzip(second.gzip())).isEqualTo(second.json());
+        assertThat(cache.get(roster.snapshot())).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("a reader holding an older snapshot gets that version's body without evicting the newer entry")
+    void olderSnapshotNotServedNewerBytes() {
+        final var old = roster.snapshot();
+        roster.add(employee("Bo Chan"));
+        final var latest = cache.get(roster.snapshot());
+
+        final var stale = cache.get(old);
+
+        assertThat(stale.version()).isEqualTo(old.version());
+        assertThat(json(stale)).doesNotContain("Bo Chan");
+        assertThat(cache.get(roster.snapshot())).isSameAs(latest);
+    }
+
+    @Test
+    @DisplayName("each sparse fieldset has its own entry, invalidated per version like the full body")
+    void fieldsetEntries() {
+        final var fields = MockEmployeeFields.parse("employee_name,id");
+        final var projected = cache.get(roster.snapshot(), fields);
+
+        assertThat(cache.get(roster.snapshot(), fields)).isSameAs(projected);
+        assertThat(cache.get(roster.snapshot(), MockEmployeeFields.parse("id,employee_name")))
+                .isSameAs(projected);
+        assertThat(json(projected)).contains("\"id\"", "Ann Lee").doesNotContain("employee_salary");
+        assertThat(cache.get(roster.snapshot(), MockEmployeeFields.ALL)).isNotSameAs(projected);
+
+        roster.add(employee("Bo Chan"));
+        final var rebuilt = cache.get(roster.snapshot(), fields);
+
+        assertThat(rebuilt).isNotSameAs(projected);
+        assertThat(json(rebuilt)).contains("Bo Chan");
+    }
+
+    @Test
+    @DisplayName("getIfBuilt returns only an entry already built for the snapshot's version, and never builds one")
+    void getIfBuilt() {
+        final var fields = MockEmployeeFields.parse("employee_name,id");
+
+        assertThat(cache.getIfBuilt(roster.snapshot(), MockEmployeeFields.ALL)).isNull();
+        assertThat(cache.getIfBuilt(roster.snapshot(), fields)).isNull();
+
+        final var full = cache.get(roster.snapshot());
+        final var projected = cache.get(roster.snapshot(), fields);
+
+        assertThat(cache.getIfBuilt(roster.snapshot(), MockEmployeeFields.ALL)).isSameAs(full);
+        assertThat(cache.getIfBuilt(roster.snapshot(), fields)).isSameAs(projected);
+
+        roster.add(employee("Bo Chan"));
+
+        assertThat(cache.getIfBuilt(roster.snapshot(), MockEmployeeFields.ALL)).isNull();
+        assertThat(cache.getIfBuilt(roster.snapshot(), fields)).isNull();
+        assertThat(cache.get(roster.snapshot())).isNotSameAs(full);
+    }
+
+    @Test
+    @DisplayName("gzip is served when accepted explicitly or by *, unless refused with q=0")
+    void acceptsGzip() {
+        assertThat(MockEmployeeResponseCache.acceptsGzip(null)).isFalse();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("")).isFalse();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("GZIP")).isTrue();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("gzip;q=0.01")).isTrue();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("br, *")).isTrue();
+    }
+
+    @Test
+    @DisplayName("q=0 refuses a coding, and an explicit gzip entry overrides *")
+    void acceptsGzip_refusals() {
+        assertThat(MockEmployeeResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("gzip;Q=0")).isFalse();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("gzip;level=1;q=0")).isFalse();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("*;q=0")).isFalse();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(MockEmployeeResponseCache.acceptsGzip("*;q=0, gzip")).isTrue();
+    }
+
+    private static String json(MockEmployeeResponseCache.Entry entry) {
+        return new String(entry.json(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "someone@company.com");
+    }
+}
@@ -0,0 +1,145 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeRosterTest {
+
+    private static final int CHUNK = MockEmployeeRoster.CHUNK_SIZE;
+
+    @Test
+    @DisplayName("every write publishes the next version; a taken snapshot never changes")
+    void writesPublishVersions() {
+        final var seed = employees("seed", CHUNK + 3);
+        final var roster = new MockEmployeeRoster(seed);
+        final var before = roster.snapshot();
+
+        final var added = employee("added");
+        final var afterAdd = roster.add(added);
+        final var afterRemove = roster.removeFirst(employee -> employee.getName().equals("seed-0"));
+        final var afterAll = roster.addAll(employees("bulk", 2 * CHUNK));
+
+        assertThat(before.version()).isZero();
+        assertThat(afterAdd.version()).isEqualTo(1);
+        assertThat(afterRemove).contains(seed.get(0));
+        assertThat(afterAll.version()).isEqualTo(3);
+        assertThat(roster.snapshot()).isSameAs(afterAll);
+
+        assertThat(before.size()).isEqualTo(CHUNK + 3);
+        assertThat(before.employees()).containsExactlyElementsOf(seed);
+        assertThat(afterAdd.employees()).endsWith(added).hasSize(CHUNK + 4);
+        assertThat(afterAll.size()).isEqualTo(CHUNK + 3 + 2 * CHUNK);
+    }
+
+    @Test
+    @DisplayName("an empty addAll or a remove that matches nothing publishes no version")
+    void noOpWritesKeepVersion() {
+        final var roster = new MockEmployeeRoster(employees("seed", 3));
+        final var before = roster.snapshot();
+
+        assertThat(roster.addAll(List.of())).isSameAs(before);
+        assertThat(roster.removeFirst(employee -> false)).isEmpty();
+        assertThat(roster.snapshot()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("the chunked view keeps insertion order across chunk boundaries and emptied chunks")
+    void chunkedViewOrder() {
+        final var seed = employees("seed", 2 * CHUNK + 1);
+        final var roster = new MockEmployeeRoster(seed);
+        final var expected = new ArrayList<>(seed);
+
+        // empties the last chunk (a single employee), then shrinks the first and tops up the new last chunk
+        roster.removeFirst(employee -> employee == seed.get(2 * CHUNK));
+        expected.remove(2 * CHUNK);
+        roster.removeFirst(employee -> employee == seed.get(5));
+        expected.remove(5);
+        final var bulk = employees("bulk", CHUNK + 2);
+        roster.addAll(bulk);
+        expected.addAll(bulk);
+
+        final var employees = roster.snapshot().employees();
+        assertThat(employees).containsExactlyElementsOf(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(employees.get(i)).isSameAs(expected.get(i));
+        }
+        assertThatThrownBy(() -> employees.get(expected.size())).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> employees.add(employee("x"))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("removals merge shrunk chunks into their neighbours, and ranges read across the merged chunks")
+    void removalsMergeChunks() {
+        final var seed = employees("seed", 10 * CHUNK);
+        final var roster = new MockEmployeeRoster(seed);
+        final var expected = new ArrayList<MockEmployee>();
+
+        for (int i = 0; i < seed.size(); i++) {
+            final var employee = seed.get(i);
+            if (i % 8 == 0) {
+                expected.add(employee);
+            } else {
+                roster.removeFirst(candidate -> candidate == employee);
+            }
+        }
+
+        final var snapshot = roster.snapshot();
+        final var employees = snapshot.employees();
+        assertThat(snapshot.chunkCount()).isLessThanOrEqualTo(2 * expected.size() / CHUNK + 1);
+        assertThat(employees).containsExactlyElementsOf(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(employees.get(i)).isSameAs(expected.get(i));
+        }
+        assertThat(List.copyOf(employees.subList(5, 75))).containsExactlyElementsOf(expected.subList(5, 75));
+        assertThat(employees.subList(5, 75).subList(60, 70)).containsExactlyElementsOf(expected.subList(65, 75));
+        assertThat(employees.subList(30, 30)).isEmpty();
+        assertThat(employees.subList(70, 80).get(9)).isSameAs(expected.get(79));
+        assertThatThrownBy(() -> employees.subList(70, 81)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> employees.subList(70, 80).get(10)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("a roster that starts empty grows through single adds")
+    void emptyRoster() {
+        final var roster = new MockEmployeeRoster(List.of());
+        final var added = employees("added", CHUNK + 1);
+
+        added.forEach(roster::add);
+
+        assertThat(roster.snapshot().version()).isEqualTo(CHUNK + 1);
+        assertThat(roster.snapshot().employees()).containsExactlyElementsOf(added);
+    }
+
+    @Test
+    @DisplayName("writes keep the secondary indexes in step with the latest version")
+    void indexesFollowWrites() {
+        final var seed = employees("seed", 4);
+        final var roster = new MockEmployeeRoster(seed);
+
+        roster.removeFirst(employee -> employee == seed.get(1));
+        final var added = employee("added");
+        roster.add(added);
+
+        final var bySalary = roster.salaryIndex().range(0, Integer.MAX_VALUE, null, 100).employees();
+        assertThat(bySalary).hasSize(4).contains(added).doesNotContain(seed.get(1));
+        assertThat(roster.searchIndex().search("seed", 100)).hasSize(3);
+    }
+
+    static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", name + "@company.com");
+    }
+
+    static List<MockEmployee> employees(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> employee(prefix + "-" + i))
+                .toList();
+    }
+}
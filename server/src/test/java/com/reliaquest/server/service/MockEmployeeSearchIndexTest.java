@@ -0,0 +1,117 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeSearchIndexTest {
+
+    private final MockEmployeeSearchIndex index = new MockEmployeeSearchIndex();
+
+    @Test
+    @DisplayName("every term matches as a case-insensitive prefix of a name, title or email token")
+    void prefixMatch() {
+        final var ann = employee("Ann Lee", "Software Engineer", "ann.lee@company.com");
+        final var anna = employee("Anna Park", "Accountant", "anna.park@example.org");
+        final var bo = employee("Bo Chan", "Engineering Manager", "bo.chan@company.com");
+        index.addAll(List.of(ann, anna, bo));
+
+        assertThat(index.search("AN", 10)).containsExactlyInAnyOrder(ann, anna);
+        assertThat(index.search("ann", 10)).containsExactlyInAnyOrder(ann, anna);
+        assertThat(index.search("engin", 10)).containsExactlyInAnyOrder(ann, bo);
+        assertThat(index.search("park", 10)).containsExactly(anna);
+        assertThat(index.search("nn", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a match must satisfy all terms, in any order")
+    void allTermsRequired() {
+        final var ann = employee("Ann Lee", "Software Engineer", "ann.lee@company.com");
+        final var bo = employee("Bo Lee", "Accountant", "bo.lee@company.com");
+        index.addAll(List.of(ann, bo));
+
+        assertThat(index.search("lee", 10)).containsExactlyInAnyOrder(ann, bo);
+        assertThat(index.search("lee soft", 10)).containsExactly(ann);
+        assertThat(index.search("soft lee", 10)).containsExactly(ann);
+        assertThat(index.search("lee zed", 10)).isEmpty();
+        assertThat(index.search("   ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("an email domain is searchable whole, with or without the @")
+    void domainTerms() {
+        final var ann = employee("Ann Lee", "Engineer", "ann.lee@company.com");
+        final var anna = employee("Anna Park", "Engineer", "anna.park@example.org");
+        index.addAll(List.of(ann, anna));
+
+        assertThat(index.search("company.com", 10)).containsExactly(ann);
+        assertThat(index.search("@example.o", 10)).containsExactly(anna);
+        assertThat(index.search("ann example.org", 10)).containsExactly(anna);
+    }
+
+    @Test
+    @DisplayName("an employee matching a prefix through several tokens is returned once; results stop at the limit")
+    void dedupAndLimit() {
+        final var nix = employee("Nix Nixon", "Nixie Tube Engineer", "nix.nixon@company.com");
+        index.add(nix);
+        for (int i = 0; i < 20; i++) {
+            index.add(employee("Eng " + i, "Engineer", "eng" + i + "@company.com"));
+        }
+
+        assertThat(index.search("nix", 10)).containsExactly(nix);
+        assertThat(index.search("eng", 5)).hasSize(5);
+        assertThat(index.search("eng", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a removed employee is no longer found, and adding the same id twice indexes it once")
+    void removeAndDuplicates() {
+        final var ann = employee("Ann Lee", "Engineer", "ann.lee@company.com");
+        final var bo = employee("Bo Lee", "Engineer", "bo.lee@company.com");
+        index.add(ann);
+        index.add(ann);
+        index.add(bo);
+
+        index.remove(ann);
+        index.remove(ann);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("lee", 10)).containsExactly(bo);
+        assertThat(index.search("ann", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("postings are compacted once tombstones outnumber live employees, without changing results")
+    void compaction() {
+        final var employees = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 2_100; i++) {
+            employees.add(employee("Person " + i, i % 2 == 0 ? "Engineer" : "Manager", "p" + i + "@company.com"));
+        }
+        index.addAll(employees);
+
+        // enough removals to cross the compaction threshold part way through
+        for (int i = 0; i < 1_100; i++) {
+            index.remove(employees.get(i));
+        }
+        final var added = employee("Late Arrival", "Engineer", "late@company.com");
+        index.add(added);
+
+        assertThat(index.size()).isEqualTo(1_001);
+        assertThat(index.search("person", 5_000))
+                .hasSize(1_000)
+                .doesNotContainAnyElementsOf(employees.subList(0, 1_100));
+        assertThat(index.search("engineer", 5_000)).hasSize(501).contains(added);
+        assertThat(index.search("p1099", 10)).isEmpty();
+        assertThat(index.search("p1100", 10)).containsExactly(employees.get(1_100));
+    }
+
+    private static MockEmployee employee(String name, String title, String email) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, title, email);
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.web.MockEmployeeJsonModule;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeVirtualDatasetTest {
+
+    private static final long ROWS = 20_000;
+
+    private final MockEmployeeRoster overlay = new MockEmployeeRoster(List.of());
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new MockEmployeeJsonModule());
+    private final MockEmployeeVirtualDataset dataset = new MockEmployeeVirtualDataset(ROWS, 7, overlay, objectMapper);
+
+    @Test
+    @DisplayName("every row's id maps back to that row, and the same seed gives the same rows")
+    void idMapsToRow() {
+        final var again = new MockEmployeeVirtualDataset(ROWS, 7, overlay, objectMapper);
+        for (final long index : new long[] {0, 1, 4_321, ROWS - 1}) {
+            final var row = dataset.row(index);
+            assertThat(dataset.findById(row.getId())).contains(row);
+            assertThat(again.row(index)).isEqualTo(row);
+        }
+        final var three = dataset.row(3).getId();
+        assertThat(dataset.findByIds(List.of(three, three, dataset.row(9).getId())))
+                .containsExactly(dataset.row(3), dataset.row(9));
+    }
+
+    @Test
+    @DisplayName("ids the dataset never produced, or produced under another seed, are not found")
+    void foreignIdsNotFound() {
+        final var id = dataset.row(42).getId();
+        final var otherSeed = new MockEmployeeVirtualDataset(ROWS, 8, overlay, objectMapper);
+
+        assertThat(dataset.findById(UUID.randomUUID())).isEmpty();
+        assertThat(dataset.findById(new UUID(id.getMostSignificantBits() ^ 1, id.getLeastSignificantBits())))
+                .isEmpty();
+        assertThat(otherSeed.findById(id)).isEmpty();
+        assertThatThrownBy(() -> dataset.row(ROWS)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("a delete removes the requested id, not another row with the same name")
+    void removeById_removesRequestedRow() {
+        final var namesake = namesakes();
+        final var kept = namesake[0];
+        final var requested = namesake[1];
+        final var service = new MockEmployeeService(new Faker(Locale.ROOT), overlay, Optional.of(dataset));
+
+        assertThat(service.delete(delete(requested.getName(), requested.getId()))).isTrue();
+
+        assertThat(dataset.findById(requested.getId())).isEmpty();
+        assertThat(dataset.findById(kept.getId())).contains(kept);
+        assertThat(dataset.size()).isEqualTo(ROWS - 1);
+        assertThat(service.delete(delete(requested.getName(), requested.getId()))).isFalse();
+        // the id must belong to that name
+        assertThat(dataset.remove(kept.getId(), "Someone Else")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a delete by name alone is refused on the virtual dataset")
+    void removeByNameAlone_unsupported() {
+        final var service = new MockEmployeeService(new Faker(Locale.ROOT), overlay, Optional.of(dataset));
+
+        assertThatThrownBy(() -> service.delete(delete(dataset.row(0).getName(), null)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(dataset.size()).isEqualTo(ROWS);
+    }
+
+    /*
+     * Two rows with the same generated name: 20,000 rows over 512 x 512 name pairs always collide somewhere.
+     */
+    private MockEmployee[] namesakes() {
+        final var seen = new HashMap<String, MockEmployee>();
+        for (long index = 0; index < ROWS; index++) {
+            final var row = dataset.row(index);
+            final var earlier = seen.putIfAbsent(row.getName().toLowerCase(Locale.ROOT), row);
+            if (earlier != null) {
+                return new MockEmployee[] {earlier, row};
+            }
+        }
+        throw new AssertionError("no repeated name in " + ROWS + " rows");
+    }
+
+    private static DeleteMockEmployeeInput delete(String name, UUID id) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        input.setId(id);
+        return input;
+    }
+}
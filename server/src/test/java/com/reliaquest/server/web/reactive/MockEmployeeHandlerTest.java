@@ -0,0 +1,256 @@
+package com.reliaquest.server.web.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/*
+ * Drives the functional routes on Reactor Netty end to end; the random rate limit is off so no request gets 429.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "mock.rate-limit.enabled=false")
+@ActiveProfiles("reactive")
+class MockEmployeeHandlerTest {
+
+    private static final String BASE_PATH = "/api/v1/employee";
+    private static final String HANDLED = Response.Status.HANDLED.getValue();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("GET / serves the body rebuilt after a write, identity or gzip as accepted")
+    void getEmployees() throws IOException {
+        create("Roster Body Probe", 50_000, 40);
+
+        webTestClient
+                .get()
+                .uri(BASE_PATH)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .doesNotExist(HttpHeaders.CONTENT_ENCODING)
+                .expectBody()
+                .jsonPath("$.data[*].employee_name")
+                .value(hasItem("Roster Body Probe"));
+
+        final var gzipped = webTestClient
+                .get()
+                .uri(BASE_PATH)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .expectBody()
+                .returnResult()
+                .getResponseBody();
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"Roster Body Probe\"");
+        }
+    }
+
+    @Test
+    @DisplayName("/salary pages the salary range with bounds, limit and cursor in their declared roles")
+    void salaryRange() {
+        create("Salary Range Probe", 12_345, 40);
+
+        webTestClient
+                .get()
+                .uri(BASE_PATH + "/salary?min=12345&max=12345")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.status")
+                .isEqualTo(HANDLED)
+                .jsonPath("$.data.employees.length()")
+                .isEqualTo(1)
+                .jsonPath("$.data.employees[0].employee_name")
+                .isEqualTo("Salary Range Probe")
+                .jsonPath("$.data.nextCursor")
+                .doesNotExist();
+
+        final var first = webTestClient
+                .get()
+                .uri(BASE_PATH + "/salary?min=30000&max=500000&limit=10")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.employees.length()")
+                .isEqualTo(10)
+                .jsonPath("$.data.employees[*].employee_salary")
+                .value(everyItem(both(greaterThanOrEqualTo(30_000)).and(lessThanOrEqualTo(500_000))))
+                .jsonPath("$.data.nextCursor")
+                .isNotEmpty()
+                .returnResult()
+                .getResponseBody();
+        final var cursor = nextCursor(first);
+
+        webTestClient
+                .get()
+                .uri(uri -> uri.path(BASE_PATH + "/salary")
+                        .queryParam("min", 30_000)
+                        .queryParam("max", 500_000)
+                        .queryParam("limit", 10)
+                        .queryParam("cursor", cursor)
+                        .build())
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.employees[0].employee_salary")
+                .value(greaterThanOrEqualTo(30_000));
+        webTestClient
+                .get()
+                .uri(BASE_PATH + "/salary?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+    }
+
+    @Test
+    @DisplayName("/age returns the employees in the age range")
+    void ageRange() {
+        create("Age Range Probe", 50_000, 75);
+
+        webTestClient
+                .get()
+                .uri(BASE_PATH + "/age?min=75&max=75&limit=1000")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.status")
+                .isEqualTo(HANDLED)
+                .jsonPath("$.data.employees[*].employee_age")
+                .value(everyItem(both(greaterThanOrEqualTo(75)).and(lessThanOrEqualTo(75))))
+                .jsonPath("$.data.employees[*].employee_name")
+                .value(hasItem("Age Range Probe"));
+    }
+
+    @Test
+    @DisplayName("/search finds an employee by a name prefix, and a missing q is an error")
+    void search() {
+        create("Quintessa Varnham", 50_000, 40);
+
+        webTestClient
+                .get()
+                .uri(BASE_PATH + "/search?q=quintes")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data[*].employee_name")
+                .value(hasItem("Quintessa Varnham"));
+        webTestClient
+                .get()
+                .uri(BASE_PATH + "/search")
+                .exchange()
+                .expectStatus()
+                .is5xxServerError();
+    }
+
+    @Test
+    @DisplayName("/merkle returns the tree shape and root hash, and the root changes with a write")
+    void merkleRoot() {
+        final var before = webTestClient
+                .get()
+                .uri(BASE_PATH + "/merkle")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.fanout")
+                .isNumber()
+                .jsonPath("$.data.depth")
+                .isNumber()
+                .jsonPath("$.data.hash")
+                .isNotEmpty()
+                .returnResult()
+                .getResponseBody();
+
+        create("Merkle Probe", 50_000, 40);
+
+        final var after = webTestClient
+                .get()
+                .uri(BASE_PATH + "/merkle")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .returnResult()
+                .getResponseBody();
+        assertThat(new String(after, StandardCharsets.UTF_8)).isNotEqualTo(new String(before, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("/export streams the roster as NDJSON, one employee per line")
+    void export() {
+        create("Export Probe", 50_000, 40);
+
+        final var body = webTestClient
+                .get()
+                .uri(BASE_PATH + "/export")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(MediaType.parseMediaType(MockEmployeeController.NDJSON_VALUE))
+                .expectHeader()
+                .value(HttpHeaders.CONTENT_DISPOSITION, disposition -> assertThat(disposition)
+                        .startsWith("attachment"))
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body.lines()).isNotEmpty().allSatisfy(line -> assertThat(line)
+                .startsWith("{")
+                .contains("\"employee_name\""));
+        assertThat(body).contains("\"Export Probe\"");
+    }
+
+    private void create(String name, int salary, int age) {
+        webTestClient
+                .post()
+                .uri(BASE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", name, "salary", salary, "age", age, "title", "Engineer"))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.data.employee_name")
+                .isEqualTo(name);
+    }
+
+    private static String nextCursor(byte[] body) {
+        final var json = new String(body, StandardCharsets.UTF_8);
+        final var key = "\"nextCursor\":\"";
+        final int start = json.indexOf(key) + key.length();
+        return json.substring(start, json.indexOf('"', start));
+    }
+}